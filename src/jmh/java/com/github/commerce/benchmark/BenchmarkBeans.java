@@ -0,0 +1,47 @@
+package com.github.commerce.benchmark;
+
+import org.mockito.Mockito;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+
+/**
+ * 벤치마크 대상 서비스 생성.
+ * 생성자 파라미터 중 dependencies 로 넘긴 객체와 타입이 맞는 것은 그 객체를, 나머지는 Mockito mock 을 넣습니다.
+ * (서비스에 의존성이 추가되어도 위치 기반 null 인자처럼 벤치마크 컴파일이 깨지지 않음)
+ */
+public final class BenchmarkBeans {
+
+    private BenchmarkBeans() {
+    }
+
+    public static <T> T create(Class<T> type, Object... dependencies) {
+        Constructor<?>[] constructors = type.getConstructors();
+        if (constructors.length != 1) {
+            throw new IllegalArgumentException(type.getName() + " 의 public 생성자가 하나가 아닙니다.");
+        }
+        Constructor<?> constructor = constructors[0];
+        Class<?>[] parameterTypes = constructor.getParameterTypes();
+        Object[] args = new Object[parameterTypes.length];
+        for (int i = 0; i < parameterTypes.length; i++) {
+            args[i] = resolve(parameterTypes[i], dependencies);
+        }
+        try {
+            return type.cast(constructor.newInstance(args));
+        } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException(type.getName() + " 생성 실패", e);
+        }
+    }
+
+    private static Object resolve(Class<?> parameterType, Object[] dependencies) {
+        for (Object dependency : dependencies) {
+            if (parameterType.isInstance(dependency)) {
+                return dependency;
+            }
+        }
+        if (parameterType.isPrimitive()) {
+            throw new IllegalArgumentException("primitive 파라미터(" + parameterType + ")는 직접 넘겨야 합니다.");
+        }
+        return Mockito.mock(parameterType);
+    }
+}
@@ -0,0 +1,145 @@
+package com.github.commerce.benchmark;
+
+import com.github.commerce.entity.Product;
+import com.github.commerce.entity.Seller;
+import com.github.commerce.entity.User;
+import com.github.commerce.entity.UserRoleEnum;
+import org.h2.jdbcx.JdbcDataSource;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.TransactionManager;
+import org.springframework.transaction.annotation.AnnotationTransactionAttributeSource;
+import org.springframework.transaction.interceptor.TransactionInterceptor;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.Properties;
+
+/**
+ * 매크로 벤치마크용 in-memory H2 (MySQL 모드).
+ * 애플리케이션 전체(Mongo, RabbitMQ, S3)를 띄우지 않고 엔티티와 Spring Data repository 만 구성합니다.
+ */
+public class BenchmarkDatabase implements AutoCloseable {
+
+    private static final String[] WORDS = {"셔츠", "니트", "청바지", "원피스", "코트", "자켓", "스커트", "후드"};
+    private static final String[] AGE_CATEGORIES = {"10", "20", "30"};
+    private static final String[] GENDER_CATEGORIES = {"FEMALE", "MALE"};
+
+    private final LocalContainerEntityManagerFactoryBean factoryBean;
+    private final EntityManagerFactory entityManagerFactory;
+    private final EntityManager sharedEntityManager;
+    private final JpaRepositoryFactory repositoryFactory;
+
+    public BenchmarkDatabase(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+
+        Properties properties = new Properties();
+        properties.put("hibernate.hbm2ddl.auto", "create");
+        properties.put("hibernate.dialect", "org.hibernate.dialect.H2Dialect");
+
+        factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(dataSource);
+        factoryBean.setPackagesToScan("com.github.commerce.entity");
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.setJpaProperties(properties);
+        factoryBean.afterPropertiesSet();
+
+        entityManagerFactory = factoryBean.getObject();
+        sharedEntityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory);
+        repositoryFactory = new JpaRepositoryFactory(sharedEntityManager);
+    }
+
+    public <T> T getRepository(Class<T> repositoryInterface) {
+        return repositoryFactory.getRepository(repositoryInterface);
+    }
+
+    // repository 에 없는 (이전 방식) 쿼리용, getTransactionTemplate 의 트랜잭션에 참여
+    public EntityManager getEntityManager() {
+        return sharedEntityManager;
+    }
+
+    // 판매자 sellerCount 명, 판매자마다 상품 productsPerSeller 개
+    public void seedProducts(int sellerCount, int productsPerSeller) {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        entityManager.getTransaction().begin();
+        LocalDateTime now = LocalDateTime.now();
+        int index = 0;
+        for (int s = 0; s < sellerCount; s++) {
+            User user = User.builder()
+                    .email("seller" + s + "@bench.com")
+                    .userName("판매자" + s)
+                    .role(UserRoleEnum.SELLER)
+                    .isDelete(false)
+                    .createdAt(now)
+                    .build();
+            entityManager.persist(user);
+            Seller seller = Seller.builder().users(user).shopName("샵" + s).build();
+            entityManager.persist(seller);
+
+            for (int p = 0; p < productsPerSeller; p++, index++) {
+                entityManager.persist(Product.builder()
+                        .seller(seller)
+                        .name(WORDS[index % WORDS.length] + " " + index)
+                        .price(10000 + (index * 37) % 90000)
+                        .leftAmount(100)
+                        .thumbnailUrl("https://bucket/" + index + ".png")
+                        .productCategory("상의")
+                        .ageCategory(AGE_CATEGORIES[index % AGE_CATEGORIES.length])
+                        .genderCategory(GENDER_CATEGORIES[index % GENDER_CATEGORIES.length])
+                        .isDeleted(false)
+                        .createdAt(now.minusMinutes(index))
+                        .build());
+            }
+            entityManager.flush();
+            entityManager.clear();
+        }
+        entityManager.getTransaction().commit();
+        entityManager.close();
+    }
+
+    // 일반 회원 count 명, 모두 같은 (인코딩된) 비밀번호
+    public void seedUsers(int count, String encodedPassword) {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        entityManager.getTransaction().begin();
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < count; i++) {
+            entityManager.persist(User.builder()
+                    .email("user" + i + "@bench.com")
+                    .password(encodedPassword)
+                    .userName("회원" + i)
+                    .role(UserRoleEnum.USER)
+                    .isDelete(false)
+                    .createdAt(now)
+                    .build());
+        }
+        entityManager.getTransaction().commit();
+        entityManager.close();
+    }
+
+    // repository 쓰기는 트랜잭션 안에서 실행해야 함
+    public TransactionTemplate getTransactionTemplate() {
+        return new TransactionTemplate(new JpaTransactionManager(entityManagerFactory));
+    }
+
+    // 서비스의 @Transactional 경계를 그대로 적용한 프록시 (애플리케이션의 트랜잭션 AOP 대신)
+    @SuppressWarnings("unchecked")
+    public <T> T transactional(T target) {
+        ProxyFactory proxyFactory = new ProxyFactory(target);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvice(new TransactionInterceptor(
+                (TransactionManager) new JpaTransactionManager(entityManagerFactory), new AnnotationTransactionAttributeSource()));
+        return (T) proxyFactory.getProxy();
+    }
+
+    @Override
+    public void close() {
+        factoryBean.destroy();
+    }
+}
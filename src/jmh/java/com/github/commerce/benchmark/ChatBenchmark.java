@@ -0,0 +1,77 @@
+package com.github.commerce.benchmark;
+
+import com.github.commerce.entity.collection.Chat;
+import com.github.commerce.repository.chat.ChatRepository;
+import com.github.commerce.service.chat.ChatService;
+import com.github.commerce.web.dto.chat.ChatDto;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채팅방 메시지 정렬(ChatService.getChatRoom)과 마지막 메시지 찾기(ChatDto.getLastChat, fromEntityList 경유).
+ * MongoDB 대신 항상 같은 채팅방을 돌려주는 ChatRepository stub 을 사용합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ChatBenchmark {
+
+    @Param({"50", "1000"})
+    private int messageCount;
+
+    private Map<String, Map<String, String>> chats;
+    private Chat chat;
+    private ChatService chatService;
+
+    @Setup
+    public void setUp() {
+        // Mongo 에서 읽은 것처럼 순서가 섞인 HashMap
+        chats = new HashMap<>();
+        LocalDateTime start = LocalDateTime.of(2023, 9, 1, 12, 0, 0);
+        for (int i = 0; i < messageCount; i++) {
+            Map<String, String> message = new HashMap<>();
+            message.put("sender", i % 2 == 0 ? "user" : "seller");
+            message.put("message", "메시지 " + i);
+            chats.put(start.plusSeconds(i) + ".000000-" + i, message);
+        }
+        chat = newChat();
+
+        ChatRepository chatRepository = (ChatRepository) Proxy.newProxyInstance(
+                ChatRepository.class.getClassLoader(),
+                new Class<?>[]{ChatRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findByCustomRoomId")) {
+                        return Optional.of(newChat());
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        chatService = BenchmarkBeans.create(ChatService.class, chatRepository);
+    }
+
+    private Chat newChat() {
+        return Chat.builder()
+                .chatId("chat")
+                .customRoomId("room")
+                .sellerId(1L)
+                .productId(1L)
+                .userId(1L)
+                .shopName("벤치마크샵")
+                .userName("구매자")
+                .chats(chats)
+                .build();
+    }
+
+    @Benchmark
+    public ChatDto getChatRoom() {
+        return chatService.getChatRoom("room");
+    }
+
+    @Benchmark
+    public ChatDto getLastChat() {
+        return ChatDto.fromEntityList(chat, "image", "상품");
+    }
+}
@@ -0,0 +1,76 @@
+package com.github.commerce.benchmark;
+
+import com.github.commerce.entity.Order;
+import com.github.commerce.entity.Product;
+import com.github.commerce.entity.Seller;
+import com.github.commerce.web.dto.order.OrderDto;
+import com.github.commerce.web.dto.product.GetProductDto;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 목록 API 응답 변환 비용 (GetProductDto 생성자, OrderDto.fromEntity).
+ * size 는 한 페이지에 변환하는 건수입니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DtoMappingBenchmark {
+
+    @Param({"15", "100"})
+    private int size;
+
+    private List<Order> orders;
+    private String thumbnailUrls;
+
+    @Setup
+    public void setUp() {
+        Seller seller = Seller.builder().id(1L).shopName("벤치마크샵").build();
+        thumbnailUrls = "https://bucket.s3.ap-northeast-2.amazonaws.com/1.png,"
+                + "https://bucket.s3.ap-northeast-2.amazonaws.com/2.png,"
+                + "https://bucket.s3.ap-northeast-2.amazonaws.com/3.png";
+
+        orders = new ArrayList<>();
+        for (long i = 1; i <= size; i++) {
+            Product product = Product.builder()
+                    .id(i)
+                    .seller(seller)
+                    .name("상품" + i)
+                    .price(10000)
+                    .leftAmount(100)
+                    .thumbnailUrl(thumbnailUrls)
+                    .createdAt(LocalDateTime.now())
+                    .build();
+            orders.add(Order.builder()
+                    .id(i)
+                    .products(product)
+                    .sellers(seller)
+                    .quantity(2)
+                    .totalPrice(20000L)
+                    .orderState((int) (i % 6) + 1)
+                    .options("[\"블랙\",\"L\"]")
+                    .createdAt(LocalDateTime.now())
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public void getProductDto(Blackhole blackhole) {
+        LocalDateTime now = LocalDateTime.now();
+        for (long i = 0; i < size; i++) {
+            blackhole.consume(new GetProductDto(i, "상품", 10000, now, "상의", "20", "FEMALE", 100, thumbnailUrls, "벤치마크샵"));
+        }
+    }
+
+    @Benchmark
+    public void orderDtoFromEntity(Blackhole blackhole) {
+        for (Order order : orders) {
+            blackhole.consume(OrderDto.fromEntity(order));
+        }
+    }
+}
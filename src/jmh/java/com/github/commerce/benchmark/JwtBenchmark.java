@@ -0,0 +1,52 @@
+package com.github.commerce.benchmark;
+
+import com.github.commerce.config.security.JwtUtil;
+import com.github.commerce.entity.UserRoleEnum;
+import com.github.commerce.repository.user.UserDetailsImpl;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Field;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 JwtAuthorizationFilter 가 하는 일: 서명 검증 + claim 파싱 + 인증 정보 생성.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtBenchmark {
+
+    private JwtUtil jwtUtil;
+    private String accessToken;
+    private Claims claims;
+
+    @Setup
+    public void setUp() throws Exception {
+        jwtUtil = new JwtUtil();
+        Field secretKey = JwtUtil.class.getDeclaredField("secretKey");
+        secretKey.setAccessible(true);
+        secretKey.set(jwtUtil, Base64.getEncoder().encodeToString(new byte[32]));
+        jwtUtil.init();
+
+        UserDetailsImpl principal = new UserDetailsImpl(1L, "bench@test.com", "벤치마크", UserRoleEnum.SELLER, 1L, 0);
+        accessToken = jwtUtil.createToken(principal, "Access").substring(JwtUtil.BEARER_PREFIX.length());
+        claims = jwtUtil.parseClaims(accessToken);
+    }
+
+    @Benchmark
+    public Claims parseClaims() {
+        return jwtUtil.parseClaims(accessToken);
+    }
+
+    @Benchmark
+    public UserDetailsImpl parseAndBuildPrincipal() {
+        return jwtUtil.getPrincipalFromClaims(jwtUtil.parseClaims(accessToken));
+    }
+
+    @Benchmark
+    public UserDetailsImpl buildPrincipal() {
+        return jwtUtil.getPrincipalFromClaims(claims);
+    }
+}
@@ -0,0 +1,135 @@
+package com.github.commerce.benchmark;
+
+import com.github.commerce.config.security.JwtUtil;
+import com.github.commerce.entity.RefreshToken;
+import com.github.commerce.entity.User;
+import com.github.commerce.repository.user.RefreshTokenRepository;
+import com.github.commerce.repository.user.UserDetailsImpl;
+import com.github.commerce.repository.user.UserRepository;
+import com.github.commerce.service.user.RefreshTokenService;
+import com.github.commerce.service.user.UserDetailsServiceImpl;
+import com.github.commerce.service.user.UserService;
+import com.github.commerce.service.user.util.PasswordVerifier;
+import com.github.commerce.web.dto.user.LoginRequestDto;
+import com.github.commerce.web.dto.user.TokenDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.lang.reflect.Field;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 로그인 처리량 (logins/s). 기본 @Threads(1) 이라 코어 하나당 처리량이며, -t 로 스레드 수를 늘려 비교합니다.
+ * - authenticationManagerLogin: 이전 방식, 전체가 한 트랜잭션 (AuthenticationManager 로 사용자 조회 + BCrypt, 사용자 재조회,
+ *   access/refresh 토큰 생성, 이메일로 리프레시 토큰 행 조회(인덱스 없음) 후 UPDATE, 없으면 INSERT)
+ * - pipelinedLogin: UserService.login 그대로 호출 (트랜잭션 없이 사용자 조회 1번, PasswordVerifier 풀에서 BCrypt,
+ *   RefreshTokenService.issue 의 트랜잭션에서 토큰 INSERT)
+ * BCrypt 가 대부분을 차지하므로 코어당 처리량 차이는 DB 왕복 1번 정도이고,
+ * 풀의 효과(코어 수 제한 / 대기열 초과 시 거절)는 스레드 수를 코어 수보다 크게 했을 때의 지연으로 확인합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(1)
+public class LoginBenchmark {
+
+    private static final int USER_COUNT = 1000;
+    private static final String PASSWORD = "password1234";
+
+    private BenchmarkDatabase database;
+    private TransactionTemplate transactionTemplate;
+    private EntityManager entityManager;
+    private JwtUtil jwtUtil;
+    private UserRepository userRepository;
+    private DaoAuthenticationProvider authenticationProvider;
+    private PasswordVerifier passwordVerifier;
+    private UserService userService;
+    private final AtomicInteger sequence = new AtomicInteger();
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
+        database = new BenchmarkDatabase("login");
+        database.seedUsers(USER_COUNT, passwordEncoder.encode(PASSWORD));
+        transactionTemplate = database.getTransactionTemplate();
+        entityManager = database.getEntityManager();
+        userRepository = database.getRepository(UserRepository.class);
+
+        jwtUtil = new JwtUtil();
+        Field secretKey = JwtUtil.class.getDeclaredField("secretKey");
+        secretKey.setAccessible(true);
+        secretKey.set(jwtUtil, Base64.getEncoder().encodeToString(new byte[32]));
+        jwtUtil.init();
+        RefreshTokenService refreshTokenService = new RefreshTokenService(database.getRepository(RefreshTokenRepository.class), jwtUtil);
+
+        authenticationProvider = new DaoAuthenticationProvider();
+        authenticationProvider.setUserDetailsService(new UserDetailsServiceImpl(userRepository));
+        authenticationProvider.setPasswordEncoder(passwordEncoder);
+
+        passwordVerifier = new PasswordVerifier(passwordEncoder, new SimpleMeterRegistry(),
+                Runtime.getRuntime().availableProcessors(), 1024, 60 * 1000L);
+        userService = BenchmarkBeans.create(UserService.class,
+                userRepository, passwordVerifier, database.transactional(refreshTokenService));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        passwordVerifier.destroy();
+        database.close();
+    }
+
+    // 이전 UserService.login 재현, 이메일당 리프레시 토큰 한 행을 갱신하던 방식 (RefreshTokenService 미사용)
+    @Benchmark
+    public TokenDto authenticationManagerLogin() {
+        String email = nextEmail();
+        return transactionTemplate.execute(status -> {
+            authenticationProvider.authenticate(new UsernamePasswordAuthenticationToken(email, PASSWORD));
+            User user = userRepository.findUserByEmail(email);
+
+            UserDetailsImpl principal = new UserDetailsImpl(user);
+            Date expiration = jwtUtil.getRefreshTokenExpiration();
+            String tokenId = UUID.randomUUID().toString();
+            TokenDto tokenDto = new TokenDto(jwtUtil.createToken(principal, "Access"),
+                    jwtUtil.createRefreshToken(principal, tokenId, tokenId, expiration));
+
+            Optional<RefreshToken> refreshToken = entityManager
+                    .createQuery("SELECT r FROM RefreshToken r WHERE r.email = :email", RefreshToken.class)
+                    .setParameter("email", email)
+                    .getResultStream()
+                    .findFirst();
+            if (refreshToken.isPresent()) {
+                refreshToken.get().setTokenId(tokenId);
+            } else {
+                entityManager.persist(RefreshToken.builder()
+                        .tokenId(tokenId)
+                        .email(email)
+                        .build());
+            }
+            return tokenDto;
+        });
+    }
+
+    @Benchmark
+    public TokenDto pipelinedLogin() {
+        LoginRequestDto loginRequestDto = new LoginRequestDto();
+        loginRequestDto.setEmail(nextEmail());
+        loginRequestDto.setPassword(PASSWORD);
+        return userService.login(loginRequestDto);
+    }
+
+    private String nextEmail() {
+        return "user" + Math.floorMod(sequence.getAndIncrement(), USER_COUNT) + "@bench.com";
+    }
+}
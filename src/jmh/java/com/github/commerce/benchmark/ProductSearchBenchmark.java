@@ -0,0 +1,52 @@
+package com.github.commerce.benchmark;
+
+import com.github.commerce.repository.product.ProductRepository;
+import com.github.commerce.service.product.ProductService;
+import com.github.commerce.web.dto.product.GetProductDto;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ProductService.searchProducts 매크로 벤치마크 (H2, 상품 productCount 개).
+ * 실제 MySQL 과 절대값은 다르므로 같은 환경에서의 이전 결과(기준값)와 비교하는 용도입니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ProductSearchBenchmark {
+
+    @Param({"10000"})
+    private int productCount;
+
+    @Param({"id", "price", "createdAt"})
+    private String sortBy;
+
+    private BenchmarkDatabase database;
+    private ProductService productService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        database = new BenchmarkDatabase("product_search");
+        database.seedProducts(100, productCount / 100);
+        productService = BenchmarkBeans.create(ProductService.class, database.getRepository(ProductRepository.class));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        database.close();
+    }
+
+    @Benchmark
+    public List<GetProductDto> searchAll() {
+        return productService.searchProducts(3, "", "all", "all", sortBy);
+    }
+
+    @Benchmark
+    public List<GetProductDto> searchWordWithCategory() {
+        return productService.searchProducts(1, "니트", "20", "FEMALE", sortBy);
+    }
+}
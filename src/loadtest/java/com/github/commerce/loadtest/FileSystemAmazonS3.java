@@ -0,0 +1,76 @@
+package com.github.commerce.loadtest;
+
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.PutObjectResult;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * AwsS3Service 가 쓰는 메서드(putObject / getUrl / doesObjectExist / deleteObject)만 구현한 S3 대역.
+ * 객체는 root/bucket/key 파일로 저장되고 URL 은 file: URL 입니다.
+ */
+@Slf4j
+@SuppressWarnings("deprecation")
+public class FileSystemAmazonS3 extends AmazonS3Client {
+
+    private final Path root;
+
+    public FileSystemAmazonS3(Path root) {
+        super();
+        this.root = root;
+    }
+
+    @Override
+    public PutObjectResult putObject(PutObjectRequest request) {
+        Path target = resolve(request.getBucketName(), request.getKey());
+        try {
+            Files.createDirectories(target.getParent());
+            if (request.getFile() != null) {
+                Files.copy(request.getFile().toPath(), target, StandardCopyOption.REPLACE_EXISTING);
+            } else {
+                try (InputStream inputStream = request.getInputStream()) {
+                    Files.copy(inputStream, target, StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new PutObjectResult();
+    }
+
+    @Override
+    public URL getUrl(String bucketName, String key) {
+        try {
+            return resolve(bucketName, key).toUri().toURL();
+        } catch (MalformedURLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public boolean doesObjectExist(String bucketName, String objectName) {
+        return Files.exists(resolve(bucketName, objectName));
+    }
+
+    @Override
+    public void deleteObject(String bucketName, String key) {
+        try {
+            Files.deleteIfExists(resolve(bucketName, key));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Path resolve(String bucketName, String key) {
+        return root.resolve(bucketName).resolve(key).normalize();
+    }
+}
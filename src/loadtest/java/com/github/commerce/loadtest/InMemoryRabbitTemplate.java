@@ -0,0 +1,55 @@
+package com.github.commerce.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * RabbitMQ 대신 쓰는 in-memory 대역.
+ * 발행된 메시지 수를 routing key 별로 세고, consumerDelayMillis 뒤에 LoadTestMessageConsumer 로 넘겨
+ * 외부 consumer 가 하던 DB 반영(장바구니/주문 생성)을 흉내냅니다.
+ */
+@Slf4j
+public class InMemoryRabbitTemplate extends RabbitTemplate {
+
+    private final LoadTestMessageConsumer consumer;
+    private final long consumerDelayMillis;
+    private final Map<String, LongAdder> publishedCounts = new ConcurrentHashMap<>();
+    // 한 consumer 가 순서대로 처리하는 것처럼 단일 스레드
+    private final ScheduledExecutorService consumerExecutor =
+            Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("loadtest-amqp-"));
+
+    public InMemoryRabbitTemplate(LoadTestMessageConsumer consumer, long consumerDelayMillis) {
+        this.consumer = consumer;
+        this.consumerDelayMillis = consumerDelayMillis;
+    }
+
+    @Override
+    public void convertAndSend(String exchange, String routingKey, Object object) {
+        publishedCounts.computeIfAbsent(routingKey, key -> new LongAdder()).increment();
+        consumerExecutor.schedule(() -> {
+            try {
+                consumer.consume(routingKey, object);
+            } catch (Exception e) {
+                log.warn("loadtest consumer 처리 실패 {} : {}", routingKey, e.getMessage());
+            }
+        }, consumerDelayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public Map<String, LongAdder> getPublishedCounts() {
+        return publishedCounts;
+    }
+
+    @Override
+    public void destroy() {
+        consumerExecutor.shutdownNow();
+        super.destroy();
+    }
+}
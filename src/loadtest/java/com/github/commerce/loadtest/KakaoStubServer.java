@@ -0,0 +1,123 @@
+package com.github.commerce.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 카카오 OAuth API 대역 (POST /oauth/token, POST /v2/user/me).
+ * 응답마다 latencyMillis 만큼 지연하고 failureRate 비율로 503 을 돌려줘서
+ * 느리거나 불안정한 카카오에서 요청 스레드 / circuit breaker 동작을 확인할 수 있습니다.
+ * 인가 코드 "code" 로 받은 토큰은 항상 같은 카카오 사용자(id = code 의 hash)로 응답합니다.
+ */
+@Slf4j
+public class KakaoStubServer {
+    private static final String TOKEN_PREFIX = "stub-";
+
+    private final int port;
+    private final long latencyMillis;
+    private final double failureRate;
+    private HttpServer server;
+    private ExecutorService executor;
+
+    public KakaoStubServer(int port, long latencyMillis, double failureRate) {
+        this.port = port;
+        this.latencyMillis = latencyMillis;
+        this.failureRate = failureRate;
+    }
+
+    public void start() throws IOException {
+        // 지연(sleep)이 다른 요청을 막지 않도록 요청마다 스레드
+        executor = Executors.newCachedThreadPool();
+        server = HttpServer.create(new InetSocketAddress("localhost", port), 0);
+        server.setExecutor(executor);
+        server.createContext("/oauth/token", exchange -> handle(exchange, () -> {
+            String code = formValue(readBody(exchange), "code");
+            if (code == null) {
+                return new Response(400, "{\"error\":\"invalid_grant\"}");
+            }
+            return new Response(200, "{\"access_token\":\"" + TOKEN_PREFIX + code + "\",\"token_type\":\"bearer\"}");
+        }));
+        server.createContext("/v2/user/me", exchange -> handle(exchange, () -> {
+            String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+            if (authorization == null || !authorization.startsWith("Bearer " + TOKEN_PREFIX)) {
+                return new Response(401, "{\"msg\":\"this access token does not exist\"}");
+            }
+            String code = authorization.substring(("Bearer " + TOKEN_PREFIX).length());
+            long id = Math.abs((long) code.hashCode());
+            return new Response(200, "{\"id\":" + id
+                    + ",\"properties\":{\"nickname\":\"kakao" + id + "\"}"
+                    + ",\"kakao_account\":{\"email\":\"kakao" + id + "@loadtest.com\"}}");
+        }));
+        server.start();
+        log.info("카카오 stub 서버 시작 : localhost:{} (지연 {}ms, 실패율 {})", port, latencyMillis, failureRate);
+    }
+
+    public void stop() {
+        if (server != null) {
+            server.stop(0);
+            executor.shutdownNow();
+        }
+    }
+
+    private void handle(HttpExchange exchange, ResponseSupplier supplier) throws IOException {
+        try {
+            if (latencyMillis > 0) {
+                Thread.sleep(latencyMillis);
+            }
+            Response response = ThreadLocalRandom.current().nextDouble() < failureRate
+                    ? new Response(503, "{\"msg\":\"stub failure\"}")
+                    : supplier.get();
+            byte[] body = response.body.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json;charset=UTF-8");
+            exchange.sendResponseHeaders(response.status, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private static String readBody(HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static String formValue(String form, String name) {
+        for (String pair : form.split("&")) {
+            int index = pair.indexOf('=');
+            if (index > 0 && pair.substring(0, index).equals(name)) {
+                return URLDecoder.decode(pair.substring(index + 1), StandardCharsets.UTF_8);
+            }
+        }
+        return null;
+    }
+
+    private interface ResponseSupplier {
+        Response get() throws IOException;
+    }
+
+    private static class Response {
+        private final int status;
+        private final String body;
+
+        private Response(int status, String body) {
+            this.status = status;
+            this.body = body;
+        }
+    }
+}
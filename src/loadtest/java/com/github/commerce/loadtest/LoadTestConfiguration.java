@@ -0,0 +1,44 @@
+package com.github.commerce.loadtest;
+
+import com.amazonaws.services.s3.AmazonS3Client;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+
+import java.nio.file.Paths;
+
+/**
+ * loadtest 프로파일에서 외부 인프라 client 를 in-process 대역으로 교체합니다.
+ * (DB 는 application-loadtest.yml 의 H2, MongoDB 는 embedded mongo 자동설정, 카카오 OAuth 는 KakaoStubServer)
+ */
+@Configuration
+@Profile("loadtest")
+public class LoadTestConfiguration {
+
+    @Bean
+    @Primary
+    public AmazonS3Client fileSystemAmazonS3(@Value("${loadtest.s3.root}") String root) {
+        return new FileSystemAmazonS3(Paths.get(root).toAbsolutePath());
+    }
+
+    @Bean
+    @Primary
+    public RabbitTemplate inMemoryRabbitTemplate(
+            LoadTestMessageConsumer loadTestMessageConsumer,
+            @Value("${loadtest.consumer-delay-millis}") long consumerDelayMillis
+    ) {
+        return new InMemoryRabbitTemplate(loadTestMessageConsumer, consumerDelayMillis);
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public KakaoStubServer kakaoStubServer(
+            @Value("${loadtest.kakao.port}") int port,
+            @Value("${loadtest.kakao.latency-millis}") long latencyMillis,
+            @Value("${loadtest.kakao.failure-rate}") double failureRate
+    ) {
+        return new KakaoStubServer(port, latencyMillis, failureRate);
+    }
+}
@@ -0,0 +1,131 @@
+package com.github.commerce.loadtest;
+
+import com.github.commerce.entity.*;
+import com.github.commerce.entity.collection.Chat;
+import com.github.commerce.repository.chat.ChatRepository;
+import com.github.commerce.repository.coupon.CouponRepository;
+import com.github.commerce.repository.product.ProductRepository;
+import com.github.commerce.repository.user.SellerRepository;
+import com.github.commerce.repository.user.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 부하 테스트용 기초 데이터 (회원가입 쿠폰, 판매자/상품, 채팅방).
+ * 구매자는 WorkloadGenerator 가 회원가입 API 로 직접 만듭니다.
+ */
+@Slf4j
+@Component
+@Profile("loadtest")
+@RequiredArgsConstructor
+public class LoadTestDataInitializer implements ApplicationRunner {
+    private static final String[] PRODUCT_CATEGORIES = {"10", "20", "30"};
+    private static final String[] GENDER_CATEGORIES = {"FEMALE", "MALE"};
+    private static final String[] AGE_CATEGORIES = {"10", "20", "30", "40"};
+
+    private final UserRepository userRepository;
+    private final SellerRepository sellerRepository;
+    private final ProductRepository productRepository;
+    private final CouponRepository couponRepository;
+    private final ChatRepository chatRepository;
+    private final PasswordEncoder passwordEncoder;
+
+    @Value("${loadtest.seed.sellers}")
+    private int sellers;
+
+    @Value("${loadtest.seed.products-per-seller}")
+    private int productsPerSeller;
+
+    @Value("${loadtest.seed.chat-rooms}")
+    private int chatRooms;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        // 회원가입 시 1번 쿠폰이 발급됨
+        couponRepository.save(Coupon.builder()
+                .title("회원가입 쿠폰")
+                .content("loadtest")
+                .createdAt(LocalDateTime.now())
+                .period(30)
+                .couponGrade(Grade.ALL)
+                .couponAmount(Integer.MAX_VALUE)
+                .build());
+
+        String password = passwordEncoder.encode("loadtest1234");
+        List<Product> products = new ArrayList<>();
+        for (int i = 1; i <= sellers; i++) {
+            User user = userRepository.save(User.builder()
+                    .email("seller" + i + "@loadtest.com")
+                    .password(password)
+                    .userName("seller" + i)
+                    .telephone("0100000" + String.format("%04d", i))
+                    .role(UserRoleEnum.SELLER)
+                    .isDelete(false)
+                    .createdAt(LocalDateTime.now())
+                    .build());
+            Seller seller = sellerRepository.save(Seller.builder()
+                    .users(user)
+                    .shopName("shop" + i)
+                    .address("서울")
+                    .addressDetail("loadtest")
+                    .build());
+
+            for (int j = 0; j < productsPerSeller; j++) {
+                int n = products.size();
+                products.add(Product.builder()
+                        .seller(seller)
+                        .name("상품" + n)
+                        .content("loadtest 상품 " + n)
+                        .thumbnailUrl("")
+                        .price(1000 + (n % 50) * 100)
+                        .leftAmount(Integer.MAX_VALUE)
+                        .createdAt(LocalDateTime.now())
+                        .isDeleted(false)
+                        .productCategory(PRODUCT_CATEGORIES[n % PRODUCT_CATEGORIES.length])
+                        .genderCategory(GENDER_CATEGORIES[n % GENDER_CATEGORIES.length])
+                        .ageCategory(AGE_CATEGORIES[n % AGE_CATEGORIES.length])
+                        .options("[]")
+                        .build());
+            }
+        }
+        productRepository.saveAll(products);
+
+        chatRepository.deleteAll();
+        List<Chat> chats = new ArrayList<>();
+        for (int i = 1; i <= chatRooms && !products.isEmpty(); i++) {
+            Product product = products.get(i % products.size());
+            Map<String, Map<String, String>> messages = new HashMap<>();
+            LocalDateTime sentAt = LocalDateTime.now().withNano(0).minusDays(1);
+            for (int j = 0; j < 20; j++) {
+                Map<String, String> message = new HashMap<>();
+                message.put("sender", j % 2 == 0 ? "user" : "seller");
+                message.put("message", "loadtest 메시지 " + j);
+                messages.put(sentAt.plusMinutes(j) + "-" + j, message);
+            }
+            chats.add(Chat.builder()
+                    .customRoomId("room-" + i)
+                    .sellerId(product.getSeller().getId())
+                    .productId(product.getId())
+                    .userId(product.getSeller().getUsers().getId())
+                    .shopName(product.getSeller().getShopName())
+                    .userName("loadtest")
+                    .chats(messages)
+                    .build());
+        }
+        chatRepository.saveAll(chats);
+
+        log.info("loadtest 데이터 생성 완료 : 판매자 {}, 상품 {}, 채팅방 {}", sellers, products.size(), chats.size());
+    }
+}
@@ -0,0 +1,99 @@
+package com.github.commerce.loadtest;
+
+import com.github.commerce.entity.Cart;
+import com.github.commerce.entity.Order;
+import com.github.commerce.repository.cart.CartRepository;
+import com.github.commerce.repository.order.OrderRepository;
+import com.github.commerce.repository.product.ProductRepository;
+import com.github.commerce.repository.user.SellerRepository;
+import com.github.commerce.repository.user.UserRepository;
+import com.github.commerce.service.payment.ReviewPointAccrualService;
+import com.github.commerce.web.dto.cart.CartBatchRmqDto;
+import com.github.commerce.web.dto.cart.CartRmqDto;
+import com.github.commerce.web.dto.order.OrderRmqDto;
+import com.github.commerce.web.dto.review.ReviewPointRmqDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 외부 consumer 서버가 하던 장바구니/주문 생성을 흉내냅니다. (postCart, putCart, postCartBatch, putCartBatch, postOrder)
+ * reviewPoint 는 앱 안의 listener 대신 ReviewPointAccrualService 를 직접 호출합니다.
+ * 나머지 routing key 는 발행 횟수만 기록됩니다.
+ */
+@Component
+@Profile("loadtest")
+@RequiredArgsConstructor
+public class LoadTestMessageConsumer {
+    private final UserRepository userRepository;
+    private final SellerRepository sellerRepository;
+    private final ProductRepository productRepository;
+    private final CartRepository cartRepository;
+    private final OrderRepository orderRepository;
+    private final ReviewPointAccrualService reviewPointAccrualService;
+
+    @Transactional
+    public void consume(String routingKey, Object message) {
+        switch (routingKey) {
+            case "postCart":
+                postCart((CartRmqDto) message);
+                break;
+            case "putCart":
+                putCart((CartRmqDto) message);
+                break;
+            case "postCartBatch":
+                ((CartBatchRmqDto) message).getCarts().forEach(this::postCart);
+                break;
+            case "putCartBatch":
+                ((CartBatchRmqDto) message).getCarts().forEach(this::putCart);
+                break;
+            case "postOrder":
+                postOrder((OrderRmqDto) message);
+                break;
+            case "reviewPoint":
+                reviewPointAccrualService.accrue(List.of((ReviewPointRmqDto) message));
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void postCart(CartRmqDto message) {
+        cartRepository.save(Cart.builder()
+                .users(userRepository.getReferenceById(message.getUserId()))
+                .products(productRepository.getReferenceById(message.getProductId()))
+                .quantity(message.getQuantity())
+                .options(message.getOptions())
+                .isOrdered(false)
+                .cartState(0)
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+
+    private void putCart(CartRmqDto message) {
+        cartRepository.findById(message.getCartId()).ifPresent(cart -> {
+            cart.setQuantity(message.getQuantity());
+            cart.setOptions(message.getOptions());
+        });
+    }
+
+    private void postOrder(OrderRmqDto message) {
+        orderRepository.save(Order.builder()
+                .users(userRepository.getReferenceById(message.getUserId()))
+                .sellers(sellerRepository.getReferenceById(message.getSellerId()))
+                .products(productRepository.getReferenceById(message.getProductId()))
+                .carts(message.getCartId() != null ? cartRepository.getReferenceById(message.getCartId()) : null)
+                .quantity(message.getQuantity())
+                .totalPrice(message.getTotal_price())
+                .orderState(1)
+                .orderTag(message.getOrderTag())
+                .options(message.getOptions())
+                .isReviewed(false)
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+}
@@ -0,0 +1,266 @@
+package com.github.commerce.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 가상 사용자 N 명이 회원가입 -> 로그인 -> 페이머니 충전 -> 카카오 로그인 후
+ * 상품 조회 / 검색 / 장바구니 담기 / 주문 / 결제 / 채팅 조회를 반복하고
+ * 엔드포인트별 p50, p99, 처리량, 에러 수를 출력합니다.
+ *
+ * ./gradlew loadtest -PbaseUrl=http://localhost:8080 -Pusers=20 -Pduration=60
+ */
+public class WorkloadGenerator {
+    private static final String[] SEARCH_WORDS = {"상품1", "상품2", "상품3", "loadtest"};
+    private static final int PRODUCT_COUNT = 1000; // loadtest.seed.sellers * products-per-seller
+    private static final int CHAT_ROOMS = 100;
+    private static final long ORDER_POLL_MILLIS = 100L;
+    private static final int ORDER_POLL_TIMES = 20;
+
+    private final String baseUrl;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, EndpointStats> stats = new ConcurrentHashMap<>();
+    private final AtomicInteger userSequence = new AtomicInteger();
+    private final String runId = Long.toString(System.currentTimeMillis(), 36);
+
+    public WorkloadGenerator(String baseUrl, int users) {
+        this.baseUrl = baseUrl;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newFixedThreadPool(users))
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = args.length > 0 ? args[0] : "http://localhost:8080";
+        int users = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+        int durationSeconds = args.length > 2 ? Integer.parseInt(args[2]) : 60;
+
+        new WorkloadGenerator(baseUrl, users).run(users, durationSeconds);
+        System.exit(0);
+    }
+
+    public void run(int users, int durationSeconds) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(users);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(durationSeconds);
+        long start = System.nanoTime();
+        for (int i = 0; i < users; i++) {
+            executor.submit(() -> {
+                try {
+                    new VirtualUser(userSequence.incrementAndGet()).run(deadline);
+                } catch (Exception e) {
+                    System.err.println("가상 사용자 종료 : " + e.getMessage());
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(durationSeconds + 60L, TimeUnit.SECONDS);
+        report((System.nanoTime() - start) / 1_000_000_000.0);
+    }
+
+    private void report(double elapsedSeconds) {
+        System.out.printf("%n%-14s %8s %8s %10s %10s %10s%n", "endpoint", "count", "errors", "p50(ms)", "p99(ms)", "req/s");
+        new TreeMap<>(stats).forEach((name, endpoint) -> {
+            long[] latencies = endpoint.sortedLatencies();
+            System.out.printf("%-14s %8d %8d %10.1f %10.1f %10.1f%n",
+                    name, latencies.length, endpoint.errors.get(),
+                    percentile(latencies, 0.50), percentile(latencies, 0.99),
+                    latencies.length / elapsedSeconds);
+        });
+    }
+
+    private static double percentile(long[] sortedNanos, double p) {
+        if (sortedNanos.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(p * sortedNanos.length) - 1;
+        return sortedNanos[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    private HttpResponse<String> call(String name, HttpRequest.Builder request) throws InterruptedException {
+        EndpointStats endpoint = stats.computeIfAbsent(name, key -> new EndpointStats());
+        long start = System.nanoTime();
+        try {
+            HttpResponse<String> response = httpClient.send(
+                    request.timeout(Duration.ofSeconds(30)).build(), HttpResponse.BodyHandlers.ofString());
+            endpoint.record(System.nanoTime() - start, response.statusCode() >= 400);
+            return response;
+        } catch (java.io.IOException e) {
+            endpoint.record(System.nanoTime() - start, true);
+            return null;
+        }
+    }
+
+    private HttpRequest.Builder json(String method, String path, Object body, String accessToken) throws Exception {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .method(method, body == null
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)));
+        if (accessToken != null) {
+            builder.header("Access_Token", accessToken);
+        }
+        return builder;
+    }
+
+    private static boolean ok(HttpResponse<String> response) {
+        return response != null && response.statusCode() < 400;
+    }
+
+    private class VirtualUser {
+        private final int id;
+        private final Random random = new Random();
+        private String accessToken;
+
+        private VirtualUser(int id) {
+            this.id = id;
+        }
+
+        private void run(long deadline) throws Exception {
+            signUp();
+            while (System.nanoTime() < deadline) {
+                int dice = random.nextInt(100);
+                if (dice < 35) {
+                    call("browse", json("GET", "/v1/api/product?pageNumber=" + (1 + random.nextInt(10)), null, accessToken));
+                } else if (dice < 55) {
+                    String word = SEARCH_WORDS[random.nextInt(SEARCH_WORDS.length)];
+                    call("search", json("GET", "/v1/api/product/search?searchWord="
+                            + URLEncoder.encode(word, StandardCharsets.UTF_8), null, accessToken));
+                } else if (dice < 75) {
+                    call("add-to-cart", json("POST", "/v1/api/cart",
+                            List.of(item(randomProductId())), accessToken));
+                } else if (dice < 90) {
+                    checkoutAndPay();
+                } else {
+                    call("chat", json("GET", "/v1/api/chat/detail/room-" + (1 + random.nextInt(CHAT_ROOMS)), null, accessToken));
+                }
+            }
+        }
+
+        private void signUp() throws Exception {
+            String email = "user" + runId + "-" + id + "@loadtest.com";
+            String password = "loadtest" + id;
+            Map<String, Object> register = new HashMap<>();
+            register.put("email", email);
+            register.put("password", password);
+            register.put("userName", "user" + id);
+            register.put("telephone", String.format("010%08d", id));
+            register.put("gender", id % 2 == 0 ? "FEMALE" : "MALE");
+            register.put("address", "서울");
+            register.put("addressDetail", "loadtest");
+            register.put("age", "20");
+            register.put("nickname", "nick" + runId + id);
+            call("register", json("POST", "/v1/api/user/register", register, null));
+
+            Map<String, Object> login = new HashMap<>();
+            login.put("email", email);
+            login.put("password", password);
+            HttpResponse<String> response = call("login", json("POST", "/v1/api/user/login", login, null));
+            if (!ok(response)) {
+                throw new IllegalStateException("로그인 실패 " + email);
+            }
+            accessToken = response.headers().firstValue("Access_Token")
+                    .orElseGet(() -> readTree(response.body()).path("accessToken").asText());
+
+            Map<String, Object> charge = new HashMap<>();
+            charge.put("payMoney", 100_000_000L);
+            charge.put("paymentAmount", 100_000_000L);
+            call("charge", json("POST", "/v1/api/charge/pay-moneys", charge, accessToken));
+
+            // 카카오 로그인 (loadtest 프로파일에서는 KakaoStubServer 가 응답)
+            call("kakao-login", json("GET", "/v1/api/user/kakao/callback?code=" + runId + "-" + id, null, null));
+        }
+
+        // 주문은 큐 consumer 가 비동기로 생성하므로 상품별 주문 목록이 보일 때까지 짧게 polling 후 결제
+        private void checkoutAndPay() throws Exception {
+            long productId = randomProductId();
+            HttpResponse<String> ordered = call("checkout", json("POST", "/v1/api/order", List.of(item(productId)), accessToken));
+            if (!ok(ordered)) {
+                return;
+            }
+
+            JsonNode orders = null;
+            for (int i = 0; i < ORDER_POLL_TIMES; i++) {
+                HttpResponse<String> response = call("order-lookup",
+                        json("GET", "/v1/api/order/product/" + productId, null, accessToken));
+                if (ok(response)) {
+                    orders = readTree(response.body());
+                    if (orders.size() > 0) {
+                        break;
+                    }
+                }
+                Thread.sleep(ORDER_POLL_MILLIS);
+            }
+            if (orders == null || orders.size() == 0) {
+                stats.computeIfAbsent("order-lookup", key -> new EndpointStats()).errors.incrementAndGet();
+                return;
+            }
+
+            List<Long> orderIdList = new ArrayList<>();
+            long totalPrice = 0;
+            for (JsonNode order : orders) {
+                orderIdList.add(order.path("orderId").asLong());
+                totalPrice += order.path("totalPrice").asLong();
+            }
+            Map<String, Object> purchase = new HashMap<>();
+            purchase.put("orderIdList", orderIdList);
+            purchase.put("totalPrice", totalPrice);
+            purchase.put("isUsePoint", false);
+            purchase.put("paymentMethod", "1");
+            call("pay", json("POST", "/v1/api/payments/purchase", purchase, accessToken));
+        }
+
+        private long randomProductId() {
+            return 1 + random.nextInt(PRODUCT_COUNT);
+        }
+
+        private Map<String, Object> item(long productId) {
+            Map<String, Object> item = new HashMap<>();
+            item.put("productId", productId);
+            item.put("quantity", 1 + random.nextInt(3));
+            item.put("options", List.of());
+            return item;
+        }
+    }
+
+    private JsonNode readTree(String body) {
+        try {
+            return objectMapper.readTree(body);
+        } catch (Exception e) {
+            return objectMapper.createArrayNode();
+        }
+    }
+
+    private static class EndpointStats {
+        private final List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+        private final AtomicInteger errors = new AtomicInteger();
+
+        private void record(long nanos, boolean error) {
+            latencies.add(nanos);
+            if (error) {
+                errors.incrementAndGet();
+            }
+        }
+
+        private long[] sortedLatencies() {
+            long[] result;
+            synchronized (latencies) {
+                result = latencies.stream().mapToLong(Long::longValue).toArray();
+            }
+            Arrays.sort(result);
+            return result;
+        }
+    }
+}
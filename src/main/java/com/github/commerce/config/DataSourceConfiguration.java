@@ -1,9 +1,14 @@
 package com.github.commerce.config;
 
+import com.github.commerce.config.metrics.NPlusOneGuard;
+import com.github.commerce.config.metrics.QueryMetricsDataSource;
+import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.jdbc.DataSourceBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -12,68 +17,69 @@ import org.springframework.context.annotation.Primary;
 import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
 
 import javax.sql.DataSource;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 @Slf4j
 @Configuration
+@EnableConfigurationProperties(ReplicaDataSourceProperties.class)
 public class DataSourceConfiguration {
 
     public static final String MASTER_DATASOURCE = "masterDataSource";
-    public static final String SLAVE_DATASOURCE = "slaveDataSource";
-    public static final String SLAVE_DATASOURCE2 = "slaveDataSource2";
+    public static final String MASTER_POOL_NAME = "master";
+
+    @Bean
+    public HikariPoolMetrics hikariPoolMetrics() {
+        return new HikariPoolMetrics();
+    }
 
     @Bean(MASTER_DATASOURCE)
     @ConfigurationProperties(prefix = "spring.datasource.master.hikari") // (1)
-    public DataSource masterDataSource() {
+    public DataSource masterDataSource(HikariPoolMetrics hikariPoolMetrics) {
         log.info("------------masterDB_connected------------");
-        return DataSourceBuilder.create()
-                .type(HikariDataSource.class)
-                .build();
-    }
-
-    @Bean(SLAVE_DATASOURCE)
-    @ConfigurationProperties(prefix = "spring.datasource.slave.hikari")
-    public DataSource slaveDataSource() {
-        log.info("------------slaveDB_connected------------");
-        return DataSourceBuilder.create()
-                .type(HikariDataSource.class)
-                .build();
-    }
-
-    @Bean(SLAVE_DATASOURCE2)
-    @ConfigurationProperties(prefix = "spring.datasource.slave2.hikari")
-    public DataSource slaveDataSource2() {
-        log.info("------------slaveDB_connected------------");
-        return DataSourceBuilder.create()
+        HikariDataSource dataSource = DataSourceBuilder.create()
                 .type(HikariDataSource.class)
                 .build();
+        dataSource.setPoolName(MASTER_POOL_NAME);
+        dataSource.setMetricsTrackerFactory(hikariPoolMetrics);
+        return dataSource;
     }
 
+    // replica 는 설정 목록(spring.datasource.replicas)만큼 만들고, 실행 중 추가/drain 은 ReplicaPoolService 에서
     @Bean
-    @DependsOn({MASTER_DATASOURCE, SLAVE_DATASOURCE, SLAVE_DATASOURCE2})
-    public DataSource routingDataSource(
+    @DependsOn(MASTER_DATASOURCE)
+    public RoutingDataSource routingDataSource(
             @Qualifier(MASTER_DATASOURCE) DataSource masterDataSource,
-            @Qualifier(SLAVE_DATASOURCE) DataSource slaveDataSource,
-            @Qualifier(SLAVE_DATASOURCE2) DataSource slaveDataSource2
+            ReplicaDataSourceProperties replicaDataSourceProperties,
+            HikariPoolMetrics hikariPoolMetrics
     ) {
-        RoutingDataSource routingDataSource = new RoutingDataSource();
-        Map<Object, Object> datasource = new HashMap<>();
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (HikariConfig config : replicaDataSourceProperties.getReplicas()) {
+            if (config.getPoolName() == null) {
+                config.setPoolName("replica" + (replicas.size() + 1));
+            }
+            replicas.put(config.getPoolName(), createPool(config, hikariPoolMetrics));
+            log.info("------------{}_connected------------", config.getPoolName());
+        }
 
-        datasource.put("master", masterDataSource);
-        datasource.put("slave", slaveDataSource);
-        datasource.put("slave2", slaveDataSource2);
-        routingDataSource.setTargetDataSources(datasource);
-        routingDataSource.setDefaultTargetDataSource(masterDataSource);
+        return new RoutingDataSource(masterDataSource, replicas);
+    }
 
-        return routingDataSource;
+    // 풀은 첫 커넥션 요청(health check) 때 시작되므로 replica 하나가 내려가 있어도 기동은 됨
+    public static HikariDataSource createPool(HikariConfig config, HikariPoolMetrics hikariPoolMetrics) {
+        HikariDataSource dataSource = new HikariDataSource();
+        config.copyStateTo(dataSource);
+        dataSource.setMetricsTrackerFactory(hikariPoolMetrics);
+        return dataSource;
     }
 
+    // statement 실행 시간 / 요청별 쿼리 수 측정은 라우팅 바깥에서 (어느 풀로 가든 동일하게 기록)
     @Primary
     @Bean
     @DependsOn("routingDataSource")
-    public LazyConnectionDataSourceProxy dataSource(DataSource routingDataSource){
-        return new LazyConnectionDataSourceProxy(routingDataSource);
+    public LazyConnectionDataSourceProxy dataSource(RoutingDataSource routingDataSource, MeterRegistry meterRegistry,
+                                                    NPlusOneGuard nPlusOneGuard){
+        return new LazyConnectionDataSourceProxy(new QueryMetricsDataSource(routingDataSource, meterRegistry, nPlusOneGuard));
     }
 
-}
\ No newline at end of file
+}
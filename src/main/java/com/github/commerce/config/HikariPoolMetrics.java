@@ -0,0 +1,176 @@
+package com.github.commerce.config;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 풀 이름별 Hikari 지표 (active / idle / pending / 커넥션 획득 시간 / timeout 횟수).
+ * 풀이 시작되기 전에 HikariConfig.setMetricsTrackerFactory 로 등록해야 합니다.
+ * MeterRegistry 에 바인딩되면 hikaricp.connections.* (pool 태그) 로도 노출되며, 실행 중 추가/drain 된 풀도 반영됩니다.
+ */
+public class HikariPoolMetrics implements MetricsTrackerFactory, MeterBinder {
+
+    private final Map<String, PoolMetric> metrics = new ConcurrentHashMap<>();
+    private volatile MeterRegistry meterRegistry;
+
+    @Override
+    public IMetricsTracker create(String poolName, PoolStats poolStats) {
+        PoolMetric metric = new PoolMetric(poolName, poolStats);
+        metrics.put(poolName, metric);
+        MeterRegistry registry = meterRegistry;
+        if (registry != null) {
+            metric.register(registry);
+        }
+        return metric;
+    }
+
+    // 바인딩 전에 시작된 풀(master 등)은 여기서 등록
+    @Override
+    public synchronized void bindTo(MeterRegistry registry) {
+        this.meterRegistry = registry;
+        metrics.values().forEach(metric -> metric.register(registry));
+    }
+
+    // 아직 커넥션을 한 번도 얻지 않은(시작 전) 풀이면 null
+    public PoolMetric get(String poolName) {
+        return metrics.get(poolName);
+    }
+
+    public Map<String, PoolMetric> getAll() {
+        return metrics;
+    }
+
+    public class PoolMetric implements IMetricsTracker {
+        private final String poolName;
+        private final PoolStats poolStats;
+        private final LongAdder acquireCount = new LongAdder();
+        private final LongAdder acquireNanos = new LongAdder();
+        private final AtomicLong maxAcquireNanos = new AtomicLong();
+        private final LongAdder timeoutCount = new LongAdder();
+        private final List<Meter> meters = new ArrayList<>();
+        private volatile Timer acquireTimer;
+        private volatile Counter timeoutCounter;
+
+        private PoolMetric(String poolName, PoolStats poolStats) {
+            this.poolName = poolName;
+            this.poolStats = poolStats;
+        }
+
+        @Override
+        public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+            acquireCount.increment();
+            acquireNanos.add(elapsedAcquiredNanos);
+            maxAcquireNanos.accumulateAndGet(elapsedAcquiredNanos, Math::max);
+            Timer timer = acquireTimer;
+            if (timer != null) {
+                timer.record(elapsedAcquiredNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        @Override
+        public void recordConnectionTimeout() {
+            timeoutCount.increment();
+            Counter counter = timeoutCounter;
+            if (counter != null) {
+                counter.increment();
+            }
+        }
+
+        // 풀이 종료(drain)되면 지표도 제거
+        @Override
+        public void close() {
+            metrics.remove(poolName, this);
+            MeterRegistry registry = meterRegistry;
+            synchronized (meters) {
+                if (registry != null) {
+                    meters.forEach(registry::remove);
+                }
+                meters.clear();
+            }
+        }
+
+        private void register(MeterRegistry registry) {
+            synchronized (meters) {
+                if (!meters.isEmpty()) {
+                    return;
+                }
+                meters.add(gauge(registry, "hikaricp.connections.active", PoolMetric::getActiveConnections));
+                meters.add(gauge(registry, "hikaricp.connections.idle", PoolMetric::getIdleConnections));
+                meters.add(gauge(registry, "hikaricp.connections.pending", PoolMetric::getPendingThreads));
+                meters.add(gauge(registry, "hikaricp.connections", PoolMetric::getTotalConnections));
+                meters.add(gauge(registry, "hikaricp.connections.max", PoolMetric::getMaxConnections));
+                acquireTimer = Timer.builder("hikaricp.connections.acquire")
+                        .tag("pool", poolName)
+                        .register(registry);
+                timeoutCounter = Counter.builder("hikaricp.connections.timeout")
+                        .tag("pool", poolName)
+                        .register(registry);
+                meters.add(acquireTimer);
+                meters.add(timeoutCounter);
+            }
+        }
+
+        private Gauge gauge(MeterRegistry registry, String name, ToDoubleFunction<PoolMetric> value) {
+            return Gauge.builder(name, this, value)
+                    .tag("pool", poolName)
+                    .register(registry);
+        }
+
+        public int getActiveConnections() {
+            return poolStats.getActiveConnections();
+        }
+
+        public int getIdleConnections() {
+            return poolStats.getIdleConnections();
+        }
+
+        public int getPendingThreads() {
+            return poolStats.getPendingThreads();
+        }
+
+        public int getTotalConnections() {
+            return poolStats.getTotalConnections();
+        }
+
+        public int getMaxConnections() {
+            return poolStats.getMaxConnections();
+        }
+
+        public long getAcquireCount() {
+            return acquireCount.sum();
+        }
+
+        public long getAcquireNanos() {
+            return acquireNanos.sum();
+        }
+
+        public double getAverageAcquireMillis() {
+            long count = acquireCount.sum();
+            return count == 0 ? 0 : acquireNanos.sum() / (double) count / 1_000_000;
+        }
+
+        public double getMaxAcquireMillis() {
+            return maxAcquireNanos.get() / 1_000_000.0;
+        }
+
+        public long getTimeoutCount() {
+            return timeoutCount.sum();
+        }
+    }
+}
@@ -1,9 +1,14 @@
 package com.github.commerce.config;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.commerce.config.metrics.TimedRabbitTemplate;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.amqp.core.Binding;
 import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.Declarables;
 import org.springframework.amqp.core.DirectExchange;
+import org.springframework.amqp.core.FanoutExchange;
 import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
 import org.springframework.amqp.rabbit.connection.CachingConnectionFactory;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
@@ -15,13 +20,17 @@ import org.springframework.context.annotation.Configuration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.UUID;
 
 @Configuration
 public class RabbitMQConfig {
     public static final String EXCHANGE_NAME = "exchange";
     // 여러 개의 큐와 라우팅 키를 리스트로 관리
-    public static final List<String> QUEUE_NAMES = Arrays.asList("postCart", "putCart", "postOrder", "putOrder", "postPayment", "putPayment");
-    public static final List<String> ROUTING_KEYS = Arrays.asList("postCart", "putCart", "postOrder", "putOrder", "postPayment", "putPayment");
+    public static final List<String> QUEUE_NAMES = Arrays.asList("postCart", "putCart", "postOrder", "putOrder", "postPayment", "putPayment", "postCartBatch", "putCartBatch", "reviewPoint");
+    public static final List<String> ROUTING_KEYS = Arrays.asList("postCart", "putCart", "postOrder", "putOrder", "postPayment", "putPayment", "postCartBatch", "putCartBatch", "reviewPoint");
+    // 장바구니 캐시 무효화 전파, 서버마다 자기 큐를 하나씩 묶어 모든 서버가 같은 메시지를 받음
+    public static final String CART_CACHE_EXCHANGE_NAME = "cartCacheInvalidation";
+    public static final String CART_CACHE_QUEUE_NAME = "cartCacheInvalidation." + UUID.randomUUID();
 
     @Value("${spring.rabbitmq.host}")
     private String rmqHost;
@@ -67,6 +76,14 @@ public class RabbitMQConfig {
         return bindings;
     }
 
+    // 이 서버 전용 큐 (연결이 끊기면 삭제), Queue 빈으로 등록하면 queues() 목록 주입이 바뀌므로 Declarables 로 선언
+    @Bean
+    public Declarables cartCacheDeclarables() {
+        FanoutExchange exchange = new FanoutExchange(CART_CACHE_EXCHANGE_NAME);
+        Queue queue = new Queue(CART_CACHE_QUEUE_NAME, false, true, true);
+        return new Declarables(exchange, queue, BindingBuilder.bind(queue).to(exchange));
+    }
+
     Jackson2JsonMessageConverter messageConverter(ObjectMapper mapper){
         var converter = new Jackson2JsonMessageConverter(mapper);
         converter.setCreateMessageIds(true); //create a unique message id for every message
@@ -74,11 +91,38 @@ public class RabbitMQConfig {
     }
 
     @Bean
-    public RabbitTemplate rabbitTemplate(ConnectionFactory factory, ObjectMapper objectMapper){
-        RabbitTemplate template = new RabbitTemplate();
+    public RabbitTemplate rabbitTemplate(ConnectionFactory factory, ObjectMapper objectMapper, MeterRegistry meterRegistry){
+        RabbitTemplate template = new TimedRabbitTemplate(meterRegistry);
         template.setConnectionFactory(factory);
         template.setMessageConverter(messageConverter(objectMapper));
         return template;
     }
 
+    // 리뷰 포인트 적립 consumer : batch-size 개 (또는 receive-timeout 동안 모인 만큼) 를 List 로 한 번에 받음
+    @Bean
+    public SimpleRabbitListenerContainerFactory reviewPointListenerContainerFactory(
+            ConnectionFactory factory, ObjectMapper objectMapper,
+            @Value("${review.point.batch-size:100}") int batchSize,
+            @Value("${review.point.receive-timeout-millis:1000}") long receiveTimeoutMillis
+    ){
+        SimpleRabbitListenerContainerFactory containerFactory = new SimpleRabbitListenerContainerFactory();
+        containerFactory.setConnectionFactory(factory);
+        containerFactory.setMessageConverter(messageConverter(objectMapper));
+        containerFactory.setBatchListener(true);
+        containerFactory.setConsumerBatchEnabled(true);
+        containerFactory.setBatchSize(batchSize);
+        containerFactory.setPrefetchCount(batchSize);
+        containerFactory.setReceiveTimeout(receiveTimeoutMillis);
+        return containerFactory;
+    }
+
+    // 장바구니 캐시 무효화 consumer (JSON 메시지를 DTO 로 받음)
+    @Bean
+    public SimpleRabbitListenerContainerFactory cartCacheListenerContainerFactory(ConnectionFactory factory, ObjectMapper objectMapper){
+        SimpleRabbitListenerContainerFactory containerFactory = new SimpleRabbitListenerContainerFactory();
+        containerFactory.setConnectionFactory(factory);
+        containerFactory.setMessageConverter(messageConverter(objectMapper));
+        return containerFactory;
+    }
+
 }
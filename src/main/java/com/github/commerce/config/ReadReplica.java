@@ -0,0 +1,107 @@
+package com.github.commerce.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+
+/**
+ * 읽기 전용 replica 하나의 상태.
+ * health check 결과(연속 성공/실패 횟수, 복제 지연, 응답시간 EWMA)는 RoutingDataSource 의 백그라운드 샘플러만 갱신하고,
+ * 요청 스레드는 volatile 값만 읽으므로 라우팅 시 잠금이 없습니다.
+ */
+@Slf4j
+public class ReadReplica {
+
+    private static final int FAILURE_THRESHOLD = 3; //연속 3번 실패하면 제외
+    private static final int RECOVERY_THRESHOLD = 2; //연속 2번 성공하면 복귀
+    private static final double LATENCY_WEIGHT = 0.2; //EWMA 가중치
+
+    private final String key;
+    private final DataSource dataSource;
+
+    private volatile boolean healthy = true;
+    private volatile long lagSeconds = 0;
+    private volatile double latencyNanos = 0;
+    // 권한이 없거나 지원하지 않아 복제 지연을 조회할 수 없는 replica 면 false (응답 여부만 확인)
+    private volatile boolean lagQuerySupported = true;
+    private int consecutiveFailures = 0;
+    private int consecutiveSuccesses = 0;
+
+    public ReadReplica(String key, DataSource dataSource) {
+        this.key = key;
+        this.dataSource = dataSource;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public DataSource getDataSource() {
+        return dataSource;
+    }
+
+    public boolean isHealthy() {
+        return healthy;
+    }
+
+    public long getLagSeconds() {
+        return lagSeconds;
+    }
+
+    public double getLatencyNanos() {
+        return latencyNanos;
+    }
+
+    // 현재 사용중인 커넥션 수, Hikari 풀이 아니거나 아직 초기화 전이면 0
+    public int getActiveConnections() {
+        if (dataSource instanceof HikariDataSource) {
+            HikariPoolMXBean pool = ((HikariDataSource) dataSource).getHikariPoolMXBean();
+            if (pool != null) {
+                return pool.getActiveConnections();
+            }
+        }
+        return 0;
+    }
+
+    // 사용중인 커넥션이 적고 응답이 빠를수록 낮은 점수
+    double score() {
+        return (getActiveConnections() + 1) * Math.max(latencyNanos, 1);
+    }
+
+    boolean isReadable(long maxLagSeconds) {
+        return healthy && lagSeconds <= maxLagSeconds;
+    }
+
+    boolean isLagQuerySupported() {
+        return lagQuerySupported;
+    }
+
+    // 샘플러 스레드에서만 호출
+    void disableLagQuery() {
+        lagQuerySupported = false;
+    }
+
+    // 샘플러 스레드에서만 호출
+    void recordSuccess(long elapsedNanos, long lagSeconds) {
+        this.lagSeconds = lagSeconds;
+        this.latencyNanos = latencyNanos == 0
+                ? elapsedNanos
+                : latencyNanos + LATENCY_WEIGHT * (elapsedNanos - latencyNanos);
+        consecutiveFailures = 0;
+        if (!healthy && ++consecutiveSuccesses >= RECOVERY_THRESHOLD) {
+            healthy = true;
+            log.info("replica {} 복귀", key);
+        }
+    }
+
+    // 샘플러 스레드에서만 호출
+    void recordFailure(Exception e) {
+        consecutiveSuccesses = 0;
+        if (healthy && ++consecutiveFailures >= FAILURE_THRESHOLD) {
+            healthy = false;
+            log.warn("replica {} 제외 : {}", key, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.github.commerce.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * spring.datasource.replicas 아래의 읽기 전용 replica 풀 목록.
+ * 항목마다 Hikari 설정을 그대로 쓰고, pool-name 이 라우팅 key 입니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "spring.datasource")
+public class ReplicaDataSourceProperties {
+    private List<HikariConfig> replicas = new ArrayList<>();
+}
@@ -1,44 +1,261 @@
 package com.github.commerce.config;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-//readOnly 속성을 구별하여 key를 반환
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * readOnly 트랜잭션은 replica 로, 나머지는 master 로 보내는 DataSource.
+ * replica 는 백그라운드에서 health check / 복제 지연을 샘플링해 장애나 지연이 큰 replica 를 제외하고,
+ * 남은 replica 중 임의의 두 개를 골라 (사용중 커넥션 + 1) * 응답시간이 작은 쪽을 사용합니다.
+ * 쓰기 트랜잭션을 실행한 사용자는 STICKY_MILLIS 동안 읽기도 master 로 보내 방금 쓴 데이터를 읽을 수 있게 합니다.
+ * replica 는 실행 중에 추가하거나 drain(라우팅에서 제외 후 사용중인 커넥션이 반납되면 풀 종료)할 수 있습니다.
+ */
 @Slf4j
-public class RoutingDataSource extends AbstractRoutingDataSource {
+public class RoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
     private static final String MASTER = "master";
-    private static final String SLAVE = "slave";
-    private static final String SLAVE2 = "slave2";
 
-    //Java에서 멀티스레드 환경에서 각 스레드별로 독립적인 값을 유지하기 위한 클래스
-    //withInitial 메서드는 초기값을 제공하는 람다식 또는 Supplier를 인자로 받아 스레드마다 독립적인 값의 복사본을 생성합니다.
-    //즉, 각 스레드는 자신만의 dataSourceKey 값을 가지며 이 값은 스레드 간에 독립적으로 유지됩니다.
-    // 따라서 getNextIndex 메서드에서 dataSourceKey 값을 수정하더라도 이 값은 해당 스레드 내에서만 변경되며 다른 스레드에 영향을 주지 않습니다.
-    private static final ThreadLocal<String> dataSourceKey = ThreadLocal.withInitial(() -> MASTER);
-    private static final String[] readOnlyDataSourceKeys = {SLAVE, SLAVE2};
+    private static final long HEALTH_CHECK_INTERVAL_MILLIS = 1000L;
+    private static final long DRAIN_CHECK_INTERVAL_MILLIS = 500L;
+    private static final long DRAIN_TIMEOUT_MILLIS = 30 * 1000L;
+    private static final int HEALTH_CHECK_TIMEOUT_SECONDS = 2;
+    private static final long MAX_LAG_SECONDS = 3; //이보다 지연된 replica 는 읽기에서 제외
+    private static final String SQL_STATE_ACCESS_OR_SYNTAX = "42000";
+    // 허용 지연 + 샘플링 주기 + 여유, 이 시간 안의 읽기는 master 에서
+    private static final long STICKY_MILLIS = (MAX_LAG_SECONDS + 2) * 1000L;
+
+    // 추가/drain 때만 통째로 교체 (라우팅은 잠금 없이 현재 목록을 읽음)
+    private volatile List<ReadReplica> replicas = Collections.emptyList();
+    private final Map<String, ScheduledFuture<?>> healthChecks = new ConcurrentHashMap<>();
+    // 사용자(email) -> 마지막 쓰기 시각
+    private final Map<String, Long> lastWriteAt = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService healthChecker;
+
+    public RoutingDataSource(DataSource masterDataSource, Map<String, DataSource> replicaDataSources) {
+        List<ReadReplica> replicaList = new ArrayList<>();
+        replicaDataSources.forEach((key, dataSource) -> replicaList.add(new ReadReplica(key, dataSource)));
+        this.replicas = Collections.unmodifiableList(replicaList);
+        this.healthChecker = Executors.newScheduledThreadPool(2, new CustomizableThreadFactory("replica-health-"));
+
+        setTargetDataSources(Collections.singletonMap(MASTER, masterDataSource));
+        setDefaultTargetDataSource(masterDataSource);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        super.afterPropertiesSet();
+        replicas.forEach(this::scheduleHealthCheck);
+        healthChecker.scheduleWithFixedDelay(this::evictStaleWrites,
+                STICKY_MILLIS, STICKY_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        healthChecker.shutdownNow();
+        replicas.forEach(replica -> close(replica.getDataSource()));
+    }
+
+    public List<ReadReplica> getReplicas() {
+        return replicas;
+    }
+
+    public ReadReplica getReplica(String key) {
+        return replicas.stream()
+                .filter(replica -> replica.getKey().equals(key))
+                .findFirst()
+                .orElse(null);
+    }
+
+    // 새 replica 를 라우팅에 추가, 같은 key 가 있으면 false
+    public synchronized boolean addReplica(String key, DataSource dataSource) {
+        if (getReplica(key) != null) {
+            return false;
+        }
+        ReadReplica replica = new ReadReplica(key, dataSource);
+        List<ReadReplica> replicaList = new ArrayList<>(replicas);
+        replicaList.add(replica);
+        replicas = Collections.unmodifiableList(replicaList);
+        scheduleHealthCheck(replica);
+        log.info("replica {} 추가", key);
+        return true;
+    }
+
+    // 라우팅에서 바로 제외하고, 사용중인 커넥션이 모두 반납되거나 DRAIN_TIMEOUT_MILLIS 가 지나면 풀 종료
+    public synchronized boolean drainReplica(String key) {
+        ReadReplica replica = getReplica(key);
+        if (replica == null) {
+            return false;
+        }
+        List<ReadReplica> replicaList = new ArrayList<>(replicas);
+        replicaList.remove(replica);
+        replicas = Collections.unmodifiableList(replicaList);
+        ScheduledFuture<?> healthCheck = healthChecks.remove(key);
+        if (healthCheck != null) {
+            healthCheck.cancel(false);
+        }
+        log.info("replica {} drain 시작", key);
+        scheduleClose(replica, System.currentTimeMillis() + DRAIN_TIMEOUT_MILLIS);
+        return true;
+    }
 
     @Override
     protected Object determineCurrentLookupKey() {
+        return MASTER;
+    }
 
-        boolean isReadOnly = TransactionSynchronizationManager.isCurrentTransactionReadOnly();
-        if (isReadOnly) {
-            int index = getNextIndex();
-            log.info(readOnlyDataSourceKeys[index]);
-            return readOnlyDataSourceKeys[index];
-        } else {
-            return MASTER;
+    @Override
+    protected DataSource determineTargetDataSource() {
+        String user = currentUser();
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (user == null || !isSticky(user)) {
+                ReadReplica replica = chooseReplica();
+                if (replica != null) {
+                    return replica.getDataSource();
+                }
+            }
+        } else if (user != null && TransactionSynchronizationManager.isActualTransactionActive()) {
+            recordWrite(user);
         }
+        return super.determineTargetDataSource();
     }
 
-    private int getNextIndex() {
-        String currentKey = dataSourceKey.get();
-        if (currentKey.equals(SLAVE)) {
-            dataSourceKey.set(SLAVE2);
-            return 1;
-        } else {
-            dataSourceKey.set(SLAVE);
-            return 0;
+    // power of two choices, 읽을 수 있는 replica 가 없으면 null (master 사용)
+    private ReadReplica chooseReplica() {
+        List<ReadReplica> replicas = this.replicas;
+        int size = replicas.size();
+        if (size == 0) {
+            return null;
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(size);
+        ReadReplica best = null;
+        for (int i = 0; i < size; i++) {
+            ReadReplica candidate = replicas.get((first + i) % size);
+            if (!candidate.isReadable(MAX_LAG_SECONDS)) {
+                continue;
+            }
+            if (best == null) {
+                best = candidate;
+            } else {
+                return candidate.score() < best.score() ? candidate : best;
+            }
         }
+        return best;
+    }
+
+    private boolean isSticky(String user) {
+        Long writtenAt = lastWriteAt.get(user);
+        return writtenAt != null && System.currentTimeMillis() - writtenAt < STICKY_MILLIS;
+    }
+
+    // 커넥션을 얻을 때와 커밋이 끝난 뒤 두 번 기록 (긴 트랜잭션도 커밋 시점부터 STICKY_MILLIS 보장)
+    private void recordWrite(String user) {
+        lastWriteAt.put(user, System.currentTimeMillis());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    lastWriteAt.put(user, System.currentTimeMillis());
+                }
+            });
+        }
+    }
+
+    private void evictStaleWrites() {
+        long threshold = System.currentTimeMillis() - STICKY_MILLIS;
+        lastWriteAt.values().removeIf(writtenAt -> writtenAt < threshold);
+    }
+
+    private String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.isAuthenticated() ? authentication.getName() : null;
+    }
+
+    private void scheduleHealthCheck(ReadReplica replica) {
+        healthChecks.put(replica.getKey(), healthChecker.scheduleWithFixedDelay(() -> checkHealth(replica),
+                0, HEALTH_CHECK_INTERVAL_MILLIS, TimeUnit.MILLISECONDS));
+    }
+
+    private void scheduleClose(ReadReplica replica, long deadline) {
+        healthChecker.schedule(() -> {
+            if (replica.getActiveConnections() > 0 && System.currentTimeMillis() < deadline) {
+                scheduleClose(replica, deadline);
+                return;
+            }
+            close(replica.getDataSource());
+            log.info("replica {} drain 완료", replica.getKey());
+        }, DRAIN_CHECK_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    private void close(DataSource dataSource) {
+        if (dataSource instanceof Closeable) {
+            try {
+                ((Closeable) dataSource).close();
+            } catch (IOException e) {
+                log.warn("DataSource 종료 실패 : {}", e.getMessage());
+            }
+        }
+    }
+
+    private void checkHealth(ReadReplica replica) {
+        long start = System.nanoTime();
+        try (Connection connection = replica.getDataSource().getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout(HEALTH_CHECK_TIMEOUT_SECONDS);
+            long lag = readLagSeconds(replica, statement);
+            replica.recordSuccess(System.nanoTime() - start, lag);
+        } catch (Exception e) {
+            replica.recordFailure(e);
+        }
+    }
+
+    // Seconds_Behind_Master 가 NULL 이면 복제가 멈춘 상태, 권한이 없거나 지원하지 않는 문장이면 그 replica 는 응답 여부만 확인
+    // 그 외 오류(네트워크 등)는 replica 장애로 보고 그대로 던짐
+    private long readLagSeconds(ReadReplica replica, Statement statement) throws SQLException {
+        if (replica.isLagQuerySupported()) {
+            try (ResultSet resultSet = statement.executeQuery("SHOW SLAVE STATUS")) {
+                if (!resultSet.next()) {
+                    return 0;
+                }
+                long lag = resultSet.getLong("Seconds_Behind_Master");
+                return resultSet.wasNull() ? Long.MAX_VALUE : lag;
+            } catch (SQLException e) {
+                if (!isUnsupported(e)) {
+                    throw e;
+                }
+                replica.disableLagQuery();
+                log.warn("replica {} 복제 지연 조회 불가, 응답 여부만 확인합니다 : {}", replica.getKey(), e.getMessage());
+            }
+        }
+        statement.execute("SELECT 1");
+        return 0;
+    }
+
+    // 42000 : 권한 없음(ER_SPECIFIC_ACCESS_DENIED_ERROR 등) 또는 문법 오류(SHOW SLAVE STATUS 가 없는 버전)
+    private static boolean isUnsupported(SQLException e) {
+        return SQL_STATE_ACCESS_OR_SYNTAX.equals(e.getSQLState());
     }
 }
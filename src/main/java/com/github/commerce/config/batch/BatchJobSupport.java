@@ -0,0 +1,109 @@
+package com.github.commerce.config.batch;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersInvalidException;
+import org.springframework.batch.core.configuration.annotation.JobBuilderFactory;
+import org.springframework.batch.core.configuration.annotation.StepBuilderFactory;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.launch.support.SimpleJobLauncher;
+import org.springframework.batch.core.repository.JobExecutionAlreadyRunningException;
+import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.repository.JobRestartException;
+import org.springframework.batch.core.repository.support.MapJobRepositoryFactoryBean;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.support.transaction.ResourcelessTransactionManager;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * job 별 실행 기록 방식(BatchMetadataMode)에 맞는 JobBuilder / StepBuilder / JobLauncher 를 돌려줍니다.
+ * job 과 그 step 은 같은 방식으로 만들어야 하므로 job 설정에서는 jobBuilderFactory 대신 이걸 씁니다.
+ * IN_MEMORY job 은 job 마다 따로 메모리 저장소를 두고, 실행이 끝날 때마다 비워서 실행 횟수와 상관없이 메모리가 늘지 않습니다.
+ */
+@Slf4j
+public class BatchJobSupport {
+
+    private final BatchMetadataProperties properties;
+    private final JobBuilderFactory jobBuilderFactory;
+    private final StepBuilderFactory stepBuilderFactory;
+    private final JobLauncher jobLauncher;
+    private final PlatformTransactionManager transactionManager;
+    private final Map<String, InMemoryRepository> inMemoryRepositories = new ConcurrentHashMap<>();
+
+    public BatchJobSupport(BatchMetadataProperties properties, JobBuilderFactory jobBuilderFactory,
+                           StepBuilderFactory stepBuilderFactory, JobLauncher jobLauncher,
+                           PlatformTransactionManager transactionManager) {
+        this.properties = properties;
+        this.jobBuilderFactory = jobBuilderFactory;
+        this.stepBuilderFactory = stepBuilderFactory;
+        this.jobLauncher = jobLauncher;
+        this.transactionManager = transactionManager;
+    }
+
+    public JobBuilder job(String jobName) {
+        if (properties.getMode(jobName) == BatchMetadataMode.IN_MEMORY) {
+            return inMemory(jobName).jobBuilderFactory.get(jobName);
+        }
+        return jobBuilderFactory.get(jobName);
+    }
+
+    public StepBuilder step(String jobName, String stepName) {
+        if (properties.getMode(jobName) == BatchMetadataMode.IN_MEMORY) {
+            return inMemory(jobName).stepBuilderFactory.get(stepName);
+        }
+        return stepBuilderFactory.get(stepName);
+    }
+
+    public JobExecution run(Job job, JobParameters jobParameters) throws JobExecutionAlreadyRunningException,
+            JobRestartException, JobInstanceAlreadyCompleteException, JobParametersInvalidException {
+        if (properties.getMode(job.getName()) != BatchMetadataMode.IN_MEMORY) {
+            return jobLauncher.run(job, jobParameters);
+        }
+
+        InMemoryRepository repository = inMemory(job.getName());
+        // 실행이 끝나면 비우므로 같은 job 은 한 번에 하나씩
+        synchronized (repository) {
+            try {
+                return repository.jobLauncher.run(job, jobParameters);
+            } finally {
+                repository.factory.clear();
+            }
+        }
+    }
+
+    private InMemoryRepository inMemory(String jobName) {
+        return inMemoryRepositories.computeIfAbsent(jobName, name -> new InMemoryRepository(transactionManager));
+    }
+
+    // Spring Batch 4 의 Map 저장소 (5 에서 제거되면 embedded DB 저장소로 교체)
+    @SuppressWarnings("deprecation")
+    private static class InMemoryRepository {
+        private final MapJobRepositoryFactoryBean factory;
+        private final JobBuilderFactory jobBuilderFactory;
+        private final StepBuilderFactory stepBuilderFactory;
+        private final SimpleJobLauncher jobLauncher;
+
+        private InMemoryRepository(PlatformTransactionManager transactionManager) {
+            try {
+                // 메타데이터는 메모리에만 있으므로 저장소는 DB 트랜잭션 없이, step(chunk) 은 JPA 트랜잭션으로
+                this.factory = new MapJobRepositoryFactoryBean(new ResourcelessTransactionManager());
+                this.factory.afterPropertiesSet();
+                JobRepository jobRepository = factory.getObject();
+                this.jobBuilderFactory = new JobBuilderFactory(jobRepository);
+                this.stepBuilderFactory = new StepBuilderFactory(jobRepository, transactionManager);
+                this.jobLauncher = new SimpleJobLauncher();
+                this.jobLauncher.setJobRepository(jobRepository);
+                this.jobLauncher.afterPropertiesSet();
+            } catch (Exception e) {
+                throw new IllegalStateException("메모리 job 저장소 생성 실패", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.github.commerce.config.batch;
+
+public enum BatchMetadataMode {
+    // BATCH_* 테이블(master DB)에 실행 기록, 실패 후 재시작 가능 (오래된 기록은 BatchMetadataPruneJob 이 삭제)
+    JDBC,
+    // 메모리에만 기록하고 실행이 끝나면 버림, 재시작이 필요 없는 멱등 작업용
+    IN_MEMORY
+}
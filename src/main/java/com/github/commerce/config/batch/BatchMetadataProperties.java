@@ -0,0 +1,26 @@
+package com.github.commerce.config.batch;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * batch.metadata 아래의 Spring Batch 실행 기록 설정.
+ * jobs 의 key 는 job 이름 그대로 (대소문자 유지를 위해 yml 에서 "[jobName]" 형식으로 씀)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "batch.metadata")
+public class BatchMetadataProperties {
+    private BatchMetadataMode defaultMode = BatchMetadataMode.JDBC;
+    private Map<String, BatchMetadataMode> jobs = new HashMap<>();
+    // JDBC 모드 실행 기록 보관 기간
+    private long retentionDays = 30;
+
+    public BatchMetadataMode getMode(String jobName) {
+        return jobs.getOrDefault(jobName, defaultMode);
+    }
+}
@@ -0,0 +1,99 @@
+package com.github.commerce.config.batch;
+
+import com.github.commerce.service.scheduler.ClusterJob;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * JDBC 모드 job 의 오래된 실행 기록(BATCH_* 테이블) 삭제.
+ * 끝난 지 batch.metadata.retention-days 가 지난 JobExecution 을 BATCH_SIZE 개씩, 묶음마다 한 트랜잭션으로
+ * 자식 테이블부터 지우고, 실행이 하나도 남지 않은 JobInstance 도 지웁니다. (실행 중인 execution 은 END_TIME 이 없어 제외)
+ */
+@Slf4j
+@Component
+public class BatchMetadataPruneJob implements ClusterJob { //매일 새벽 5시
+
+    private static final int BATCH_SIZE = 500;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final BatchMetadataProperties batchMetadataProperties;
+
+    public BatchMetadataPruneJob(NamedParameterJdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                 BatchMetadataProperties batchMetadataProperties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchMetadataProperties = batchMetadataProperties;
+    }
+
+    @Override
+    public String getName() {
+        return "batchMetadataPrune";
+    }
+
+    @Override
+    public String getCron() {
+        return "0 0 5 * * *";
+    }
+
+    @Override
+    public Duration getLeaseTime() {
+        return Duration.ofMinutes(30);
+    }
+
+    @Override
+    public void run() {
+        Timestamp threshold = Timestamp.valueOf(LocalDateTime.now().minusDays(batchMetadataProperties.getRetentionDays()));
+        int total = 0;
+        while (true) {
+            Integer deleted = transactionTemplate.execute(status -> pruneBatch(threshold));
+            if (deleted == null || deleted == 0) {
+                break;
+            }
+            total += deleted;
+            if (deleted < BATCH_SIZE) {
+                break;
+            }
+        }
+        log.info("Spring Batch 실행 기록 삭제 : {}건", total);
+    }
+
+    private int pruneBatch(Timestamp threshold) {
+        List<Long> executionIds = new ArrayList<>();
+        Set<Long> instanceIds = new TreeSet<>();
+        jdbcTemplate.query("SELECT JOB_EXECUTION_ID, JOB_INSTANCE_ID FROM BATCH_JOB_EXECUTION " +
+                        "WHERE END_TIME < :threshold ORDER BY JOB_EXECUTION_ID LIMIT " + BATCH_SIZE,
+                new MapSqlParameterSource("threshold", threshold),
+                rs -> {
+                    executionIds.add(rs.getLong("JOB_EXECUTION_ID"));
+                    instanceIds.add(rs.getLong("JOB_INSTANCE_ID"));
+                });
+        if (executionIds.isEmpty()) {
+            return 0;
+        }
+
+        MapSqlParameterSource params = new MapSqlParameterSource("ids", executionIds)
+                .addValue("instanceIds", instanceIds);
+        jdbcTemplate.update("DELETE FROM BATCH_STEP_EXECUTION_CONTEXT WHERE STEP_EXECUTION_ID IN " +
+                "(SELECT STEP_EXECUTION_ID FROM BATCH_STEP_EXECUTION WHERE JOB_EXECUTION_ID IN (:ids))", params);
+        jdbcTemplate.update("DELETE FROM BATCH_STEP_EXECUTION WHERE JOB_EXECUTION_ID IN (:ids)", params);
+        jdbcTemplate.update("DELETE FROM BATCH_JOB_EXECUTION_CONTEXT WHERE JOB_EXECUTION_ID IN (:ids)", params);
+        jdbcTemplate.update("DELETE FROM BATCH_JOB_EXECUTION_PARAMS WHERE JOB_EXECUTION_ID IN (:ids)", params);
+        jdbcTemplate.update("DELETE FROM BATCH_JOB_EXECUTION WHERE JOB_EXECUTION_ID IN (:ids)", params);
+        jdbcTemplate.update("DELETE FROM BATCH_JOB_INSTANCE WHERE JOB_INSTANCE_ID IN (:instanceIds) " +
+                "AND NOT EXISTS (SELECT 1 FROM BATCH_JOB_EXECUTION e WHERE e.JOB_INSTANCE_ID = BATCH_JOB_INSTANCE.JOB_INSTANCE_ID)", params);
+        return executionIds.size();
+    }
+}
@@ -25,15 +25,13 @@ public class ExpiredUsersCouponJobConfig {
 
     private final UsersCouponRepository usersCouponRepository;
 
+    //job 별 실행 기록 방식(BatchConfiguration)에 맞는 builder
     @Autowired
-    private JobBuilderFactory jobBuilderFactory;
-
-    @Autowired
-    private StepBuilderFactory stepBuilderFactory;
+    private BatchJobSupport batchJobSupport;
 
     @Bean
     public Job expiredUsersCouponJob(Step expiredUsersCouponStep){
-        return jobBuilderFactory.get("expiredUsersCouponJob")
+        return batchJobSupport.job("expiredUsersCouponJob")
                 .incrementer(new RunIdIncrementer())
                 .start(expiredUsersCouponStep())
                 .build();
@@ -43,7 +41,7 @@ public class ExpiredUsersCouponJobConfig {
     @JobScope
     @Bean
     public Step expiredUsersCouponStep(){
-        return stepBuilderFactory.get("expiredUsersCouponStep")
+        return batchJobSupport.step("expiredUsersCouponJob", "expiredUsersCouponStep")
                 .tasklet(expiredUsersCouponTasklet())
                 .build();
     }
@@ -0,0 +1,77 @@
+package com.github.commerce.config.batch;
+
+import com.github.commerce.service.analytics.SellerAnalyticsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.*;
+import org.springframework.batch.core.launch.support.RunIdIncrementer;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.LocalDate;
+
+/**
+ * 판매 집계(seller_daily_sales) backfill.
+ * jobParameters 의 from ~ to (yyyy-MM-dd, 양끝 포함) 를 하루씩, 하루당 한 트랜잭션으로 다시 만듭니다.
+ * 진행 중인 날짜를 step ExecutionContext 에 남겨 실패 후 재시작하면 그 날부터 이어갑니다.
+ */
+@Slf4j
+@Configuration
+@EnableBatchProcessing
+@RequiredArgsConstructor
+public class SellerSalesBackfillJobConfig {
+    private static final String CURRENT_DATE_KEY = "currentDate";
+
+    private final SellerAnalyticsService sellerAnalyticsService;
+
+    //job 별 실행 기록 방식(BatchConfiguration)에 맞는 builder
+    @Autowired
+    private BatchJobSupport batchJobSupport;
+
+    @Bean
+    public Job sellerSalesBackfillJob(Step sellerSalesBackfillStep){
+        return batchJobSupport.job("sellerSalesBackfillJob")
+                .incrementer(new RunIdIncrementer())
+                .start(sellerSalesBackfillStep)
+                .build();
+    }
+
+    @JobScope
+    @Bean
+    public Step sellerSalesBackfillStep(){
+        return batchJobSupport.step("sellerSalesBackfillJob", "sellerSalesBackfillStep")
+                .tasklet(sellerSalesBackfillTasklet(null, null))
+                .build();
+    }
+
+    //execute 한 번에 하루씩 처리
+    @StepScope
+    @Bean
+    public Tasklet sellerSalesBackfillTasklet(
+            @Value("#{jobParameters['from']}") String from,
+            @Value("#{jobParameters['to']}") String to
+    ){
+        LocalDate endDate = LocalDate.parse(to);
+        return (contribution, chunkContext) -> {
+            ExecutionContext executionContext = chunkContext.getStepContext().getStepExecution().getExecutionContext();
+            LocalDate salesDate = LocalDate.parse(executionContext.getString(CURRENT_DATE_KEY, from));
+            if (salesDate.isAfter(endDate)) {
+                return RepeatStatus.FINISHED;
+            }
+
+            int rows = sellerAnalyticsService.rebuildDay(salesDate);
+            log.info("판매 집계 backfill {} : {}건", salesDate, rows);
+            contribution.incrementWriteCount(rows);
+
+            executionContext.putString(CURRENT_DATE_KEY, salesDate.plusDays(1).toString());
+            return RepeatStatus.CONTINUABLE;
+        };
+    }
+}
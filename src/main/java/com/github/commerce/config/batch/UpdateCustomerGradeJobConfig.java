@@ -32,15 +32,13 @@ public class UpdateCustomerGradeJobConfig {
     private final UserInfoRepository userInfoRepository;
     private final OrderRepository orderRepository;
 
+    //job 별 실행 기록 방식(BatchConfiguration)에 맞는 builder
     @Autowired
-    private JobBuilderFactory jobBuilderFactory;
-
-    @Autowired
-    private StepBuilderFactory stepBuilderFactory;
+    private BatchJobSupport batchJobSupport;
 
     @Bean
     public Job updateCustomerGradeJob(Step updateCustomerGradeStep){
-        return jobBuilderFactory.get("updateCustomerGradeJob")
+        return batchJobSupport.job("updateCustomerGradeJob")
                 .incrementer(new RunIdIncrementer())
                 .start(updateCustomerGradeStep())
                 .build();
@@ -50,7 +48,7 @@ public class UpdateCustomerGradeJobConfig {
     @JobScope
     @Bean
     public Step updateCustomerGradeStep(){
-        return stepBuilderFactory.get("updateCustomerGradeStep")
+        return batchJobSupport.step("updateCustomerGradeJob", "updateCustomerGradeStep")
                 .tasklet(updateCustomerGradeTasklet())
                 .build();
     }
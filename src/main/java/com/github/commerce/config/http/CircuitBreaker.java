@@ -0,0 +1,63 @@
+package com.github.commerce.config.http;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * host 하나의 circuit breaker.
+ * 연속 실패가 failureThreshold 번이면 openMillis 동안 요청을 바로 거절(OPEN)하고,
+ * 그 뒤 요청 하나만 시험으로 보내(HALF_OPEN) 성공하면 다시 닫고 실패하면 다시 엽니다.
+ */
+public class CircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final int failureThreshold;
+    private final long openMillis;
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicBoolean trialInFlight = new AtomicBoolean();
+    private volatile long openUntil; //0 이면 닫힘
+
+    public CircuitBreaker(int failureThreshold, long openMillis) {
+        this.failureThreshold = failureThreshold;
+        this.openMillis = openMillis;
+    }
+
+    public boolean tryAcquire() {
+        long until = openUntil;
+        if (until == 0) {
+            return true;
+        }
+        if (System.currentTimeMillis() < until) {
+            return false;
+        }
+        // 열린 시간이 지나면 시험 요청 하나만 통과
+        return trialInFlight.compareAndSet(false, true);
+    }
+
+    public void onSuccess() {
+        consecutiveFailures.set(0);
+        openUntil = 0;
+        trialInFlight.set(false);
+    }
+
+    public void onFailure() {
+        if (consecutiveFailures.incrementAndGet() >= failureThreshold || trialInFlight.get()) {
+            openUntil = System.currentTimeMillis() + openMillis;
+        }
+        trialInFlight.set(false);
+    }
+
+    // 거절 등으로 보내지 못한 요청이 시험 요청이었다면 자리를 돌려줌
+    public void release() {
+        trialInFlight.set(false);
+    }
+
+    public State getState() {
+        long until = openUntil;
+        if (until == 0) {
+            return State.CLOSED;
+        }
+        return System.currentTimeMillis() < until ? State.OPEN : State.HALF_OPEN;
+    }
+}
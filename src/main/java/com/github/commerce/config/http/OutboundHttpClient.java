@@ -0,0 +1,143 @@
+package com.github.commerce.config.http;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 외부 API(카카오 등) 호출용 공용 HTTP client.
+ * - JDK HttpClient 하나를 공유해 host 별 keep-alive 커넥션을 재사용하고, 응답은 요청 스레드를 잡지 않고 비동기로 받습니다.
+ * - host 별 동시 요청 수를 max-concurrent-per-host 로 제한하고, 넘으면 기다리지 않고 바로 실패시킵니다.
+ *   (동시 요청 수가 곧 커넥션 수이므로 커넥션 수도 같이 제한됨)
+ * - host 별 circuit breaker 로 연속 실패(timeout, 연결 실패, 5xx) 시 일정 시간 호출 없이 바로 실패시킵니다.
+ */
+@Slf4j
+@Component
+public class OutboundHttpClient implements DisposableBean {
+
+    private final HttpClient httpClient;
+    private final ExecutorService executor;
+    private final MeterRegistry meterRegistry;
+    private final Duration requestTimeout;
+    private final int maxConcurrentPerHost;
+    private final int failureThreshold;
+    private final long openMillis;
+    private final Map<String, HostGate> gates = new ConcurrentHashMap<>();
+
+    public OutboundHttpClient(MeterRegistry meterRegistry,
+                              @Value("${http.outbound.threads:8}") int threads,
+                              @Value("${http.outbound.connect-timeout-millis:2000}") long connectTimeoutMillis,
+                              @Value("${http.outbound.request-timeout-millis:3000}") long requestTimeoutMillis,
+                              @Value("${http.outbound.max-concurrent-per-host:20}") int maxConcurrentPerHost,
+                              @Value("${http.outbound.circuit-breaker.failure-threshold:5}") int failureThreshold,
+                              @Value("${http.outbound.circuit-breaker.open-millis:10000}") long openMillis) {
+        this.meterRegistry = meterRegistry;
+        this.requestTimeout = Duration.ofMillis(requestTimeoutMillis);
+        this.maxConcurrentPerHost = maxConcurrentPerHost;
+        this.failureThreshold = failureThreshold;
+        this.openMillis = openMillis;
+        this.executor = Executors.newFixedThreadPool(threads, new CustomizableThreadFactory("outbound-http-"));
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMillis))
+                .executor(executor)
+                .build();
+    }
+
+    // 응답을 받으면 status 와 상관없이 정상 완료, 받지 못하면 OutboundHttpException 으로 완료
+    public CompletableFuture<HttpResponse<String>> send(HttpRequest.Builder request) {
+        HttpRequest httpRequest = request.timeout(requestTimeout).build();
+        String host = httpRequest.uri().getHost();
+        HostGate gate = gates.computeIfAbsent(host, this::createGate);
+
+        if (!gate.circuitBreaker.tryAcquire()) {
+            record(host, "circuit_open", 0);
+            return CompletableFuture.failedFuture(new OutboundHttpException(host, OutboundHttpException.Reason.CIRCUIT_OPEN, null));
+        }
+        if (!gate.permits.tryAcquire()) {
+            gate.circuitBreaker.release();
+            record(host, "host_busy", 0);
+            return CompletableFuture.failedFuture(new OutboundHttpException(host, OutboundHttpException.Reason.HOST_BUSY, null));
+        }
+
+        long start = System.nanoTime();
+        CompletableFuture<HttpResponse<String>> result = new CompletableFuture<>();
+        httpClient.sendAsync(httpRequest, HttpResponse.BodyHandlers.ofString())
+                .whenComplete((response, e) -> {
+                    gate.permits.release();
+                    long elapsed = System.nanoTime() - start;
+                    if (e != null) {
+                        gate.circuitBreaker.onFailure();
+                        record(host, "io_error", elapsed);
+                        log.warn("외부 API 호출 실패 {} : {}", host, e.getMessage());
+                        result.completeExceptionally(new OutboundHttpException(host, OutboundHttpException.Reason.IO_ERROR, e));
+                        return;
+                    }
+                    if (response.statusCode() >= 500) {
+                        gate.circuitBreaker.onFailure();
+                    } else {
+                        gate.circuitBreaker.onSuccess();
+                    }
+                    record(host, Integer.toString(response.statusCode()), elapsed);
+                    result.complete(response);
+                });
+        return result;
+    }
+
+    public CircuitBreaker.State getCircuitState(String host) {
+        HostGate gate = gates.get(host);
+        return gate == null ? CircuitBreaker.State.CLOSED : gate.circuitBreaker.getState();
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private HostGate createGate(String host) {
+        HostGate gate = new HostGate(new Semaphore(maxConcurrentPerHost), new CircuitBreaker(failureThreshold, openMillis));
+        Gauge.builder("http.client.outbound.in.flight", gate.permits, permits -> maxConcurrentPerHost - permits.availablePermits())
+                .tag("host", host)
+                .register(meterRegistry);
+        Gauge.builder("http.client.outbound.circuit.open", gate.circuitBreaker,
+                        breaker -> breaker.getState() == CircuitBreaker.State.OPEN ? 1 : 0)
+                .tag("host", host)
+                .register(meterRegistry);
+        return gate;
+    }
+
+    private void record(String host, String outcome, long elapsedNanos) {
+        Timer.builder("http.client.outbound")
+                .tag("host", host)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private static class HostGate {
+        private final Semaphore permits;
+        private final CircuitBreaker circuitBreaker;
+
+        private HostGate(Semaphore permits, CircuitBreaker circuitBreaker) {
+            this.permits = permits;
+            this.circuitBreaker = circuitBreaker;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.github.commerce.config.http;
+
+import lombok.Getter;
+
+/**
+ * 외부 API 호출이 응답을 받지 못하고 끝난 경우 (circuit open, host 동시 요청 초과, timeout, 연결 실패).
+ * 응답을 받은 경우(4xx/5xx 포함)는 호출한 쪽에서 status 로 판단합니다.
+ */
+@Getter
+public class OutboundHttpException extends RuntimeException {
+
+    public enum Reason { CIRCUIT_OPEN, HOST_BUSY, IO_ERROR }
+
+    private final String host;
+    private final Reason reason;
+
+    public OutboundHttpException(String host, Reason reason, Throwable cause) {
+        super(host + " 호출 실패 : " + reason, cause);
+        this.host = host;
+        this.reason = reason;
+    }
+}
@@ -0,0 +1,84 @@
+package com.github.commerce.config.metrics;
+
+import org.hibernate.HibernateException;
+import org.hibernate.boot.Metadata;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.InitializeCollectionEvent;
+import org.hibernate.event.spi.InitializeCollectionEventListener;
+import org.hibernate.event.spi.LoadEvent;
+import org.hibernate.event.spi.LoadEventListener;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+
+/**
+ * lazy 컬렉션 초기화 / 프록시 초기화 / eager 연관관계 로딩 중에 실행된 statement 를
+ * "lazy User.payMoney", "lazy Seller", "eager Product" 처럼 연관관계에 귀속시킵니다.
+ * Hibernate 기본 listener 앞뒤에 push/pop listener 를 등록합니다.
+ */
+public class LazyLoadTracker implements Integrator {
+
+    @Override
+    public void integrate(Metadata metadata, SessionFactoryImplementor sessionFactory,
+                          SessionFactoryServiceRegistry serviceRegistry) {
+        EventListenerRegistry registry = serviceRegistry.getService(EventListenerRegistry.class);
+        registry.prependListeners(EventType.INIT_COLLECTION, new CollectionStart());
+        registry.appendListeners(EventType.INIT_COLLECTION, new CollectionEnd());
+        registry.prependListeners(EventType.LOAD, new LoadStart());
+        registry.appendListeners(EventType.LOAD, new LoadEnd());
+    }
+
+    @Override
+    public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+    }
+
+    // com.github.commerce.entity.User.payMoney -> User.payMoney
+    private static String role(String role) {
+        int property = role.lastIndexOf('.');
+        return property < 0 ? role : StatementOrigin.simpleName(role.substring(0, property)) + role.substring(property);
+    }
+
+    private static String loadLabel(LoadEventListener.LoadType loadType) {
+        if (loadType == LoadEventListener.IMMEDIATE_LOAD) {
+            return "lazy ";
+        }
+        if (loadType == LoadEventListener.INTERNAL_LOAD_EAGER || loadType == LoadEventListener.INTERNAL_LOAD_NULLABLE) {
+            return "eager ";
+        }
+        return null;
+    }
+
+    private static class CollectionStart implements InitializeCollectionEventListener {
+        @Override
+        public void onInitializeCollection(InitializeCollectionEvent event) throws HibernateException {
+            StatementOrigin.push(event, "lazy " + role(event.getCollection().getRole()));
+        }
+    }
+
+    private static class CollectionEnd implements InitializeCollectionEventListener {
+        @Override
+        public void onInitializeCollection(InitializeCollectionEvent event) throws HibernateException {
+            StatementOrigin.pop(event);
+        }
+    }
+
+    private static class LoadStart implements LoadEventListener {
+        @Override
+        public void onLoad(LoadEvent event, LoadType loadType) throws HibernateException {
+            String label = loadLabel(loadType);
+            if (label != null) {
+                StatementOrigin.push(event, label + StatementOrigin.simpleName(event.getEntityClassName()));
+            }
+        }
+    }
+
+    private static class LoadEnd implements LoadEventListener {
+        @Override
+        public void onLoad(LoadEvent event, LoadType loadType) throws HibernateException {
+            if (loadLabel(loadType) != null) {
+                StatementOrigin.pop(event);
+            }
+        }
+    }
+}
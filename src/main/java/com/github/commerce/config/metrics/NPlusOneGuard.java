@@ -0,0 +1,168 @@
+package com.github.commerce.config.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 / 트랜잭션 단위 statement 수를 검사해 N+1 을 잡습니다. (metrics.n-plus-one.enabled)
+ * - 전체 statement 수가 max-statements-per-request / max-statements-per-transaction 초과
+ * - 같은 SQL 이 max-repeated-statements 번 이상 반복 (루프 안 lazy 로딩의 전형적인 모양)
+ * mode=log 면 원인(repository 메서드 / 연관관계 / 호출 위치)과 함께 WARN 로그, mode=fail 이면 QueryCountExceededException.
+ * 트랜잭션 검사는 커밋 직전(beforeCommit)에 영속성 컨텍스트를 flush 한 뒤 하므로 fail 이면 트랜잭션이 롤백됩니다.
+ * 통계는 트랜잭션마다 따로 두고 REQUIRES_NEW 로 바깥 트랜잭션이 보류되면 같이 보류(unbind)해서 섞이지 않게 합니다.
+ */
+@Slf4j
+@Component
+public class NPlusOneGuard {
+    private static final String TRANSACTION_STATS_KEY = NPlusOneGuard.class.getName() + ".transaction";
+
+    private final boolean enabled;
+    private final boolean failOnViolation;
+    private final int maxStatementsPerRequest;
+    private final int maxStatementsPerTransaction;
+    private final int maxRepeatedStatements;
+    private final Counter requestViolations;
+    private final Counter transactionViolations;
+
+    public NPlusOneGuard(
+            MeterRegistry meterRegistry,
+            @Value("${metrics.n-plus-one.enabled:false}") boolean enabled,
+            @Value("${metrics.n-plus-one.mode:log}") String mode,
+            @Value("${metrics.n-plus-one.max-statements-per-request:30}") int maxStatementsPerRequest,
+            @Value("${metrics.n-plus-one.max-statements-per-transaction:20}") int maxStatementsPerTransaction,
+            @Value("${metrics.n-plus-one.max-repeated-statements:5}") int maxRepeatedStatements
+    ) {
+        this.enabled = enabled;
+        this.failOnViolation = "fail".equalsIgnoreCase(mode);
+        this.maxStatementsPerRequest = maxStatementsPerRequest;
+        this.maxStatementsPerTransaction = maxStatementsPerTransaction;
+        this.maxRepeatedStatements = maxRepeatedStatements;
+        this.requestViolations = violationCounter(meterRegistry, "request");
+        this.transactionViolations = violationCounter(meterRegistry, "transaction");
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // QueryMetricsDataSource 에서 statement 실행마다 호출
+    void onStatement(String sql, long nanos) {
+        String origin = enabled ? StatementOrigin.describe() : null;
+        RequestQueryContext.record(sql, nanos, origin);
+        if (enabled && TransactionSynchronizationManager.isSynchronizationActive()) {
+            transactionStats().record(sql, nanos, origin);
+        }
+    }
+
+    // RequestMetricsFilter 에서 요청이 끝날 때 호출
+    void checkRequest(String name, QueryStats stats) {
+        if (enabled) {
+            check("요청", name, stats, maxStatementsPerRequest, requestViolations);
+        }
+    }
+
+    private QueryStats transactionStats() {
+        QueryStats stats = (QueryStats) TransactionSynchronizationManager.getResource(TRANSACTION_STATS_KEY);
+        if (stats != null) {
+            return stats;
+        }
+        QueryStats newStats = new QueryStats();
+        String transactionName = TransactionSynchronizationManager.getCurrentTransactionName();
+        String name = transactionName == null ? "(이름 없음)" : transactionName;
+        TransactionSynchronizationManager.bindResource(TRANSACTION_STATS_KEY, newStats);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionStatsSynchronization(name, newStats));
+        return newStats;
+    }
+
+    // 다른 동기화(JPA flush 등)가 끝난 뒤 검사하도록 가장 마지막 순서
+    private class TransactionStatsSynchronization implements TransactionSynchronization {
+        private final String name;
+        private final QueryStats stats;
+
+        private TransactionStatsSynchronization(String name, QueryStats stats) {
+            this.name = name;
+            this.stats = stats;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.LOWEST_PRECEDENCE;
+        }
+
+        // REQUIRES_NEW / NOT_SUPPORTED 로 보류될 때 안쪽 트랜잭션이 새 통계를 쓰도록 내려 둠
+        @Override
+        public void suspend() {
+            TransactionSynchronizationManager.unbindResourceIfPossible(TRANSACTION_STATS_KEY);
+        }
+
+        @Override
+        public void resume() {
+            TransactionSynchronizationManager.bindResource(TRANSACTION_STATS_KEY, stats);
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            if (!readOnly) {
+                flushPersistenceContexts();
+            }
+            check("트랜잭션", name, stats, maxStatementsPerTransaction, transactionViolations);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(TRANSACTION_STATS_KEY);
+        }
+    }
+
+    // 커밋 시점에 나갈 insert/update 도 검사 대상에 넣기 위해 먼저 flush (커밋 때는 flush 할 내용이 없어짐)
+    private static void flushPersistenceContexts() {
+        for (Object resource : TransactionSynchronizationManager.getResourceMap().values()) {
+            if (resource instanceof EntityManagerHolder) {
+                ((EntityManagerHolder) resource).getEntityManager().flush();
+            }
+        }
+    }
+
+    private void check(String scope, String name, QueryStats stats, int maxStatements, Counter violations) {
+        List<String> problems = new ArrayList<>();
+        if (maxStatements > 0 && stats.getStatementCount() > maxStatements) {
+            problems.add(String.format("statement %d개 (기준 %d개)", stats.getStatementCount(), maxStatements));
+        }
+        for (QueryStats.SqlStats sqlStats : stats.getBySql().values()) {
+            if (maxRepeatedStatements > 0 && sqlStats.getCount() >= maxRepeatedStatements) {
+                problems.add(String.format("같은 SQL %d회 %.2fms, 원인 %s%n      %s",
+                        sqlStats.getCount(), TimeUnit.NANOSECONDS.toMicros(sqlStats.getNanos()) / 1000.0,
+                        sqlStats.getOrigins(), sqlStats.getSql()));
+            }
+        }
+        if (problems.isEmpty()) {
+            return;
+        }
+
+        violations.increment();
+        String message = String.format("N+1 의심 %s %s%n  - %s", scope, name,
+                String.join(System.lineSeparator() + "  - ", problems));
+        if (failOnViolation) {
+            throw new QueryCountExceededException(message);
+        }
+        log.warn(message);
+    }
+
+    private static Counter violationCounter(MeterRegistry meterRegistry, String scope) {
+        return Counter.builder("jdbc.n_plus_one.violations")
+                .description("statement 수 기준을 넘은 요청/트랜잭션 수")
+                .tag("scope", scope)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,29 @@
+package com.github.commerce.config.metrics;
+
+import org.hibernate.jpa.boot.internal.EntityManagerFactoryBuilderImpl;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Collections;
+
+/**
+ * N+1 검사를 켰을 때만 statement 원인 추적(repository 메서드, lazy 연관관계)을 등록합니다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "metrics.n-plus-one", name = "enabled", havingValue = "true")
+public class NPlusOneGuardConfiguration {
+
+    @Bean
+    public static RepositoryMethodTracker repositoryMethodTracker() {
+        return new RepositoryMethodTracker();
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer lazyLoadTrackerCustomizer() {
+        return properties -> properties.put(EntityManagerFactoryBuilderImpl.INTEGRATOR_PROVIDER,
+                (IntegratorProvider) () -> Collections.singletonList(new LazyLoadTracker()));
+    }
+}
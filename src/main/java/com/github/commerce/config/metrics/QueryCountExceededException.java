@@ -0,0 +1,10 @@
+package com.github.commerce.config.metrics;
+
+/**
+ * metrics.n-plus-one.mode=fail 일 때 요청/트랜잭션의 statement 수가 기준을 넘으면 발생합니다. (테스트용)
+ */
+public class QueryCountExceededException extends IllegalStateException {
+    public QueryCountExceededException(String message) {
+        super(message);
+    }
+}
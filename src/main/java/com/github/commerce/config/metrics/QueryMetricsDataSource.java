@@ -0,0 +1,137 @@
+package com.github.commerce.config.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Connection / Statement 를 감싸 execute* 호출마다 실행 시간을 잽니다.
+ * - jdbc.statements (operation=select|insert|update|delete|other) 타이머
+ * - 요청 중이면 RequestQueryContext 에 SQL 과 시간 기록, N+1 검사를 켰으면 트랜잭션 단위로도 집계 (NPlusOneGuard)
+ */
+public class QueryMetricsDataSource extends DelegatingDataSource {
+    private static final String[] OPERATIONS = {"select", "insert", "update", "delete"};
+
+    private final MeterRegistry meterRegistry;
+    private final NPlusOneGuard nPlusOneGuard;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    public QueryMetricsDataSource(DataSource targetDataSource, MeterRegistry meterRegistry, NPlusOneGuard nPlusOneGuard) {
+        super(targetDataSource);
+        this.meterRegistry = meterRegistry;
+        this.nPlusOneGuard = nPlusOneGuard;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private Connection wrap(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{Connection.class}, new ConnectionHandler(connection));
+    }
+
+    private void record(String sql, long nanos) {
+        timers.computeIfAbsent(operation(sql), operation -> Timer.builder("jdbc.statements")
+                        .description("JDBC statement 실행 시간")
+                        .tag("operation", operation)
+                        .register(meterRegistry))
+                .record(nanos, TimeUnit.NANOSECONDS);
+        nPlusOneGuard.onStatement(sql, nanos);
+    }
+
+    private static String operation(String sql) {
+        if (sql == null) {
+            return "other";
+        }
+        String head = sql.trim();
+        head = head.substring(0, Math.min(6, head.length())).toLowerCase(Locale.ROOT);
+        for (String operation : OPERATIONS) {
+            if (head.equals(operation)) {
+                return operation;
+            }
+        }
+        return "other";
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    private class ConnectionHandler implements InvocationHandler {
+        private final Connection connection;
+
+        private ConnectionHandler(Connection connection) {
+            this.connection = connection;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = QueryMetricsDataSource.invoke(connection, method, args);
+            switch (method.getName()) {
+                case "prepareStatement":
+                    return wrapStatement(PreparedStatement.class, (Statement) result, (String) args[0]);
+                case "prepareCall":
+                    return wrapStatement(CallableStatement.class, (Statement) result, (String) args[0]);
+                case "createStatement":
+                    return wrapStatement(Statement.class, (Statement) result, null);
+                default:
+                    return result;
+            }
+        }
+
+        private Object wrapStatement(Class<? extends Statement> type, Statement statement, String sql) {
+            return Proxy.newProxyInstance(QueryMetricsDataSource.class.getClassLoader(),
+                    new Class<?>[]{type}, new StatementHandler(statement, sql));
+        }
+    }
+
+    private class StatementHandler implements InvocationHandler {
+        private final Statement statement;
+        private final String preparedSql;
+
+        private StatementHandler(Statement statement, String preparedSql) {
+            this.statement = statement;
+            this.preparedSql = preparedSql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (!method.getName().startsWith("execute")) {
+                return QueryMetricsDataSource.invoke(statement, method, args);
+            }
+            String sql = args != null && args.length > 0 && args[0] instanceof String ? (String) args[0] : preparedSql;
+            long start = System.nanoTime();
+            try {
+                return QueryMetricsDataSource.invoke(statement, method, args);
+            } finally {
+                record(sql, System.nanoTime() - start);
+            }
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.github.commerce.config.metrics;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 한 범위(요청 / 트랜잭션) 안에서 실행된 statement 를 SQL 별로 집계합니다.
+ * 같은 SQL 이 여러 번 실행되면 N+1 을 의심할 수 있고, origins 에 원인(repository 메서드 / lazy 연관관계 / 호출 위치)이 남습니다.
+ */
+public class QueryStats {
+    private static final int MAX_DISTINCT_SQL = 500;
+    private static final int MAX_ORIGINS = 3;
+    private static final String OTHER_SQL = "(기타)";
+
+    private final Map<String, SqlStats> bySql = new LinkedHashMap<>();
+    private int statementCount;
+    private long statementNanos;
+
+    public void record(String sql, long nanos, String origin) {
+        statementCount++;
+        statementNanos += nanos;
+        String key = sql == null ? OTHER_SQL : sql;
+        SqlStats stats = bySql.get(key);
+        if (stats == null) {
+            if (bySql.size() >= MAX_DISTINCT_SQL) {
+                key = OTHER_SQL;
+            }
+            stats = bySql.computeIfAbsent(key, SqlStats::new);
+        }
+        stats.count++;
+        stats.nanos += nanos;
+        if (origin != null && stats.origins.size() < MAX_ORIGINS) {
+            stats.origins.add(origin);
+        }
+    }
+
+    public int getStatementCount() {
+        return statementCount;
+    }
+
+    public long getStatementNanos() {
+        return statementNanos;
+    }
+
+    public Map<String, SqlStats> getBySql() {
+        return Collections.unmodifiableMap(bySql);
+    }
+
+    public static class SqlStats {
+        private final String sql;
+        private final Set<String> origins = new LinkedHashSet<>();
+        private int count;
+        private long nanos;
+
+        private SqlStats(String sql) {
+            this.sql = sql;
+        }
+
+        public String getSql() {
+            return sql;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public long getNanos() {
+            return nanos;
+        }
+
+        public Set<String> getOrigins() {
+            return Collections.unmodifiableSet(origins);
+        }
+    }
+}
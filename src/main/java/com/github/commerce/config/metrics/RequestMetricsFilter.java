@@ -0,0 +1,115 @@
+package com.github.commerce.config.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청별 JDBC statement 수 / 시간을 endpoint(uri 패턴) 단위로 기록하고,
+ * 느린 요청은 실행된 SQL 목록과 함께 로그로 남기고, 요청 단위 N+1 검사(NPlusOneGuard)를 합니다.
+ * (endpoint 별 응답시간 타이머/히스토그램은 actuator 의 http.server.requests)
+ * security 필터의 사용자 조회까지 포함되도록 가장 먼저 실행됩니다.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestMetricsFilter extends OncePerRequestFilter {
+    private static final String UNMAPPED = "UNMAPPED";
+
+    private final MeterRegistry meterRegistry;
+    private final NPlusOneGuard nPlusOneGuard;
+    private final long slowRequestMillis;
+    private final int maxCapturedQueries;
+
+    public RequestMetricsFilter(
+            MeterRegistry meterRegistry,
+            NPlusOneGuard nPlusOneGuard,
+            @Value("${metrics.slow-request-millis:500}") long slowRequestMillis,
+            @Value("${metrics.max-captured-queries:50}") int maxCapturedQueries
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.nPlusOneGuard = nPlusOneGuard;
+        this.slowRequestMillis = slowRequestMillis;
+        this.maxCapturedQueries = maxCapturedQueries;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long start = System.nanoTime();
+        RequestQueryContext.open(maxCapturedQueries);
+        RequestQueryContext context;
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            context = RequestQueryContext.close();
+            StatementOrigin.clear();
+            record(request, response, context, System.nanoTime() - start);
+        }
+        // 요청이 정상 처리된 경우에만 검사 (finally 에서 던지면 원래 예외를 덮어씀)
+        nPlusOneGuard.checkRequest(request.getMethod() + " " + uri(request), context.getStats());
+    }
+
+    private void record(HttpServletRequest request, HttpServletResponse response,
+                        RequestQueryContext context, long elapsedNanos) {
+        String uri = uri(request);
+        DistributionSummary.builder("http.server.requests.jdbc.statements")
+                .description("요청 하나에서 실행된 JDBC statement 수")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(context.getStatementCount());
+        Timer.builder("http.server.requests.jdbc.time")
+                .description("요청 하나에서 JDBC statement 실행에 쓴 시간")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(context.getStatementNanos(), TimeUnit.NANOSECONDS);
+
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        if (elapsedMillis >= slowRequestMillis) {
+            logSlowRequest(request, response, uri, context, elapsedMillis);
+        }
+    }
+
+    private void logSlowRequest(HttpServletRequest request, HttpServletResponse response, String uri,
+                                RequestQueryContext context, long elapsedMillis) {
+        StringBuilder queries = new StringBuilder();
+        int index = 1;
+        for (RequestQueryContext.CapturedQuery query : context.getQueries()) {
+            queries.append(System.lineSeparator())
+                    .append(String.format("  %3d) %7.2fms  %s", index++, query.getNanos() / 1_000_000.0, query.getSql()));
+            if (query.getOrigin() != null) {
+                queries.append("  <- ").append(query.getOrigin());
+            }
+        }
+        if (context.getStatementCount() > context.getQueries().size()) {
+            queries.append(System.lineSeparator())
+                    .append("  ... ").append(context.getStatementCount() - context.getQueries().size()).append(" more");
+        }
+        log.warn("느린 요청 {} {} ({}) status={} {}ms, statement {}개 {}ms{}",
+                request.getMethod(), request.getRequestURI(), uri, response.getStatus(), elapsedMillis,
+                context.getStatementCount(), TimeUnit.NANOSECONDS.toMillis(context.getStatementNanos()), queries);
+    }
+
+    // 매핑되지 않은 요청(404, 인증 실패 등)은 uri 하나로 묶어 태그 수가 늘어나지 않게 함
+    private String uri(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : UNMAPPED;
+    }
+}
@@ -0,0 +1,89 @@
+package com.github.commerce.config.metrics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 요청 하나(스레드) 동안 실행된 JDBC statement 수 / 시간 / SQL 목록.
+ * RequestMetricsFilter 가 요청 시작 때 열고 끝날 때 닫으며, 요청 밖(스케줄러, 큐 consumer 등)에서는 기록하지 않습니다.
+ */
+public class RequestQueryContext {
+    private static final ThreadLocal<RequestQueryContext> CURRENT = new ThreadLocal<>();
+
+    private final int maxCapturedQueries;
+    private final List<CapturedQuery> queries = new ArrayList<>();
+    private final QueryStats stats = new QueryStats();
+
+    private RequestQueryContext(int maxCapturedQueries) {
+        this.maxCapturedQueries = maxCapturedQueries;
+    }
+
+    public static void open(int maxCapturedQueries) {
+        CURRENT.set(new RequestQueryContext(maxCapturedQueries));
+    }
+
+    public static RequestQueryContext close() {
+        RequestQueryContext context = CURRENT.get();
+        CURRENT.remove();
+        return context;
+    }
+
+    // 요청 밖이면 null
+    public static RequestQueryContext current() {
+        return CURRENT.get();
+    }
+
+    // origin 은 N+1 검사를 켰을 때만 채워짐
+    static void record(String sql, long nanos, String origin) {
+        RequestQueryContext context = CURRENT.get();
+        if (context == null) {
+            return;
+        }
+        context.stats.record(sql, nanos, origin);
+        if (context.queries.size() < context.maxCapturedQueries) {
+            context.queries.add(new CapturedQuery(sql, nanos, origin));
+        }
+    }
+
+    public int getStatementCount() {
+        return stats.getStatementCount();
+    }
+
+    public long getStatementNanos() {
+        return stats.getStatementNanos();
+    }
+
+    public QueryStats getStats() {
+        return stats;
+    }
+
+    // 최대 maxCapturedQueries 개까지만 보관 (statementCount 는 전체 수)
+    public List<CapturedQuery> getQueries() {
+        return Collections.unmodifiableList(queries);
+    }
+
+    public static class CapturedQuery {
+        private final String sql;
+        private final long nanos;
+        private final String origin;
+
+        private CapturedQuery(String sql, long nanos, String origin) {
+            this.sql = sql;
+            this.nanos = nanos;
+            this.origin = origin;
+        }
+
+        public String getSql() {
+            return sql;
+        }
+
+        public long getNanos() {
+            return nanos;
+        }
+
+        public String getOrigin() {
+            return origin;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.github.commerce.config.metrics;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * 지금 실행되는 statement 의 원인을 스레드별로 추적합니다.
+ * RepositoryMethodTracker 가 repository 메서드를, LazyLoadTracker 가 lazy/eager 연관관계 로딩을 push 하고,
+ * describe() 는 가장 안쪽 원인과 애플리케이션 코드의 호출 위치를 "OrderRepository.findX @ OrderService.getY:120" 형태로 돌려줍니다.
+ */
+public final class StatementOrigin {
+    private static final String APP_PACKAGE = "com.github.commerce.";
+    private static final String METRICS_PACKAGE = "com.github.commerce.config.metrics.";
+    private static final int MAX_DEPTH = 32;
+    private static final ThreadLocal<Deque<Frame>> FRAMES = ThreadLocal.withInitial(ArrayDeque::new);
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+
+    private StatementOrigin() {
+    }
+
+    static void push(Object owner, String label) {
+        Deque<Frame> frames = FRAMES.get();
+        if (frames.size() < MAX_DEPTH) {
+            frames.push(new Frame(owner, label));
+        }
+    }
+
+    // 예외로 pop 이 빠진 frame 이 있어도 owner 까지 함께 정리
+    static void pop(Object owner) {
+        Deque<Frame> frames = FRAMES.get();
+        if (frames.stream().noneMatch(frame -> frame.owner == owner)) {
+            return;
+        }
+        Frame frame;
+        do {
+            frame = frames.pop();
+        } while (frame.owner != owner);
+    }
+
+    static void clear() {
+        FRAMES.remove();
+    }
+
+    static String describe() {
+        Frame frame = FRAMES.get().peek();
+        String callSite = STACK_WALKER.walk(stream -> stream
+                .filter(stackFrame -> isApplicationFrame(stackFrame.getClassName()))
+                .findFirst()
+                .map(stackFrame -> simpleName(stackFrame.getClassName()) + "." + stackFrame.getMethodName()
+                        + ":" + stackFrame.getLineNumber())
+                .orElse(null));
+        if (frame == null) {
+            return callSite == null ? "unknown" : callSite;
+        }
+        return callSite == null ? frame.label : frame.label + " @ " + callSite;
+    }
+
+    private static boolean isApplicationFrame(String className) {
+        return className.startsWith(APP_PACKAGE)
+                && !className.startsWith(METRICS_PACKAGE)
+                && !className.contains("$HibernateProxy$")
+                && !className.contains("$$");
+    }
+
+    static String simpleName(String className) {
+        return className.substring(className.lastIndexOf('.') + 1);
+    }
+
+    private static class Frame {
+        private final Object owner;
+        private final String label;
+
+        private Frame(Object owner, String label) {
+            this.owner = owner;
+            this.label = label;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.github.commerce.config.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.lang.Nullable;
+
+/**
+ * 발행 지연(amqp.publish, exchange/routingKey/outcome 별)을 기록하는 RabbitTemplate.
+ * convertAndSend 도 결국 send 를 거치므로 모든 발행이 측정됩니다. (메시지 변환 시간 제외)
+ */
+public class TimedRabbitTemplate extends RabbitTemplate {
+    private final MeterRegistry meterRegistry;
+
+    public TimedRabbitTemplate(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void send(String exchange, String routingKey, Message message, @Nullable CorrelationData correlationData)
+            throws AmqpException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            super.send(exchange, routingKey, message, correlationData);
+        } catch (RuntimeException e) {
+            outcome = "error";
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("amqp.publish")
+                    .description("RabbitMQ 메시지 발행 시간")
+                    .tag("exchange", exchange == null ? "" : exchange)
+                    .tag("routingKey", routingKey == null ? "" : routingKey)
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+}
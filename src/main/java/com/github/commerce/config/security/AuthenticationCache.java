@@ -0,0 +1,78 @@
+package com.github.commerce.config.security;
+
+import com.github.commerce.repository.user.UserDetailsImpl;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 서명 검증이 끝난 토큰의 subject(email) -> 인증 정보 캐시.
+ * 인증 정보는 보통 JWT claim 만으로 만들어지고, user id claim 이 없는 이전 형식 토큰일 때만
+ * users 테이블을 매 요청 조회하지 않도록 JwtAuthorizationFilter 에서 사용합니다.
+ * 유효시간은 MAX_TTL 과 토큰 만료시간 중 짧은 쪽입니다.
+ * (회원 정보 변경은 새 access token 재발급으로 반영하고, 이전 형식 토큰은 최대 MAX_TTL 동안 옛 정보를 볼 수 있음.
+ * 토큰 폐기는 캐시와 관계없이 TokenVersionRegistry 로 확인)
+ */
+@Slf4j
+@Component
+public class AuthenticationCache {
+
+    private static final long MAX_TTL = 10 * 60 * 1000L; //10분
+    private static final int MAX_SIZE = 10000;
+
+    private final Map<String, CachedUserDetails> cache = new ConcurrentHashMap<>();
+
+    public UserDetailsImpl get(String email) {
+        CachedUserDetails cached = cache.get(email);
+        if (cached == null) {
+            return null;
+        }
+        if (cached.isExpired(System.currentTimeMillis())) {
+            cache.remove(email, cached);
+            return null;
+        }
+        return cached.userDetails;
+    }
+
+    public void put(String email, UserDetailsImpl userDetails, Date tokenExpiration) {
+        long now = System.currentTimeMillis();
+        long expiresAt = now + MAX_TTL;
+        if (tokenExpiration != null) {
+            expiresAt = Math.min(expiresAt, tokenExpiration.getTime());
+        }
+        if (expiresAt <= now) {
+            return;
+        }
+        if (cache.size() >= MAX_SIZE) {
+            evictExpired();
+            if (cache.size() >= MAX_SIZE) {
+                return; //가득 찬 경우 캐싱하지 않고 DB 조회로 처리
+            }
+        }
+        cache.put(email, new CachedUserDetails(userDetails, expiresAt));
+    }
+
+    @Scheduled(fixedDelay = 60 * 1000L)
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        cache.values().removeIf(cached -> cached.isExpired(now));
+    }
+
+    private static class CachedUserDetails {
+        private final UserDetailsImpl userDetails;
+        private final long expiresAt;
+
+        private CachedUserDetails(UserDetailsImpl userDetails, long expiresAt) {
+            this.userDetails = userDetails;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
+}
@@ -1,12 +1,9 @@
 package com.github.commerce.config.security;
 
-import com.github.commerce.entity.RefreshToken;
 import com.github.commerce.entity.UserRoleEnum;
-import com.github.commerce.repository.user.RefreshTokenRepository;
-import com.github.commerce.web.dto.user.TokenDto;
+import com.github.commerce.repository.user.UserDetailsImpl;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -17,56 +14,110 @@ import javax.servlet.http.HttpServletRequest;
 import java.security.Key;
 import java.util.Base64;
 import java.util.Date;
-import java.util.Optional;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class JwtUtil {
     // Header KEY 값
     public static final String ACCESS_TOKEN = "Access_Token";
     public static final String REFRESH_TOKEN = "Refresh_Token";
     // 사용자 권한 값의 KEY
     public static final String AUTHORIZATION_KEY = "auth";
+    // 요청마다 DB 조회 없이 인증 정보를 만들기 위한 claim KEY
+    public static final String USER_ID_KEY = "uid";
+    public static final String SELLER_ID_KEY = "sid";
+    public static final String USER_NAME_KEY = "name";
+    // 사용자 토큰 버전 KEY, TokenVersionRegistry 의 버전보다 낮으면 폐기된 토큰
+    public static final String TOKEN_VERSION_KEY = "ver";
+    // 리프레시 토큰 회전 계열(family) 식별자 KEY, 토큰 id 는 jti 사용
+    public static final String FAMILY_ID_KEY = "fam";
     // Token 식별자
     public static final String BEARER_PREFIX = "Bearer ";
     // 토큰 만료시간
     //private static final long ACCESS_TIME =  60 * 60 * 1000L;//60분
     private static final long ACCESS_TIME =  24 * 60 * 60 * 1000L;//24 시간림
-    private static final long REFRESH_TIME =  7*24*60 * 60 * 1000L;//일주일
+    static final long REFRESH_TIME =  7*24*60 * 60 * 1000L;//일주일
 
     @Value("${jwt.secret-key-source}") // Base64 Encode 한 SecretKey
     private String secretKey;
     private Key key;
+    // 서명키가 고정이므로 parser 는 한 번만 만들어 재사용 (thread-safe)
+    private JwtParser jwtParser;
     private final SignatureAlgorithm signatureAlgorithm = SignatureAlgorithm.HS256;
-    private final RefreshTokenRepository refreshTokenRepository;
 
     @PostConstruct
     public void init() {
         byte[] bytes = Base64.getDecoder().decode(secretKey);
         key = Keys.hmacShaKeyFor(bytes);
-    }
-
-    public TokenDto createAllToken(String email, UserRoleEnum role) {
-        return new TokenDto(createToken(email,role, "Access"),createToken(email,role, "Refresh"));
+        jwtParser = Jwts.parserBuilder().setSigningKey(key).build();
     }
 
     // 토큰 생성
-    public String createToken(String email, UserRoleEnum role, String type) {
+    public String createToken(UserDetailsImpl principal, String type) {
         Date date = new Date();
 
         long time = type.equals("Access") ? ACCESS_TIME:REFRESH_TIME;
 
         return BEARER_PREFIX +
-                Jwts.builder()
-                        .setSubject(email) // 사용자 식별자값(ID)
-                        .claim(AUTHORIZATION_KEY, role) // 사용자 권한
+                principalBuilder(principal)
                         .setExpiration(new Date(date.getTime() + time)) // 만료 시간
                         .setIssuedAt(date) // 발급일
                         .signWith(key, signatureAlgorithm) // 암호화 알고리즘
                         .compact();
     }
 
+    // 리프레시 토큰 생성, DB 에는 tokenId(jti) 기준으로 저장됨
+    public String createRefreshToken(UserDetailsImpl principal, String tokenId, String familyId, Date expiration) {
+        return BEARER_PREFIX +
+                principalBuilder(principal)
+                        .setId(tokenId)
+                        .claim(FAMILY_ID_KEY, familyId)
+                        .setExpiration(expiration)
+                        .setIssuedAt(new Date())
+                        .signWith(key, signatureAlgorithm)
+                        .compact();
+    }
+
+    public Date getRefreshTokenExpiration() {
+        return new Date(System.currentTimeMillis() + REFRESH_TIME);
+    }
+
+    private JwtBuilder principalBuilder(UserDetailsImpl principal) {
+        JwtBuilder builder = Jwts.builder()
+                .setSubject(principal.getEmail()) // 사용자 식별자값(ID)
+                .claim(AUTHORIZATION_KEY, principal.getRole()) // 사용자 권한
+                .claim(USER_ID_KEY, principal.getId())
+                .claim(USER_NAME_KEY, principal.getUserName())
+                .claim(TOKEN_VERSION_KEY, principal.getTokenVersion());
+        if (principal.getSellerId() != null) {
+            builder.claim(SELLER_ID_KEY, principal.getSellerId());
+        }
+        return builder;
+    }
+
+    // 서명 검증된 claim 으로 인증 정보 생성, user id claim 이 없는 이전 형식 토큰이면 null
+    public UserDetailsImpl getPrincipalFromClaims(Claims info) {
+        Long userId = info.get(USER_ID_KEY, Long.class);
+        String role = info.get(AUTHORIZATION_KEY, String.class);
+        if (userId == null || role == null) {
+            return null;
+        }
+        return new UserDetailsImpl(
+                userId,
+                info.getSubject(),
+                info.get(USER_NAME_KEY, String.class),
+                UserRoleEnum.valueOf(role),
+                info.get(SELLER_ID_KEY, Long.class),
+                getTokenVersion(info)
+        );
+    }
+
+    // ver claim 이 없는 토큰(이전 형식)은 0
+    public int getTokenVersion(Claims info) {
+        Integer version = info.get(TOKEN_VERSION_KEY, Integer.class);
+        return version != null ? version : 0;
+    }
+
     // header 에서 JWT 가져오기
     public String getHeaderToken(HttpServletRequest request,String type) {
         String bearerToken = type.equals("Access") ? request.getHeader(ACCESS_TOKEN) :request.getHeader(REFRESH_TOKEN);
@@ -78,9 +129,13 @@ public class JwtUtil {
 
     // 토큰 검증
     public boolean tokenValidation(String token) {
+        return parseClaims(token) != null;
+    }
+
+    // 토큰 검증 + 사용자 정보 조회를 한 번의 파싱(서명 검증)으로 처리, 유효하지 않으면 null
+    public Claims parseClaims(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
+            return jwtParser.parseClaimsJws(token).getBody();
         } catch (SecurityException | MalformedJwtException | SignatureException e) {
             log.error("Invalid JWT signature, 유효하지 않는 JWT 서명 입니다.");
         } catch (ExpiredJwtException e) {
@@ -90,25 +145,11 @@ public class JwtUtil {
         } catch (IllegalArgumentException e) {
             log.error("JWT claims is empty, 잘못된 JWT 토큰 입니다.");
         }
-        return false;
-    }
-
-    // refreshToken 토큰 검증
-    public Boolean refreshTokenValidation(String token) {
-
-        // 1차 토큰 검증
-        if(!tokenValidation(token)) return false;
-
-        Claims info =getUserInfoFromToken(token);
-
-        // DB에 저장한 토큰 비교
-        Optional<RefreshToken> refreshToken = refreshTokenRepository.findByEmail(info.getSubject());
-
-        return refreshToken.isPresent() && token.equals(refreshToken.get().getRefreshToken().substring(7));
+        return null;
     }
 
     // 토큰에서 사용자 정보 가져오기
     public Claims getUserInfoFromToken(String token) {
-        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+        return jwtParser.parseClaimsJws(token).getBody();
     }
 }
@@ -0,0 +1,37 @@
+package com.github.commerce.config.security;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * rate-limit 아래의 요청 제한 설정.
+ * policies 는 위에서부터 처음 일치하는 하나만 적용되고, 어느 policy 에도 맞지 않는 요청은 제한하지 않습니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+    private boolean enabled = true;
+    // 메모리 상한 - 이보다 많은 key 가 동시에 살아 있으면 새 key 는 policy 별 공용 bucket 을 같이 씀
+    private int maxKeys = 100000;
+    // 이 시간 동안 요청이 없어 가득 찬 bucket 은 제거
+    private long idleSeconds = 600;
+    private List<Policy> policies = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Policy {
+        private String name;
+        // 비어 있으면 모든 method
+        private List<String> methods = new ArrayList<>();
+        private List<String> patterns = new ArrayList<>();
+        // 한 번에 몰아서 보낼 수 있는 요청 수
+        private int capacity;
+        // 초당 다시 채워지는 요청 수
+        private double refillPerSecond;
+    }
+}
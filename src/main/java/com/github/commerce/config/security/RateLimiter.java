@@ -0,0 +1,119 @@
+package com.github.commerce.config.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+
+import javax.servlet.http.HttpServletRequest;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * policy + client(user id 또는 IP) 별 token bucket 저장소.
+ * key 수는 rate-limit.max-keys 로 제한하고, 오래 쓰지 않아 가득 찬 bucket 은 주기적으로 지웁니다.
+ * (가득 찬 bucket 은 지우고 다시 만들어도 상태가 같으므로 제거해도 제한이 풀리지 않음)
+ * 상한에 닿으면 새 client 는 policy 별 공용 bucket 을 같이 써서, 많은 IP 로 몰려와도 메모리가 늘지 않습니다.
+ */
+@Slf4j
+@Component
+public class RateLimiter {
+
+    private static final String OVERFLOW_KEY = "overflow";
+    private static final long EVICT_INTERVAL = 60 * 1000L; //1분
+    private static final long FORCED_EVICT_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final RateLimitProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final AtomicLong lastForcedEvictAt = new AtomicLong(System.nanoTime());
+    private final long idleNanos;
+
+    public RateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.idleNanos = TimeUnit.SECONDS.toNanos(properties.getIdleSeconds());
+        Gauge.builder("rate.limit.keys", buckets, Map::size)
+                .description("메모리에 있는 token bucket 수")
+                .register(meterRegistry);
+    }
+
+    // 처음 일치하는 policy, 없으면 null (제한 없음)
+    public RateLimitProperties.Policy match(HttpServletRequest request) {
+        String path = normalize(request.getRequestURI().substring(request.getContextPath().length()));
+        for (RateLimitProperties.Policy policy : properties.getPolicies()) {
+            if (!policy.getMethods().isEmpty() && !policy.getMethods().contains(request.getMethod())) {
+                continue;
+            }
+            for (String pattern : policy.getPatterns()) {
+                if (pathMatcher.match(pattern, path)) {
+                    return policy;
+                }
+            }
+        }
+        return null;
+    }
+
+    // MVC 는 끝의 / 를 무시하고 같은 핸들러로 보내므로(/login/ == /login) 제한도 같은 경로로 봄
+    private static String normalize(String path) {
+        int end = path.length();
+        while (end > 1 && path.charAt(end - 1) == '/') {
+            end--;
+        }
+        return path.substring(0, end);
+    }
+
+    // 통과하면 0, 아니면 다음 요청이 가능해질 때까지 남은 시간(ns)
+    public long tryAcquire(RateLimitProperties.Policy policy, String clientKey) {
+        long now = System.nanoTime();
+        String key = policy.getName() + ":" + clientKey;
+        TokenBucket bucket = buckets.get(key);
+        if (bucket == null) {
+            bucket = create(policy, key, now);
+        }
+
+        long waitNanos = bucket.tryConsume(now);
+        if (waitNanos > 0) {
+            Counter.builder("rate.limit.rejected")
+                    .tag("policy", policy.getName())
+                    .register(meterRegistry)
+                    .increment();
+        }
+        return waitNanos;
+    }
+
+    @Scheduled(fixedDelay = EVICT_INTERVAL)
+    public void evictIdle() {
+        evictIdle(System.nanoTime(), idleNanos);
+    }
+
+    private TokenBucket create(RateLimitProperties.Policy policy, String key, long now) {
+        if (buckets.size() >= properties.getMaxKeys()) {
+            // 상한에 닿으면 가득 찬 bucket 부터 바로 정리 (key 가 쏟아질 때 매번 전체를 훑지 않도록 1초에 한 번만)
+            long last = lastForcedEvictAt.get();
+            if (now - last >= FORCED_EVICT_INTERVAL_NANOS && lastForcedEvictAt.compareAndSet(last, now)) {
+                evictIdle(now, 0);
+            }
+            if (buckets.size() >= properties.getMaxKeys()) {
+                Counter.builder("rate.limit.overflow")
+                        .tag("policy", policy.getName())
+                        .register(meterRegistry)
+                        .increment();
+                key = policy.getName() + ":" + OVERFLOW_KEY;
+            }
+        }
+        return buckets.computeIfAbsent(key, k -> new TokenBucket(policy.getCapacity(), policy.getRefillPerSecond(), now));
+    }
+
+    private void evictIdle(long now, long idle) {
+        int before = buckets.size();
+        buckets.values().removeIf(bucket -> bucket.isIdle(now, idle));
+        log.debug("rate limit bucket 정리 : {} -> {}", before, buckets.size());
+    }
+}
@@ -0,0 +1,41 @@
+package com.github.commerce.config.security;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * lock-free token bucket (GCRA 방식).
+ * 남은 토큰 수 대신 "버킷이 다시 가득 차는 시각" 하나만 AtomicLong 으로 들고 CAS 로 갱신하므로
+ * 같은 key 로 동시에 들어와도 lock 없이 정확히 capacity 만큼만 통과합니다.
+ */
+public class TokenBucket {
+
+    private final long intervalNanos; //토큰 하나가 채워지는 시간
+    private final long burstNanos; //capacity 개를 모두 채우는 시간
+    private final AtomicLong fullAt; //이 시각 이후면 버킷이 가득 찬 상태
+
+    public TokenBucket(int capacity, double refillPerSecond, long now) {
+        this.intervalNanos = Math.max(1L, (long) (1_000_000_000L / refillPerSecond));
+        this.burstNanos = intervalNanos * capacity;
+        this.fullAt = new AtomicLong(now);
+    }
+
+    // 통과하면 0, 아니면 토큰 하나가 생길 때까지 기다려야 하는 시간(ns)
+    public long tryConsume(long now) {
+        while (true) {
+            long current = fullAt.get();
+            long next = Math.max(current, now) + intervalNanos;
+            long waitNanos = next - now - burstNanos;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    // 가득 찬 채로 idleNanos 이상 지난 bucket 은 지워도 다시 만들 때와 상태가 같음
+    public boolean isIdle(long now, long idleNanos) {
+        return fullAt.get() + idleNanos <= now;
+    }
+}
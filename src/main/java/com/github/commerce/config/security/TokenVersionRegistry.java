@@ -0,0 +1,106 @@
+package com.github.commerce.config.security;
+
+import com.github.commerce.repository.user.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 최소 토큰 버전 (users.token_version).
+ * 인증 정보는 JWT claim 만으로 만들어지므로, 비밀번호 변경 등으로 버전을 올리면 ver claim 이 그보다 낮은 토큰을
+ * JwtAuthorizationFilter 에서 거부해 이전에 발급된 access/refresh 토큰을 모두 폐기합니다.
+ * 탈퇴한 사용자(users.is_delete)의 토큰은 버전과 관계없이 거부합니다.
+ * 버전/탈퇴 여부는 DB 에서 주기적으로 동기화한 메모리 값으로 확인하므로 요청마다 DB 조회가 없고,
+ * 다른 서버에서 올린 버전은 다음 동기화(SYNC_INTERVAL) 때 반영됩니다.
+ * (탈퇴 처리 시 토큰 버전도 같이 올려야 SYNC_INTERVAL 안에 반영되고, 그렇지 않으면 다음 rebuild 때 반영)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenVersionRegistry {
+
+    private static final long SYNC_INTERVAL = 30 * 1000L; //30초
+    private static final long REBUILD_INTERVAL = 10 * 60 * 1000L; //10분
+    private static final long SYNC_OVERLAP_SECONDS = 5; //서버간 시간차/커밋 지연 보정
+
+    private final UserRepository userRepository;
+
+    // 버전을 올린 적 있는 사용자만 (없으면 0)
+    private volatile Map<Long, Integer> versions = new ConcurrentHashMap<>();
+    private volatile Set<Long> deletedUserIds = ConcurrentHashMap.newKeySet();
+    private volatile LocalDateTime lastSyncedAt;
+
+    // tokenVersion 은 토큰의 ver claim (JwtUtil.getTokenVersion)
+    public boolean isCurrent(Long userId, int tokenVersion) {
+        return tokenVersion >= versions.getOrDefault(userId, 0) && !deletedUserIds.contains(userId);
+    }
+
+    // 이 서버에는 커밋 직후 바로 반영
+    public void raiseAfterCommit(Long userId, int version) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    raise(userId, version);
+                }
+            });
+        } else {
+            raise(userId, version);
+        }
+    }
+
+    // 다른 서버에서 올린 버전 반영
+    @Scheduled(fixedDelay = SYNC_INTERVAL, initialDelay = SYNC_INTERVAL)
+    public void sync() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime since = lastSyncedAt != null ? lastSyncedAt.minusSeconds(SYNC_OVERLAP_SECONDS) : oldestLiveToken(now);
+        userRepository.findTokenVersionsChangedSince(since)
+                .forEach(row -> apply(row, versions, deletedUserIds));
+        lastSyncedAt = now;
+    }
+
+    // 시작할 때 한 번 적재, 리프레시 토큰 유효기간보다 오래전에 올린 버전은 그 전 토큰이 모두 만료되었으므로 정리
+    @Scheduled(fixedDelay = REBUILD_INTERVAL)
+    public void rebuild() {
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, Integer> rebuilt = new ConcurrentHashMap<>();
+        Set<Long> deleted = ConcurrentHashMap.newKeySet();
+        deleted.addAll(userRepository.findDeletedIds());
+        userRepository.findTokenVersionsChangedSince(oldestLiveToken(now))
+                .forEach(row -> apply(row, rebuilt, deleted));
+        versions = rebuilt;
+        deletedUserIds = deleted;
+        lastSyncedAt = now;
+        log.info("토큰 버전 목록 갱신 : {}건, 탈퇴 {}건", rebuilt.size(), deleted.size());
+    }
+
+    private void raise(Long userId, Integer version) {
+        if (version != null) {
+            versions.merge(userId, version, Math::max);
+        }
+    }
+
+    // [userId, tokenVersion, isDelete]
+    private static void apply(Object[] row, Map<Long, Integer> versions, Set<Long> deleted) {
+        Long userId = (Long) row[0];
+        if (row[1] != null) {
+            versions.merge(userId, (Integer) row[1], Math::max);
+        }
+        if (Boolean.TRUE.equals(row[2])) {
+            deleted.add(userId);
+        }
+    }
+
+    private static LocalDateTime oldestLiveToken(LocalDateTime now) {
+        return now.minus(Duration.ofMillis(JwtUtil.REFRESH_TIME));
+    }
+}
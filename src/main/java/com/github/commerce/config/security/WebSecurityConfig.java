@@ -1,11 +1,14 @@
 package com.github.commerce.config.security;
 
 import com.github.commerce.config.security.JwtUtil;
+import com.github.commerce.service.user.RefreshTokenService;
 import com.github.commerce.service.user.UserDetailsServiceImpl;
 import com.github.commerce.web.filter.JwtAuthorizationFilter;
+import com.github.commerce.web.filter.RateLimitFilter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -28,14 +31,21 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 @Configuration
 @EnableWebSecurity
 @RequiredArgsConstructor
+@EnableConfigurationProperties(RateLimitProperties.class)
 @EnableGlobalMethodSecurity(prePostEnabled = true) //@preAuthorized 활성화
 public class WebSecurityConfig {
 
     private final JwtUtil jwtUtil;
     private final UserDetailsServiceImpl userDetailsService;
+    private final AuthenticationCache authenticationCache;
+    private final TokenVersionRegistry tokenVersionRegistry;
+    private final RefreshTokenService refreshTokenService;
+    private final RateLimiter rateLimiter;
+    private final RateLimitProperties rateLimitProperties;
     private static final String[] PERMIT_URL_ARRAY = {
             "/","/v1/api/user/**","/v1/api/product/**","/v1/api/coupon","/GuerrillaCommerce",
-            "/api/v2/**", "/swagger-ui.html", "/swagger/**","/swagger-resources/**", "/webjars/**", "/v2/api-docs"
+            "/api/v2/**", "/swagger-ui.html", "/swagger/**","/swagger-resources/**", "/webjars/**", "/v2/api-docs",
+            "/actuator/health", "/actuator/prometheus"
     };
 
     @Bean
@@ -64,10 +74,15 @@ public class WebSecurityConfig {
         http.authorizeHttpRequests((authorizeHttpRequests) ->
                         authorizeHttpRequests
                                 .antMatchers(PERMIT_URL_ARRAY).permitAll()
+                                .antMatchers("/v1/api/admin/**").hasRole("ADMIN")
                                 .anyRequest().authenticated() // 그 외 모든 요청 인증처리
         );
         // 필터 관리
-        http.addFilterBefore(new JwtAuthorizationFilter(jwtUtil,userDetailsService),UsernamePasswordAuthenticationFilter.class);
+        http.addFilterBefore(new JwtAuthorizationFilter(jwtUtil,userDetailsService,authenticationCache,refreshTokenService,tokenVersionRegistry),UsernamePasswordAuthenticationFilter.class);
+        // 인증 정보(user id)로 key 를 잡아야 하므로 JWT 필터 다음에 요청 수 제한
+        if (rateLimitProperties.isEnabled()) {
+            http.addFilterAfter(new RateLimitFilter(rateLimiter), JwtAuthorizationFilter.class);
+        }
 
         return http.build();
     }
@@ -53,6 +53,10 @@ public class Coupon {
     @Column(name = "coupon_amount")
     private Integer couponAmount;
 
+    // 노드가 떼어 간(CouponStockCounter) 수량의 반환 기한, 이 시각 전까지는 coupon_amount 가 0 이어도 소진이 아님
+    @Column(name = "lease_expires_at")
+    private LocalDateTime leaseExpiresAt;
+
     public Coupon(CouponRegisterRequest couponRegisterRequest){
         this.title = couponRegisterRequest.getTitle();
         this.content = couponRegisterRequest.getContent();
@@ -71,4 +75,8 @@ public class Coupon {
 
         //return this.couponAmount;
     }
+
+    public boolean hasActiveLease(LocalDateTime now) {
+        return this.leaseExpiresAt != null && this.leaseExpiresAt.isAfter(now);
+    }
 }
\ No newline at end of file
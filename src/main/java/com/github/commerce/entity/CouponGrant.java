@@ -0,0 +1,64 @@
+package com.github.commerce.entity;
+
+import lombok.*;
+
+import javax.persistence.*;
+import javax.validation.constraints.NotNull;
+import java.time.LocalDateTime;
+
+/**
+ * 쿠폰 자동 지급 요청 (회원가입 웰컴 쿠폰 등).
+ * 가입 트랜잭션 안에서 PENDING 으로 기록하고, CouponGrantWorker 가 모아서 지급합니다.
+ * (users_id, coupons_id) 당 한 건이라 재시도해도 중복 지급되지 않습니다.
+ */
+@Getter
+@Setter
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "coupon_grants", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_coupon_grants_users_coupons", columnNames = {"users_id", "coupons_id"})
+}, indexes = {
+        @Index(name = "idx_coupon_grants_status_next_attempt", columnList = "status, next_attempt_at")
+})
+public class CouponGrant {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @NotNull
+    @Column(name = "users_id")
+    private Long usersId;
+
+    @NotNull
+    @Column(name = "coupons_id")
+    private Long couponsId;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20)
+    private CouponGrantStatus status;
+
+    @Builder.Default
+    @Column(name = "attempts")
+    private Integer attempts = 0;
+
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "claimed_at")
+    private LocalDateTime claimedAt;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public void changeStatus(CouponGrantStatus status, LocalDateTime now) {
+        this.status = status;
+        this.updatedAt = now;
+    }
+}
@@ -0,0 +1,11 @@
+package com.github.commerce.entity;
+
+// 쿠폰 지급 요청(coupon_grants) 처리 상태
+public enum CouponGrantStatus {
+    PENDING,    // 지급 대기 (재시도 대기 포함)
+    PROCESSING, // 지급 작업이 가져감
+    GRANTED,    // 지급 완료 (이미 갖고 있던 경우 포함)
+    SOLD_OUT,   // 쿠폰 수량 소진
+    SKIPPED,    // 삭제된 쿠폰 / 발급 대상 등급 아님
+    FAILED      // 재시도 횟수 초과
+}
@@ -27,6 +27,10 @@ public class PointHistory {
     @JoinColumn(name = "user_id", nullable = false)
     private PayMoney payMoney;
 
+    // 리뷰 작성 적립이면 리뷰 id (리뷰당 한 번만 적립)
+    @Column(name = "review_id", unique = true)
+    private Long reviewId;
+
     @Column(name = "earned_point")
     private Long earnedPoint;
 
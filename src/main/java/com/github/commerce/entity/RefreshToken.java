@@ -1,32 +1,62 @@
 package com.github.commerce.entity;
 
-import lombok.Getter;
-import lombok.NoArgsConstructor;
+import lombok.*;
 
 import javax.persistence.*;
 import javax.validation.constraints.NotBlank;
+import java.time.LocalDateTime;
 
+/**
+ * 리프레시 토큰 저장소.
+ * 토큰 원문 대신 SHA-256 해시를 토큰 id(jti) 기준으로 저장하고,
+ * 같은 로그인에서 회전(rotation)된 토큰들은 같은 familyId 를 가집니다.
+ */
 @Getter
+@Setter
 @Entity
 @NoArgsConstructor
-@Table(name = "refreshTokens")
+@AllArgsConstructor
+@Builder
+@Table(name = "refreshTokens", indexes = {
+        @Index(name = "idx_refresh_tokens_token_id", columnList = "token_id", unique = true),
+        @Index(name = "idx_refresh_tokens_family_id", columnList = "family_id"),
+        @Index(name = "idx_refresh_tokens_revoked_at", columnList = "revoked_at")
+})
 public class RefreshToken {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
+
     @NotBlank
-    private String refreshToken;
+    @Column(name = "token_id", length = 36)
+    private String tokenId;
+
+    @NotBlank
+    @Column(name = "family_id", length = 36)
+    private String familyId;
+
+    @NotBlank
+    @Column(name = "token_hash", length = 64)
+    private String tokenHash;
+
     @NotBlank
     private String email;
 
-    public RefreshToken(String token, String email) {
-        this.refreshToken = token;
-        this.email = email;
-    }
+    @Column(name = "expired_at")
+    private LocalDateTime expiredAt;
+
+    @Builder.Default
+    @Column(name = "revoked", columnDefinition = "tinyint default 0")
+    private Boolean revoked = false;
+
+    @Column(name = "revoked_at")
+    private LocalDateTime revokedAt;
+
+    // 회전으로 폐기된 경우 새로 발급된 토큰 id (family/전체 폐기면 null)
+    @Column(name = "replaced_by", length = 36)
+    private String replacedBy;
 
-    public RefreshToken updateToken(String token) {
-        this.refreshToken = token;
-        return this;
-    }
-}
\ No newline at end of file
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+}
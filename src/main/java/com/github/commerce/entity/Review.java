@@ -14,7 +14,11 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @Builder
 @Entity
-@Table(name = "reviews")
+@Table(name = "reviews", indexes = {
+        // 상품별 최신순 리뷰 피드 (keyset), 별점 필터 피드
+        @Index(name = "idx_reviews_products_created_at", columnList = "products_id, is_deleted, created_at, id"),
+        @Index(name = "idx_reviews_products_star_created_at", columnList = "products_id, is_deleted, star_point, created_at, id")
+})
 public class Review {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -0,0 +1,38 @@
+package com.github.commerce.entity;
+
+import lombok.*;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 클러스터 전체에서 스케줄 작업 하나당 한 서버만 실행하기 위한 lease.
+ * locked_until 이 지나야 다른 서버가 가져갈 수 있고(실행 중 서버가 죽어도 lease 가 끝나면 풀림),
+ * last_fire_time 보다 늦은 실행 시각(cron slot)만 가져갈 수 있어서 slot 하나는 클러스터에서 한 번만 실행됩니다.
+ */
+@Getter
+@Setter
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "scheduled_job_locks")
+public class ScheduledJobLock {
+
+    @Id
+    @Column(name = "job_name", length = 100)
+    private String jobName;
+
+    @Column(name = "locked_by", length = 100)
+    private String lockedBy;
+
+    @Column(name = "locked_until")
+    private LocalDateTime lockedUntil;
+
+    // 마지막으로 가져간 cron slot (작업 zone 기준)
+    @Column(name = "last_fire_time")
+    private LocalDateTime lastFireTime;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
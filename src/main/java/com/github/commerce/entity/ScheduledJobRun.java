@@ -0,0 +1,65 @@
+package com.github.commerce.entity;
+
+import lombok.*;
+
+import javax.persistence.*;
+import javax.validation.constraints.NotNull;
+import java.time.LocalDateTime;
+
+/**
+ * 스케줄 작업 실행 이력.
+ * 놓친 slot 을 뒤늦게 실행했으면 missed = true, 놓친 slot 을 실행하지 않고 넘겼으면 SKIPPED 로 남습니다.
+ */
+@Getter
+@Setter
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "scheduled_job_runs", indexes = {
+        @Index(name = "idx_scheduled_job_runs_job_name_fire_time", columnList = "job_name, fire_time")
+})
+public class ScheduledJobRun {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @NotNull
+    @Column(name = "job_name", length = 100)
+    private String jobName;
+
+    @Column(name = "owner", length = 100)
+    private String owner;
+
+    @Column(name = "fire_time")
+    private LocalDateTime fireTime;
+
+    @Builder.Default
+    @Column(name = "missed")
+    private Boolean missed = false;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20)
+    private ScheduledJobRunStatus status;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @Column(name = "duration_millis")
+    private Long durationMillis;
+
+    @Column(name = "error_message", length = 1000)
+    private String errorMessage;
+
+    public void finish(ScheduledJobRunStatus status, LocalDateTime finishedAt, long durationMillis, String errorMessage) {
+        this.status = status;
+        this.finishedAt = finishedAt;
+        this.durationMillis = durationMillis;
+        this.errorMessage = errorMessage;
+    }
+}
@@ -0,0 +1,5 @@
+package com.github.commerce.entity;
+
+public enum ScheduledJobRunStatus {
+    RUNNING, SUCCEEDED, FAILED, SKIPPED
+}
@@ -5,6 +5,7 @@ import lombok.*;
 import javax.persistence.*;
 import javax.validation.constraints.NotNull;
 import javax.validation.constraints.Size;
+import java.time.LocalDateTime;
 
 @Getter
 @Setter
@@ -12,7 +13,10 @@ import javax.validation.constraints.Size;
 @AllArgsConstructor
 @Builder
 @Entity
-@Table(name = "sellers")
+@Table(name = "sellers", indexes = {
+        // 다른 서버의 쇼핑몰 이름 변경을 중복확인 필터(DuplicateCheckFilter)에 반영
+        @Index(name = "idx_sellers_shop_name_updated_at", columnList = "shop_name_updated_at")
+})
 public class Seller {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -28,6 +32,9 @@ public class Seller {
     @Column(name = "shop_name")
     private String shopName;
 
+    @Column(name = "shop_name_updated_at")
+    private LocalDateTime shopNameUpdatedAt;
+
     @Size(max = 255)
     @Column(name = "address")
     private String address;
@@ -0,0 +1,55 @@
+package com.github.commerce.entity;
+
+import lombok.*;
+
+import javax.persistence.*;
+import javax.validation.constraints.NotNull;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 판매자 / 상품 / 일자별 판매 집계 (판매 분석 전용, 주문 테이블을 스캔하지 않기 위함).
+ * 결제완료 이벤트마다 증분 반영하고, 기존 주문은 sellerSalesBackfillJob 으로 다시 만들 수 있습니다.
+ * 일자는 주문 생성일(orders.created_at) 기준입니다.
+ */
+@Getter
+@Setter
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "seller_daily_sales", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_seller_daily_sales", columnNames = {"seller_id", "product_id", "sales_date"})
+}, indexes = {
+        @Index(name = "idx_seller_daily_sales_seller_date", columnList = "seller_id, sales_date")
+})
+public class SellerDailySales {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @NotNull
+    @Column(name = "seller_id")
+    private Long sellerId;
+
+    @NotNull
+    @Column(name = "product_id")
+    private Long productId;
+
+    @NotNull
+    @Column(name = "sales_date")
+    private LocalDate salesDate;
+
+    @Column(name = "units")
+    private Long units;
+
+    @Column(name = "revenue")
+    private Long revenue;
+
+    @Column(name = "order_count")
+    private Long orderCount;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -9,7 +9,6 @@ import javax.validation.constraints.NotNull;
 import javax.validation.constraints.Size;
 import java.time.Instant;
 import java.time.LocalDateTime;
-import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -19,7 +18,10 @@ import java.util.stream.Collectors;
 @AllArgsConstructor
 @Builder
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = {
+        // 다른 서버의 토큰 폐기(TokenVersionRegistry) 동기화용
+        @Index(name = "idx_users_token_version_updated_at", columnList = "token_version_updated_at")
+})
 public class User {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -54,6 +56,13 @@ public class User {
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 
+    // access/refresh 토큰의 ver claim, 비밀번호 변경 등으로 올리면 이전 버전 토큰은 모두 거부됨 (null 이면 0)
+    @Column(name = "token_version")
+    private Integer tokenVersion;
+
+    @Column(name = "token_version_updated_at")
+    private LocalDateTime tokenVersionUpdatedAt;
+
     @OneToMany(mappedBy = "users", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<UsersCoupon> userCoupons;
 
@@ -66,10 +75,18 @@ public class User {
     @OneToOne(mappedBy = "users", cascade = CascadeType.ALL, orphanRemoval = true)
     private Seller seller;
 
-    public PayMoney getPayMoneyByUserId(){
-        return payMoney.stream().max(Comparator.comparing(PayMoney::getId)).orElseGet(PayMoney::new);
+    public int currentTokenVersion() {
+        return tokenVersion != null ? tokenVersion : 0;
     }
 
+    // 이전에 발급된 모든 토큰 폐기, 올린 버전 반환
+    public int raiseTokenVersion(LocalDateTime now) {
+        tokenVersion = currentTokenVersion() + 1;
+        tokenVersionUpdatedAt = now;
+        return tokenVersion;
+    }
+
+
 
 
 }
\ No newline at end of file
@@ -2,8 +2,8 @@ package com.github.commerce.entity;
 
 public enum UserRoleEnum {
     USER(Authority.USER),  // 사용자 권한
-    SELLER(Authority.SELLER);//판매자 권한
-    //ADMIN(Authority.ADMIN);  // 관리자 권한
+    SELLER(Authority.SELLER),//판매자 권한
+    ADMIN(Authority.ADMIN);  // 관리자 권한 (DB 에서 직접 부여)
 
     private final String authority;
 
@@ -18,6 +18,6 @@ public enum UserRoleEnum {
     public static class Authority {
         public static final String USER = "ROLE_USER";
         public static final String SELLER="ROLE_SELLER";
-        //public static final String ADMIN = "ROLE_ADMIN";
+        public static final String ADMIN = "ROLE_ADMIN";
     }
 }
\ No newline at end of file
@@ -6,6 +6,7 @@ import javax.persistence.*;
 import javax.validation.constraints.NotNull;
 import javax.validation.constraints.Size;
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 
 @Getter
 @Setter
@@ -13,7 +14,10 @@ import java.math.BigDecimal;
 @AllArgsConstructor
 @Builder
 @Entity
-@Table(name = "users_infos")
+@Table(name = "users_infos", indexes = {
+        // 다른 서버의 닉네임 변경을 중복확인 필터(DuplicateCheckFilter)에 반영
+        @Index(name = "idx_users_infos_nickname_updated_at", columnList = "nickname_updated_at")
+})
 public class UsersInfo {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -52,4 +56,7 @@ public class UsersInfo {
     @Column(name = "nickname")
     private String nickname;
 
+    @Column(name = "nickname_updated_at")
+    private LocalDateTime nicknameUpdatedAt;
+
 }
\ No newline at end of file
@@ -0,0 +1,42 @@
+package com.github.commerce.entity;
+
+import lombok.*;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 지갑 요약 (사용자당 한 줄).
+ * pay_moneys 는 결제마다 줄이 늘어나므로 잔액/누계를 매번 찾지 않도록 충전/결제/포인트 변경 때 같이 갱신합니다.
+ * 값은 WalletSummaryService 로만 바꿉니다.
+ */
+@Getter
+@Setter
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "wallet_summaries")
+public class WalletSummary {
+
+    @Id
+    @Column(name = "users_id")
+    private Long usersId;
+
+    @Column(name = "pay_money_balance", nullable = false)
+    private Long payMoneyBalance;
+
+    @Column(name = "point_balance", nullable = false)
+    private Long pointBalance;
+
+    // 누적 충전 금액
+    @Column(name = "charge_pay_money_total", nullable = false)
+    private Long chargePayMoneyTotal;
+
+    // 누적 결제(사용) 금액
+    @Column(name = "used_pay_money_total", nullable = false)
+    private Long usedPayMoneyTotal;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,64 @@
+package com.github.commerce.repository.analytics;
+
+import com.github.commerce.entity.SellerDailySales;
+import com.github.commerce.web.dto.analytics.SalesTimeSeriesDto;
+import com.github.commerce.web.dto.analytics.TopProductDto;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface SellerDailySalesRepository extends JpaRepository<SellerDailySales, Long> {
+
+    // 결제완료 주문 1건 증분 반영 (행이 없으면 생성)
+    @Modifying
+    @Query(value = "INSERT INTO seller_daily_sales (seller_id, product_id, sales_date, units, revenue, order_count, updated_at) " +
+            "VALUES (:sellerId, :productId, :salesDate, :units, :revenue, 1, :now) " +
+            "ON DUPLICATE KEY UPDATE units = units + VALUES(units), revenue = revenue + VALUES(revenue), " +
+            "order_count = order_count + 1, updated_at = VALUES(updated_at)",
+            nativeQuery = true)
+    int addSales(@Param("sellerId") Long sellerId, @Param("productId") Long productId, @Param("salesDate") LocalDate salesDate,
+                 @Param("units") Long units, @Param("revenue") Long revenue, @Param("now") LocalDateTime now);
+
+    @Query("SELECT NEW com.github.commerce.web.dto.analytics.SalesTimeSeriesDto(s.salesDate, SUM(s.units), SUM(s.revenue), SUM(s.orderCount)) " +
+            "FROM SellerDailySales s " +
+            "WHERE s.sellerId = :sellerId " +
+            "AND (:productId IS NULL OR s.productId = :productId) " +
+            "AND s.salesDate BETWEEN :from AND :to " +
+            "GROUP BY s.salesDate " +
+            "ORDER BY s.salesDate ASC")
+    List<SalesTimeSeriesDto> findTimeSeries(@Param("sellerId") Long sellerId, @Param("productId") Long productId,
+                                            @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query("SELECT NEW com.github.commerce.web.dto.analytics.TopProductDto(s.productId, p.name, SUM(s.units), SUM(s.revenue), SUM(s.orderCount)) " +
+            "FROM SellerDailySales s JOIN Product p ON p.id = s.productId " +
+            "WHERE s.sellerId = :sellerId " +
+            "AND s.salesDate BETWEEN :from AND :to " +
+            "GROUP BY s.productId, p.name " +
+            "ORDER BY SUM(s.revenue) DESC")
+    List<TopProductDto> findTopProducts(@Param("sellerId") Long sellerId, @Param("from") LocalDate from,
+                                        @Param("to") LocalDate to, Pageable pageable);
+
+    // backfill: 하루치 집계를 지우고 주문 테이블에서 다시 만듦 (같은 트랜잭션에서 실행)
+    @Modifying
+    @Query(value = "DELETE FROM seller_daily_sales WHERE sales_date = :salesDate", nativeQuery = true)
+    int deleteBySalesDate(@Param("salesDate") LocalDate salesDate);
+
+    @Modifying
+    @Query(value = "INSERT INTO seller_daily_sales (seller_id, product_id, sales_date, units, revenue, order_count, updated_at) " +
+            "SELECT o.sellers_id, o.products_id, :salesDate, SUM(o.quantity), SUM(o.total_price), COUNT(*), :now " +
+            "FROM orders o " +
+            "WHERE o.created_at >= :dayStart AND o.created_at < :dayEnd " +
+            "AND o.order_state IN (2, 3, 4, 5) " +
+            "GROUP BY o.sellers_id, o.products_id",
+            nativeQuery = true)
+    int rebuildSalesDate(@Param("salesDate") LocalDate salesDate, @Param("dayStart") LocalDateTime dayStart,
+                         @Param("dayEnd") LocalDateTime dayEnd, @Param("now") LocalDateTime now);
+}
@@ -1,12 +1,14 @@
 package com.github.commerce.repository.cart;
 
 import com.github.commerce.entity.Cart;
+import com.github.commerce.web.dto.cart.CartDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,20 +27,24 @@ public interface CartRepository extends JpaRepository<Cart, Long> {
 
     Cart findByIdAndUsersId(Long id, Long userId);
 
+    List<Cart> findAllByIdInAndUsersId(Collection<Long> ids, Long userId);
+
     boolean existsByUsersIdAndProductsId(Long userId, Long productId);
 
     void deleteAllByUsersId(Long userId);
 
     List<Cart> findAllByUsersId(Long userId);
 
+    // 목록에 표시하는 컬럼만 한 번에 조회 (상품/판매자/사용자 lazy 로딩 없음)
     @Query(
-            "SELECT c, c.products.price, c.products.name, c.products.thumbnailUrl, c.products.leftAmount FROM Cart c " +
+            "SELECT NEW com.github.commerce.web.dto.cart.CartDto(c.users.id, c.id, p.id, s.shopName, p.name, p.options, p.price, " +
+                    "p.thumbnailUrl, p.leftAmount, c.quantity, c.isOrdered, c.cartState, c.options, c.createdAt) " +
+                    "FROM Cart c JOIN c.products p JOIN p.seller s " +
                     "WHERE c.users.id = :userId " +
                     "AND c.isOrdered = false " +
-                    //"SELECT c FROM Cart c " +
                     "ORDER BY c.createdAt DESC "
     )
-    List<Cart> findAllByUsersIdOrderByCreatedAtDesc(Long userId);
+    List<CartDto> findAllByUsersIdOrderByCreatedAtDesc(Long userId);
 
     List<Cart> findAllByProductsIdAndUsersId(Long productId, Long userId);
 }
@@ -0,0 +1,38 @@
+package com.github.commerce.repository.coupon;
+
+import com.github.commerce.entity.CouponGrant;
+import com.github.commerce.entity.CouponGrantStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface CouponGrantRepository extends JpaRepository<CouponGrant, Long> {
+
+    boolean existsByUsersIdAndCouponsId(Long usersId, Long couponsId);
+
+    // 다른 노드가 가져가는 중인 행은 건너뜀 (FOR UPDATE SKIP LOCKED)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "javax.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT g FROM CouponGrant g " +
+            "WHERE g.status = :status AND g.nextAttemptAt <= :now " +
+            "ORDER BY g.id ASC")
+    List<CouponGrant> findClaimable(@Param("status") CouponGrantStatus status, @Param("now") LocalDateTime now, Pageable pageable);
+
+    // 지급 도중 노드가 죽어 PROCESSING 으로 남은 요청을 다시 대기 상태로
+    @Modifying
+    @Query("UPDATE CouponGrant g SET g.status = :pending, g.nextAttemptAt = :now, g.updatedAt = :now " +
+            "WHERE g.status = :processing AND g.claimedAt < :threshold")
+    int resetStale(@Param("processing") CouponGrantStatus processing, @Param("pending") CouponGrantStatus pending,
+                   @Param("threshold") LocalDateTime threshold, @Param("now") LocalDateTime now);
+}
@@ -3,9 +3,13 @@ package com.github.commerce.repository.coupon;
 import com.github.commerce.entity.Coupon;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import javax.persistence.LockModeType;
+import java.time.LocalDateTime;
 
 @Repository
 public interface CouponRepository extends JpaRepository<Coupon, Long> {
@@ -14,5 +18,21 @@ public interface CouponRepository extends JpaRepository<Coupon, Long> {
     @Lock(value = LockModeType.PESSIMISTIC_WRITE)
     Coupon findCouponById(Long couponId);
 
+    // 남은 수량이 amount 이상일 때만 떼어 가고 임대 만료 시각을 늦춤 (조회/잠금 없이 한 문장으로), 차감했으면 1
+    @Modifying
+    @Query("UPDATE Coupon c SET c.couponAmount = c.couponAmount - :amount, " +
+            "c.leaseExpiresAt = CASE WHEN c.leaseExpiresAt IS NULL OR c.leaseExpiresAt < :leaseExpiresAt THEN :leaseExpiresAt ELSE c.leaseExpiresAt END " +
+            "WHERE c.id = :couponId AND c.couponAmount >= :amount")
+    int leaseCouponAmount(@Param("couponId") Long couponId, @Param("amount") int amount,
+                          @Param("leaseExpiresAt") LocalDateTime leaseExpiresAt);
+
+    @Modifying
+    @Query("UPDATE Coupon c SET c.couponAmount = c.couponAmount + :amount WHERE c.id = :couponId")
+    int increaseCouponAmount(@Param("couponId") Long couponId, @Param("amount") int amount);
+
+    // DB 에 남은 수량이 있거나 다른 노드가 떼어 간 수량이 아직 반환 기한 전인지 (영속성 컨텍스트를 거치지 않는 조회)
+    @Query("SELECT COUNT(c) > 0 FROM Coupon c WHERE c.id = :couponId AND (c.couponAmount > 0 OR c.leaseExpiresAt > :now)")
+    boolean hasStockOrActiveLease(@Param("couponId") Long couponId, @Param("now") LocalDateTime now);
+
     boolean existsByTitleAndIsDeleted(String title, boolean isDeleted);
 }
@@ -2,9 +2,12 @@ package com.github.commerce.repository.coupon;
 
 import com.github.commerce.entity.UsersCoupon;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -12,6 +15,10 @@ public interface UsersCouponRepository extends JpaRepository<UsersCoupon, Long>
 
     boolean existsByUsersIdAndCouponsId(Long id, Long couponId);
 
+    // userIds 중 이미 해당 쿠폰을 가진 사용자 id
+    @Query("SELECT uc.users.id FROM UsersCoupon uc WHERE uc.coupons.id = :couponId AND uc.users.id IN :userIds")
+    List<Long> findUsersIdsByCouponsIdAndUsersIdIn(@Param("couponId") Long couponId, @Param("userIds") Collection<Long> userIds);
+
     List<UsersCoupon> findUsersCouponByUsersIdAndExpiredAtAfterOrderByExpiredAt(Long id, LocalDateTime now);
 
     UsersCoupon findUsersCouponByUsersIdAndCouponsIdAndExpiredAtAfterAndIsUsed(Long id, Long id1, LocalDateTime now, boolean isUsed);
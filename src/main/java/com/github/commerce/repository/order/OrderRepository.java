@@ -1,16 +1,24 @@
 package com.github.commerce.repository.order;
 
 import com.github.commerce.entity.Order;
+import com.github.commerce.web.dto.order.OrderDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
 
 @Repository
 public interface OrderRepository extends JpaRepository<Order, Long> {
@@ -25,14 +33,40 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
 
     Optional<Order> findByIdAndUsersId(Long orderId, Long userId);
 
+    // 목록에 표시하는 컬럼만 한 번에 조회 (상품/판매자 lazy 로딩 없음)
     @Query(
-            "SELECT o, o.products.price, o.products.name, o.products.thumbnailUrl FROM Order o " +
+            "SELECT NEW com.github.commerce.web.dto.order.OrderDto(o.id, p.id, p.name, s.shopName, p.leftAmount, p.thumbnailUrl, p.price, " +
+                    "o.quantity, o.totalPrice, o.orderState, o.orderTag, o.options, o.createdAt) " +
+                    "FROM Order o JOIN o.products p JOIN p.seller s " +
                     "WHERE o.users.id = :userId " +
                     "AND o.orderState = 1 " +
-                    //"SELECT c FROM Cart c " +
                     "ORDER BY o.createdAt DESC "
     )
-    List<Order> findAllByUsersIdOrderByCreatedAtDesc(Long userId);
+    List<OrderDto> findAllByUsersIdOrderByCreatedAtDesc(Long userId);
+
+    // 판매내역 피드, (createdAt, id) keyset + 기간/상태 조건, idx_orders_sellers_created_at 사용
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "100"))
+    @Query(
+            "SELECT NEW com.github.commerce.web.dto.order.OrderDto(o.id, p.id, p.name, s.shopName, p.leftAmount, p.thumbnailUrl, p.price, " +
+                    "o.quantity, o.totalPrice, o.orderState, o.orderTag, o.options, o.createdAt) " +
+                    "FROM Order o JOIN o.products p JOIN p.seller s " +
+                    "WHERE o.sellers.id = :sellerId " +
+                    "AND o.orderState IN :orderStates " +
+                    "AND (:from IS NULL OR o.createdAt >= :from) " +
+                    "AND (:to IS NULL OR o.createdAt < :to) " +
+                    "AND (:cursorCreatedAt IS NULL OR o.createdAt < :cursorCreatedAt " +
+                    "OR (o.createdAt = :cursorCreatedAt AND o.id < :cursorId)) " +
+                    "ORDER BY o.createdAt DESC, o.id DESC "
+    )
+    Stream<OrderDto> streamSellerOrderFeed(
+            @Param("sellerId") Long sellerId,
+            @Param("orderStates") List<Integer> orderStates,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable
+    );
 
     @Query(
             "SELECT o, o.products.price, o.products.name, o.products.thumbnailUrl FROM Order o " +
@@ -44,13 +78,14 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
     List<Order> findPaidOrderBySellerIdSortByCreatedAtDesc(Long sellerId);
 
     @Query(
-            "SELECT o, o.products.price, o.products.name, o.products.thumbnailUrl FROM Order o " +
+            "SELECT NEW com.github.commerce.web.dto.order.OrderDto(o.id, p.id, p.name, s.shopName, p.leftAmount, p.thumbnailUrl, p.price, " +
+                    "o.quantity, o.totalPrice, o.orderState, o.orderTag, o.options, o.createdAt) " +
+                    "FROM Order o JOIN o.products p JOIN p.seller s " +
                     "WHERE o.users.id = :userId " +
-                    //"SELECT c FROM Cart c " +
                     "AND o.orderState in (2, 3, 4, 5) " +
                     "ORDER BY o.createdAt DESC "
     )
-    List<Order> findPaidOrderByUserIdSortByCreatedAtDesc(Long userId);
+    List<OrderDto> findPaidOrderByUserIdSortByCreatedAtDesc(Long userId);
 
     @Query(
             "SELECT o FROM Order o " +
@@ -74,6 +109,10 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
     List<Map<String, Object>> getUserTotalPriceFromOneMonth(LocalDateTime oneMonthBefore);
 
 
+    // 판매 집계 backfill 시작일
+    @Query("SELECT MIN(o.createdAt) FROM Order o WHERE o.orderState IN (2, 3, 4, 5)")
+    LocalDateTime findFirstPaidOrderCreatedAt();
+
     Optional<Order> findByCartsId(Long cartId);
 
     List<Order> findByUsersIdAndOrderTag(Long userId, String orderTag);
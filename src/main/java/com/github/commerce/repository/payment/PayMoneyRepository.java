@@ -2,9 +2,16 @@ package com.github.commerce.repository.payment;
 
 import com.github.commerce.entity.PayMoney;
 import com.github.commerce.entity.User;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.LockModeType;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,7 +23,42 @@ public interface PayMoneyRepository extends JpaRepository<PayMoney, Long> {
 
     Optional<PayMoney> findByUsersId(Long userId);
 
-    List<PayMoney> findAllByUsersId(Long userId);
+    // 페이머니 내역 (최신순 keyset), 첫 페이지면 cursorId null
+    @Query("SELECT p FROM PayMoney p WHERE p.users.id = :userId " +
+            "AND (:cursorId IS NULL OR p.id < :cursorId) ORDER BY p.id DESC")
+    List<PayMoney> findPayMoneyHistory(@Param("userId") Long userId, @Param("cursorId") Long cursorId, Pageable pageable);
 
     List<PayMoney> findAllByUsersIdOrderByCreatedAtDesc(Long userId);
+
+    // 사용자의 최신 지갑 행 잠금 조회 (SELECT ... FOR UPDATE), lockLatestByUsersId 로 호출
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM PayMoney p WHERE p.users.id = :userId ORDER BY p.id DESC")
+    List<PayMoney> findLatestForUpdate(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * 사용자의 최신 지갑 행을 잠그고 반환합니다. 충전/결제/포인트 변경은 같은 트랜잭션에서 이 메서드를 "처음으로" 호출해
+     * 사용자 단위로 직렬화해야 합니다. (먼저 잠금 없이 읽어 두면 영속성 컨텍스트에 남은 예전 값이 쓰임)
+     * 결제는 새 행을 추가하므로, 잠금을 기다리는 동안 다른 결제가 끝났다면 이미 최신이 아닌 행을 잠근 상태입니다.
+     * 잠근 뒤 다시 조회해 최신 행이 바뀌지 않을 때까지 반복합니다.
+     */
+    default Optional<PayMoney> lockLatestByUsersId(Long userId) {
+        Long lockedId = null;
+        while (true) {
+            List<PayMoney> latest = findLatestForUpdate(userId, PageRequest.of(0, 1));
+            if (latest.isEmpty()) {
+                return Optional.empty();
+            }
+            PayMoney payMoney = latest.get(0);
+            if (payMoney.getId().equals(lockedId)) {
+                return Optional.of(payMoney);
+            }
+            lockedId = payMoney.getId();
+        }
+    }
+
+    // 포인트 잔액을 읽지 않고 DB 에서 증가, 대상 행은 lockLatestByUsersId 로 먼저 잠가야 함
+    // (잠그지 않으면 동시에 결제가 이 행의 예전 잔액으로 새 행을 만들어 적립분이 사라짐)
+    @Modifying
+    @Query("UPDATE PayMoney p SET p.pointBalance = COALESCE(p.pointBalance, 0) + :point WHERE p.id = :payMoneyId")
+    int addPointBalance(@Param("payMoneyId") Long payMoneyId, @Param("point") Long point);
 }
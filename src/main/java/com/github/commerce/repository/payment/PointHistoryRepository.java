@@ -1,13 +1,24 @@
 package com.github.commerce.repository.payment;
 
 import com.github.commerce.entity.PointHistory;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface PointHistoryRepository extends JpaRepository<PointHistory,Long> {
 
-    List<PointHistory> findAllByPayMoneyUsersId(Long userId);
+    // 포인트 내역 (최신순 keyset), 첫 페이지면 cursorId null
+    @Query("SELECT ph FROM PointHistory ph JOIN FETCH ph.payMoney p WHERE p.users.id = :userId " +
+            "AND (:cursorId IS NULL OR ph.id < :cursorId) ORDER BY ph.id DESC")
+    List<PointHistory> findPointHistory(@Param("userId") Long userId, @Param("cursorId") Long cursorId, Pageable pageable);
+
+    // 이미 적립된 리뷰 id (리뷰 포인트 중복 적립 방지)
+    @Query("SELECT ph.reviewId FROM PointHistory ph WHERE ph.reviewId IN :reviewIds")
+    List<Long> findReviewIdsByReviewIdIn(@Param("reviewIds") Collection<Long> reviewIds);
 }
@@ -0,0 +1,53 @@
+package com.github.commerce.repository.payment;
+
+import com.github.commerce.entity.WalletSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface WalletSummaryRepository extends JpaRepository<WalletSummary, Long> {
+
+    // 요약이 없으면 최신 지갑(pay_moneys) 기준으로 한 번 만듦 (이미 있으면 무시)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO wallet_summaries " +
+            "(users_id, pay_money_balance, point_balance, charge_pay_money_total, used_pay_money_total, updated_at) " +
+            "SELECT p.users_id, COALESCE(p.pay_money_balance, 0), COALESCE(p.point_balance, 0), " +
+            "COALESCE(p.charge_pay_money_total, 0), " +
+            "(SELECT COALESCE(SUM(u.used_charge_pay_money), 0) FROM pay_moneys u WHERE u.users_id = :userId), :now " +
+            "FROM pay_moneys p WHERE p.users_id = :userId ORDER BY p.id DESC LIMIT 1",
+            nativeQuery = true)
+    int initializeFromPayMoney(@Param("userId") Long userId, @Param("now") LocalDateTime now);
+
+    // 지갑이 아직 없는 사용자 (이미 있으면 무시)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO wallet_summaries " +
+            "(users_id, pay_money_balance, point_balance, charge_pay_money_total, used_pay_money_total, updated_at) " +
+            "VALUES (:userId, 0, 0, 0, 0, :now)",
+            nativeQuery = true)
+    int initializeEmpty(@Param("userId") Long userId, @Param("now") LocalDateTime now);
+
+    // 잠금 조회 (트랜잭션 시작 시점이 아닌 최신 커밋 값을 읽음)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT w FROM WalletSummary w WHERE w.usersId = :userId")
+    Optional<WalletSummary> findForUpdate(@Param("userId") Long userId);
+
+    // 읽지 않고 DB 에서 증감 (동시 충전/결제/적립과 lost update 방지)
+    @Modifying
+    @Query("UPDATE WalletSummary w SET w.payMoneyBalance = w.payMoneyBalance + :payMoneyDelta, " +
+            "w.pointBalance = w.pointBalance + :pointDelta, " +
+            "w.chargePayMoneyTotal = w.chargePayMoneyTotal + :chargeDelta, " +
+            "w.usedPayMoneyTotal = w.usedPayMoneyTotal + :usedDelta, " +
+            "w.updatedAt = :now " +
+            "WHERE w.usersId = :userId")
+    int addDeltas(@Param("userId") Long userId, @Param("payMoneyDelta") long payMoneyDelta,
+                  @Param("pointDelta") long pointDelta, @Param("chargeDelta") long chargeDelta,
+                  @Param("usedDelta") long usedDelta, @Param("now") LocalDateTime now);
+}
@@ -6,19 +6,33 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface ReviewRepository extends JpaRepository<Review, Long> {
 
+    // 최신순 keyset 페이지, 첫 페이지면 cursor 둘 다 null
+    // createdAt <= cursor 조건이 있어야 idx_reviews_products_created_at 에서 cursor 위치부터 range scan 후 LIMIT 에서 멈춤
     @Query(value = "SELECT r " +
-            "FROM Review r " +
-            "WHERE r.products.id = :productId AND r.isDeleted = :isDeleted AND r.id > :cursorId " +
-            "ORDER BY r.createdAt DESC")
-    List<Review> findReviewsByProductId(
+            "FROM Review r JOIN FETCH r.products " +
+            "WHERE r.products.id = :productId AND r.isDeleted = false " +
+            "AND (:starPoint IS NULL OR r.starPoint = :starPoint) " +
+            "AND (:photoOnly = false OR r.imageUrl IS NOT NULL) " +
+            "AND (:cursorCreatedAt IS NULL OR (r.createdAt <= :cursorCreatedAt " +
+            "AND (r.createdAt < :cursorCreatedAt OR r.id < :cursorId))) " +
+            "ORDER BY r.createdAt DESC, r.id DESC")
+    List<Review> findReviewFeed(
             @Param("productId") Long productId,
-            @Param("isDeleted") boolean isDeleted,
-            @Param("cursorId") Long cursorId
-            );
+            @Param("starPoint") Short starPoint,
+            @Param("photoOnly") boolean photoOnly,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable
+    );
+
+    // 상세 페이지 별점 평균 (리뷰를 불러오지 않고 DB 에서 집계), 리뷰가 없으면 null
+    @Query("SELECT AVG(r.starPoint) FROM Review r WHERE r.products.id = :productId AND r.isDeleted = false")
+    Double findAverageStarPointByProductId(@Param("productId") Long productId);
 
     Review findByIdAndUsersIdAndIsDeleted(Long reviewId, Long userId, boolean b);
 
@@ -0,0 +1,35 @@
+package com.github.commerce.repository.scheduler;
+
+import com.github.commerce.entity.ScheduledJobLock;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface ScheduledJobLockRepository extends JpaRepository<ScheduledJobLock, String> {
+
+    // 조건부 UPDATE 한 번으로 lease 획득 - 1 이면 이 서버가 fireTime slot 을 실행
+    @Modifying
+    @Query("UPDATE ScheduledJobLock l SET l.lockedBy = :owner, l.lockedUntil = :lockedUntil, " +
+            "l.lastFireTime = :fireTime, l.updatedAt = :now " +
+            "WHERE l.jobName = :jobName AND l.lastFireTime < :fireTime " +
+            "AND (l.lockedUntil IS NULL OR l.lockedUntil <= :now)")
+    int acquire(@Param("jobName") String jobName, @Param("owner") String owner, @Param("fireTime") LocalDateTime fireTime,
+                @Param("lockedUntil") LocalDateTime lockedUntil, @Param("now") LocalDateTime now);
+
+    // 놓친 slot 을 실행하지 않고 넘김 (실행 중인 서버가 있으면 건드리지 않음)
+    @Modifying
+    @Query("UPDATE ScheduledJobLock l SET l.lastFireTime = :fireTime, l.updatedAt = :now " +
+            "WHERE l.jobName = :jobName AND l.lastFireTime < :fireTime " +
+            "AND (l.lockedUntil IS NULL OR l.lockedUntil <= :now)")
+    int skip(@Param("jobName") String jobName, @Param("fireTime") LocalDateTime fireTime, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE ScheduledJobLock l SET l.lockedUntil = :now, l.updatedAt = :now " +
+            "WHERE l.jobName = :jobName AND l.lockedBy = :owner")
+    int release(@Param("jobName") String jobName, @Param("owner") String owner, @Param("now") LocalDateTime now);
+}
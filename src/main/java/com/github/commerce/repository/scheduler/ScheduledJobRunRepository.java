@@ -0,0 +1,27 @@
+package com.github.commerce.repository.scheduler;
+
+import com.github.commerce.entity.ScheduledJobRun;
+import com.github.commerce.entity.ScheduledJobRunStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface ScheduledJobRunRepository extends JpaRepository<ScheduledJobRun, Long> {
+
+    // lease 를 이어받을 때, 이전 slot 에서 끝나지 않은(서버가 죽었거나 lease 보다 오래 걸린) 실행을 FAILED 로
+    @Modifying
+    @Query("UPDATE ScheduledJobRun r SET r.status = :failed, r.finishedAt = :now, r.errorMessage = :errorMessage " +
+            "WHERE r.jobName = :jobName AND r.status = :running AND r.fireTime < :fireTime")
+    int failAbandoned(@Param("jobName") String jobName, @Param("fireTime") LocalDateTime fireTime,
+                      @Param("running") ScheduledJobRunStatus running, @Param("failed") ScheduledJobRunStatus failed,
+                      @Param("errorMessage") String errorMessage, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM ScheduledJobRun r WHERE r.startedAt < :threshold")
+    int deleteStartedBefore(@Param("threshold") LocalDateTime threshold);
+}
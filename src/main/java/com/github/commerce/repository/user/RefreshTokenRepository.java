@@ -2,9 +2,38 @@ package com.github.commerce.repository.user;
 
 import com.github.commerce.entity.RefreshToken;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
-    Optional<RefreshToken> findByEmail(String email);
-}
\ No newline at end of file
+    Optional<RefreshToken> findByTokenId(String tokenId);
+
+    //사용 가능한 토큰일 때만 폐기(회전) - 반환값 0이면 없는 토큰이거나 이미 사용된 토큰
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE RefreshToken r SET r.revoked = true, r.revokedAt = :now, r.replacedBy = :replacedBy " +
+            "WHERE r.tokenId = :tokenId AND r.tokenHash = :tokenHash AND r.revoked = false")
+    int revokeIfActive(@Param("tokenId") String tokenId, @Param("tokenHash") String tokenHash,
+                       @Param("now") LocalDateTime now, @Param("replacedBy") String replacedBy);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE RefreshToken r SET r.revoked = true, r.revokedAt = :now " +
+            "WHERE r.familyId = :familyId AND r.revoked = false")
+    int revokeFamily(@Param("familyId") String familyId, @Param("now") LocalDateTime now);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE RefreshToken r SET r.revoked = true, r.revokedAt = :now " +
+            "WHERE r.email = :email AND r.revoked = false")
+    int revokeAllByEmail(@Param("email") String email, @Param("now") LocalDateTime now);
+
+    //메모리 폐기 목록 동기화용
+    List<RefreshToken> findByRevokedTrueAndRevokedAtAfterAndExpiredAtAfter(LocalDateTime revokedAt, LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.expiredAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -2,8 +2,16 @@ package com.github.commerce.repository.user;
 
 import com.github.commerce.entity.Seller;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
 
 public interface SellerRepository extends JpaRepository<Seller,Long> {
     boolean existsByShopNameAndUsersIsDeleteFalse(String shopName);
@@ -11,4 +19,14 @@ public interface SellerRepository extends JpaRepository<Seller,Long> {
     boolean existsByUsersId(Long userId);
 
     Optional<Seller> findByUsersId(Long userId);
+
+    // 중복확인 필터(DuplicateCheckFilter) 적재용, since 이후 가입한 판매자의 쇼핑몰 이름
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "-2147483648")) // Integer.MIN_VALUE, MySQL 드라이버가 한 행씩 스트리밍
+    @Query("SELECT s.shopName FROM Seller s JOIN s.users u WHERE u.isDelete = false AND u.createdAt >= :since")
+    Stream<String> streamActiveShopNames(@Param("since") LocalDateTime since);
+
+    // 중복확인 필터 동기화용, since 이후 변경된 쇼핑몰 이름 (다른 서버에서 수정한 값)
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "-2147483648")) // Integer.MIN_VALUE, MySQL 드라이버가 한 행씩 스트리밍
+    @Query("SELECT s.shopName FROM Seller s JOIN s.users u WHERE u.isDelete = false AND s.shopNameUpdatedAt >= :since")
+    Stream<String> streamShopNamesChangedSince(@Param("since") LocalDateTime since);
 }
@@ -1,36 +1,89 @@
 package com.github.commerce.repository.user;
 
 import com.github.commerce.entity.User;
+import com.github.commerce.entity.UserRoleEnum;
 import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Collection;
+import java.util.Collections;
 
+/**
+ * 인증된 사용자 정보.
+ * 요청마다 JWT claim 만으로 만들어지므로 User 엔티티(연관관계 포함)를 들고 있지 않습니다.
+ * password 는 로그인 인증(UserDetailsServiceImpl) 시에만 채워집니다.
+ */
 public class UserDetailsImpl implements UserDetails {
 
-    private final User user;
+    private final Long id;
+    private final String email;
+    private final String userName;
+    private final UserRoleEnum role;
+    private final Long sellerId;
+    private final int tokenVersion;
+    private final String password;
 
     public UserDetailsImpl(User user) {
-        this.user=user;
+        this.id = user.getId();
+        this.email = user.getEmail();
+        this.userName = user.getUserName();
+        this.role = user.getRole();
+        this.sellerId = user.getSeller() != null ? user.getSeller().getId() : null;
+        this.tokenVersion = user.currentTokenVersion();
+        this.password = user.getPassword();
     }
 
-    public User getUser() {
-        return user;
+    public UserDetailsImpl(Long id, String email, String userName, UserRoleEnum role, Long sellerId, int tokenVersion) {
+        this.id = id;
+        this.email = email;
+        this.userName = userName;
+        this.role = role;
+        this.sellerId = sellerId;
+        this.tokenVersion = tokenVersion;
+        this.password = null;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getUserName() {
+        return userName;
+    }
+
+    public UserRoleEnum getRole() {
+        return role;
+    }
+
+    public Long getSellerId() {
+        return sellerId;
+    }
+
+    public int getTokenVersion() {
+        return tokenVersion;
     }
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return null;
+        if (role == null) {
+            return Collections.emptyList();
+        }
+        return Collections.singletonList(new SimpleGrantedAuthority(role.getAuthority()));
     }
 
     @Override
     public String getPassword() {
-        return user.getPassword();
+        return password;
     }
 
     @Override
     public String getUsername() {
-        return user.getEmail();
+        return email;
     }
 
     @Override
@@ -2,11 +2,29 @@ package com.github.commerce.repository.user;
 
 import com.github.commerce.entity.UsersInfo;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
 
 public interface UserInfoRepository extends JpaRepository<UsersInfo, Long> {
 
     Optional<UsersInfo> findByUsersId(Long userId);
     boolean existsByNicknameAndUsersIsDeleteFalse(String nickname);
+
+    // 중복확인 필터(DuplicateCheckFilter) 적재용, since 이후 가입한 회원의 닉네임
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "-2147483648")) // Integer.MIN_VALUE, MySQL 드라이버가 한 행씩 스트리밍
+    @Query("SELECT i.nickname FROM UsersInfo i JOIN i.users u WHERE u.isDelete = false AND u.createdAt >= :since")
+    Stream<String> streamActiveNicknames(@Param("since") LocalDateTime since);
+
+    // 중복확인 필터 동기화용, since 이후 변경된 닉네임 (다른 서버에서 수정한 값)
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "-2147483648")) // Integer.MIN_VALUE, MySQL 드라이버가 한 행씩 스트리밍
+    @Query("SELECT i.nickname FROM UsersInfo i JOIN i.users u WHERE u.isDelete = false AND i.nicknameUpdatedAt >= :since")
+    Stream<String> streamNicknamesChangedSince(@Param("since") LocalDateTime since);
 }
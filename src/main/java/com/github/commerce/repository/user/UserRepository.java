@@ -2,8 +2,17 @@ package com.github.commerce.repository.user;
 
 import com.github.commerce.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     User findUserByEmail(String userEmail);
@@ -11,4 +20,17 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByEmail(String email);
     String findRoleById(Long profileId);
     boolean existsByEmailAndIsDeleteIsFalse(String email);
+
+    // 중복확인 필터(DuplicateCheckFilter) 적재용, since 이후 가입한 회원의 email
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "-2147483648")) // Integer.MIN_VALUE, MySQL 드라이버가 한 행씩 스트리밍
+    @Query("SELECT u.email FROM User u WHERE u.isDelete = false AND u.createdAt >= :since")
+    Stream<String> streamActiveEmails(@Param("since") LocalDateTime since);
+
+    // 토큰 버전이 since 이후 바뀐 사용자 ([userId, tokenVersion, isDelete])
+    @Query("SELECT u.id, u.tokenVersion, u.isDelete FROM User u WHERE u.tokenVersionUpdatedAt > :since")
+    List<Object[]> findTokenVersionsChangedSince(@Param("since") LocalDateTime since);
+
+    // 탈퇴한 사용자 id (TokenVersionRegistry 적재용)
+    @Query("SELECT u.id FROM User u WHERE u.isDelete = true")
+    List<Long> findDeletedIds();
 }
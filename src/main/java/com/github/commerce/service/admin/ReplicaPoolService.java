@@ -0,0 +1,74 @@
+package com.github.commerce.service.admin;
+
+import com.github.commerce.config.DataSourceConfiguration;
+import com.github.commerce.config.HikariPoolMetrics;
+import com.github.commerce.config.ReplicaDataSourceProperties;
+import com.github.commerce.config.RoutingDataSource;
+import com.github.commerce.service.admin.exception.AdminErrorCode;
+import com.github.commerce.service.admin.exception.AdminException;
+import com.github.commerce.web.dto.admin.PostReplicaPoolDto;
+import com.github.commerce.web.dto.admin.ReplicaPoolDto;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReplicaPoolService {
+    private final RoutingDataSource routingDataSource;
+    private final ReplicaDataSourceProperties replicaDataSourceProperties;
+    private final HikariPoolMetrics hikariPoolMetrics;
+
+    public List<ReplicaPoolDto> getPools() {
+        List<ReplicaPoolDto> pools = new ArrayList<>();
+        pools.add(ReplicaPoolDto.fromMetric(DataSourceConfiguration.MASTER_POOL_NAME,
+                hikariPoolMetrics.get(DataSourceConfiguration.MASTER_POOL_NAME)));
+        routingDataSource.getReplicas().forEach(replica ->
+                pools.add(ReplicaPoolDto.fromReplica(replica, hikariPoolMetrics.get(replica.getKey()))));
+        return pools;
+    }
+
+    // 계정/드라이버/타임아웃 등은 설정 파일의 첫 replica(없으면 master) 설정을 그대로 사용
+    public ReplicaPoolDto addPool(PostReplicaPoolDto.PostReplicaPoolRequest request) {
+        String name = request.getName();
+        if (!StringUtils.hasText(name) || !StringUtils.hasText(request.getJdbcUrl())
+                || name.equals(DataSourceConfiguration.MASTER_POOL_NAME)) {
+            throw new AdminException(AdminErrorCode.INVALID_POOL_REQUEST);
+        }
+
+        HikariConfig config = new HikariConfig();
+        template().copyStateTo(config);
+        config.setPoolName(name);
+        config.setJdbcUrl(request.getJdbcUrl());
+        if (request.getMaximumPoolSize() != null) {
+            config.setMaximumPoolSize(request.getMaximumPoolSize());
+        }
+
+        HikariDataSource dataSource = DataSourceConfiguration.createPool(config, hikariPoolMetrics);
+        if (!routingDataSource.addReplica(name, dataSource)) {
+            dataSource.close();
+            throw new AdminException(AdminErrorCode.POOL_ALREADY_EXISTS);
+        }
+        return ReplicaPoolDto.fromReplica(routingDataSource.getReplica(name), hikariPoolMetrics.get(name));
+    }
+
+    // 새 읽기 요청은 바로 다른 replica 로 가고, 사용중인 커넥션이 반납되면 풀이 종료됨
+    public String drainPool(String name) {
+        if (!routingDataSource.drainReplica(name)) {
+            throw new AdminException(AdminErrorCode.POOL_NOT_FOUND);
+        }
+        return name + " 풀 drain 시작";
+    }
+
+    private HikariConfig template() {
+        List<HikariConfig> replicas = replicaDataSourceProperties.getReplicas();
+        return replicas.isEmpty() ? (HikariDataSource) routingDataSource.getResolvedDefaultDataSource() : replicas.get(0);
+    }
+}
@@ -0,0 +1,34 @@
+package com.github.commerce.service.admin;
+
+import com.github.commerce.service.admin.exception.AdminErrorCode;
+import com.github.commerce.service.admin.exception.AdminException;
+import com.github.commerce.service.analytics.SellerAnalyticsService;
+import com.github.commerce.service.analytics.SellerSalesBackfillLauncher;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SalesBackfillService {
+    private final SellerAnalyticsService sellerAnalyticsService;
+    private final SellerSalesBackfillLauncher sellerSalesBackfillLauncher;
+
+    // 기간을 생략하면 첫 결제완료 주문일 ~ 오늘
+    public String startBackfill(LocalDate from, LocalDate to) {
+        LocalDate end = to == null ? LocalDate.now() : to;
+        LocalDate start = from == null ? sellerAnalyticsService.getFirstSalesDate() : from;
+        if (start == null) {
+            return "집계할 주문이 없습니다.";
+        }
+        if (start.isAfter(end)) {
+            throw new AdminException(AdminErrorCode.INVALID_BACKFILL_RANGE);
+        }
+
+        sellerSalesBackfillLauncher.launch(start, end);
+        return start + " ~ " + end + " 판매 집계 backfill 시작";
+    }
+}
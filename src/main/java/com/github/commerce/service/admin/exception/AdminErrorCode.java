@@ -0,0 +1,22 @@
+package com.github.commerce.service.admin.exception;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+@Getter
+@AllArgsConstructor
+public enum AdminErrorCode {
+    //status(HttpStatus.badRequest) 400
+    INVALID_POOL_REQUEST("풀 이름과 jdbcUrl 을 확인해주세요.", HttpStatus.BAD_REQUEST),
+    INVALID_BACKFILL_RANGE("backfill 기간을 확인해주세요.", HttpStatus.BAD_REQUEST),
+
+    //status(HttpStatus.NOT_FOUND) 404
+    POOL_NOT_FOUND("존재하지 않는 replica 풀 입니다.", HttpStatus.NOT_FOUND),
+
+    //status(HttpStatus.CONFLICT) 409
+    POOL_ALREADY_EXISTS("같은 이름의 풀이 이미 존재합니다.", HttpStatus.CONFLICT);
+
+    private final String description;
+    private final HttpStatus httpStatus;
+}
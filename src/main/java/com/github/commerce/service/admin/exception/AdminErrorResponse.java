@@ -0,0 +1,14 @@
+package com.github.commerce.service.admin.exception;
+
+
+import lombok.*;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class AdminErrorResponse {
+    private AdminErrorCode errorCode;
+    private String errorMessage;
+}
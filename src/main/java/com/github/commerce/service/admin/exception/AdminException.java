@@ -0,0 +1,15 @@
+package com.github.commerce.service.admin.exception;
+
+import lombok.Getter;
+
+@Getter
+public class AdminException extends RuntimeException{
+
+    private AdminErrorCode errorCode;
+    private String errorMessage;
+
+    public AdminException(AdminErrorCode errorCode) {
+        this.errorCode=errorCode;
+        this.errorMessage=errorCode.getDescription();
+    }
+}
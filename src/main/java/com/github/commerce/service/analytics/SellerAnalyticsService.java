@@ -0,0 +1,102 @@
+package com.github.commerce.service.analytics;
+
+import com.github.commerce.entity.Seller;
+import com.github.commerce.repository.analytics.SellerDailySalesRepository;
+import com.github.commerce.repository.order.OrderRepository;
+import com.github.commerce.repository.user.SellerRepository;
+import com.github.commerce.service.analytics.exception.AnalyticsErrorCode;
+import com.github.commerce.service.analytics.exception.AnalyticsException;
+import com.github.commerce.web.dto.analytics.SalesTimeSeriesDto;
+import com.github.commerce.web.dto.analytics.TopProductDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 판매자 판매 분석. 조회는 모두 seller_daily_sales 집계 테이블만 사용합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SellerAnalyticsService {
+    private static final int DEFAULT_DAYS = 30;
+    private static final int MAX_DAYS = 366;
+    private static final int DEFAULT_LIMIT = 10;
+    private static final int MAX_LIMIT = 100;
+
+    private final SellerDailySalesRepository sellerDailySalesRepository;
+    private final SellerRepository sellerRepository;
+    private final OrderRepository orderRepository;
+
+    // 일자별 합계, 판매가 없는 날은 0 으로 채움 (기본 최근 30일)
+    @Transactional(readOnly = true)
+    public List<SalesTimeSeriesDto> getSalesTimeSeries(Long userId, LocalDate from, LocalDate to, Long productId) {
+        Seller seller = validateSeller(userId);
+        LocalDate end = to == null ? LocalDate.now() : to;
+        LocalDate start = from == null ? end.minusDays(DEFAULT_DAYS - 1) : from;
+        validateRange(start, end);
+
+        Map<LocalDate, SalesTimeSeriesDto> salesByDate = sellerDailySalesRepository
+                .findTimeSeries(seller.getId(), productId, start, end).stream()
+                .collect(Collectors.toMap(SalesTimeSeriesDto::getDate, Function.identity()));
+
+        List<SalesTimeSeriesDto> result = new ArrayList<>();
+        for (LocalDate date = start; !date.isAfter(end); date = date.plusDays(1)) {
+            SalesTimeSeriesDto sales = salesByDate.get(date);
+            result.add(sales != null ? sales : new SalesTimeSeriesDto(date, 0L, 0L, 0L));
+        }
+        return result;
+    }
+
+    // 기간 내 매출 상위 상품 (기본 최근 30일, 10개)
+    @Transactional(readOnly = true)
+    public List<TopProductDto> getTopProducts(Long userId, LocalDate from, LocalDate to, Integer limit) {
+        Seller seller = validateSeller(userId);
+        LocalDate end = to == null ? LocalDate.now() : to;
+        LocalDate start = from == null ? end.minusDays(DEFAULT_DAYS - 1) : from;
+        validateRange(start, end);
+
+        int size = limit == null ? DEFAULT_LIMIT : limit;
+        if (size < 1 || size > MAX_LIMIT) {
+            throw new AnalyticsException(AnalyticsErrorCode.INVALID_LIMIT);
+        }
+        return sellerDailySalesRepository.findTopProducts(seller.getId(), start, end, PageRequest.of(0, size));
+    }
+
+    // backfill: 하루치 집계를 주문 테이블 기준으로 다시 만듦 (sellerSalesBackfillJob 에서 하루씩 호출)
+    @Transactional
+    public int rebuildDay(LocalDate salesDate) {
+        sellerDailySalesRepository.deleteBySalesDate(salesDate);
+        return sellerDailySalesRepository.rebuildSalesDate(
+                salesDate, salesDate.atStartOfDay(), salesDate.plusDays(1).atStartOfDay(), LocalDateTime.now());
+    }
+
+    // 결제완료 주문이 없으면 null
+    @Transactional(readOnly = true)
+    public LocalDate getFirstSalesDate() {
+        LocalDateTime firstPaidOrderCreatedAt = orderRepository.findFirstPaidOrderCreatedAt();
+        return firstPaidOrderCreatedAt == null ? null : firstPaidOrderCreatedAt.toLocalDate();
+    }
+
+    private Seller validateSeller(Long userId) {
+        return sellerRepository.findByUsersId(userId)
+                .orElseThrow(() -> new AnalyticsException(AnalyticsErrorCode.SELLER_NOT_FOUND));
+    }
+
+    private void validateRange(LocalDate start, LocalDate end) {
+        if (start.isAfter(end) || ChronoUnit.DAYS.between(start, end) >= MAX_DAYS) {
+            throw new AnalyticsException(AnalyticsErrorCode.INVALID_DATE_RANGE);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.github.commerce.service.analytics;
+
+import com.github.commerce.config.batch.BatchJobSupport;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SellerSalesBackfillLauncher {
+    private final BatchJobSupport batchJobSupport;
+    private final Job sellerSalesBackfillJob;
+
+    //기간이 길면 오래 걸리므로 요청 스레드와 분리해서 실행
+    @Async
+    public void launch(LocalDate from, LocalDate to) {
+        JobParameters jobParameters = new JobParametersBuilder()
+                .addString("from", from.toString())
+                .addString("to", to.toString())
+                .addLong("requestTime", System.currentTimeMillis())
+                .toJobParameters();
+        try {
+            batchJobSupport.run(sellerSalesBackfillJob, jobParameters);
+        } catch (Exception e) {
+            log.error("판매 집계 backfill 실행 실패 {} ~ {} : {}", from, to, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.github.commerce.service.analytics;
+
+import com.github.commerce.repository.analytics.SellerDailySalesRepository;
+import com.github.commerce.web.dto.order.OrderNotificationDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+
+@Component
+@RequiredArgsConstructor
+public class SellerSalesRollupListener {
+    private final SellerDailySalesRepository sellerDailySalesRepository;
+
+    //결제 트랜잭션 안(커밋 직전)에서 반영해 결제와 집계가 함께 커밋/롤백되고, backfill 과도 중복 집계되지 않음
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void addPaidOrder(OrderNotificationDto notification) {
+        sellerDailySalesRepository.addSales(
+                notification.getSellerId(),
+                notification.getProductId(),
+                notification.getCreatedAt().toLocalDate(),
+                notification.getQuantity().longValue(),
+                notification.getTotalPrice(),
+                LocalDateTime.now()
+        );
+    }
+}
@@ -0,0 +1,19 @@
+package com.github.commerce.service.analytics.exception;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+@Getter
+@AllArgsConstructor
+public enum AnalyticsErrorCode {
+    //status(HttpStatus.badRequest) 400
+    INVALID_DATE_RANGE("조회 기간을 확인해주세요. (최대 366일)", HttpStatus.BAD_REQUEST),
+    INVALID_LIMIT("조회 개수는 1~100개 입니다.", HttpStatus.BAD_REQUEST),
+
+    //status(HttpStatus.FORBIDDEN) 403
+    SELLER_NOT_FOUND("판매자로 등록되지 않았습니다.", HttpStatus.FORBIDDEN);
+
+    private final String description;
+    private final HttpStatus httpStatus;
+}
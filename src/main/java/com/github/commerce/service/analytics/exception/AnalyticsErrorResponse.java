@@ -0,0 +1,14 @@
+package com.github.commerce.service.analytics.exception;
+
+
+import lombok.*;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class AnalyticsErrorResponse {
+    private AnalyticsErrorCode errorCode;
+    private String errorMessage;
+}
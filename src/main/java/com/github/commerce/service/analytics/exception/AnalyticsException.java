@@ -0,0 +1,15 @@
+package com.github.commerce.service.analytics.exception;
+
+import lombok.Getter;
+
+@Getter
+public class AnalyticsException extends RuntimeException{
+
+    private AnalyticsErrorCode errorCode;
+    private String errorMessage;
+
+    public AnalyticsException(AnalyticsErrorCode errorCode) {
+        this.errorCode=errorCode;
+        this.errorMessage=errorCode.getDescription();
+    }
+}
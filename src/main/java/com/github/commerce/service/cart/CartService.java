@@ -5,6 +5,10 @@ import com.github.commerce.entity.Product;
 import com.github.commerce.entity.User;
 import com.github.commerce.repository.cart.CartRepository;
 import com.github.commerce.repository.product.ProductRepository;
+import com.github.commerce.service.cart.exception.CartErrorCode;
+import com.github.commerce.service.cart.exception.CartException;
+import com.github.commerce.service.cart.util.CartCache;
+import com.github.commerce.service.cart.util.CartMessagePublisher;
 import com.github.commerce.service.cart.util.ValidatCartMethod;
 import com.github.commerce.web.dto.cart.CartDto;
 import com.github.commerce.web.dto.cart.CartRmqDto;
@@ -13,7 +17,6 @@ import com.github.commerce.web.dto.cart.PutCartDto;
 import com.google.gson.Gson;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
@@ -25,29 +28,35 @@ import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Slf4j
 @RequiredArgsConstructor
 @Service
 public class CartService {
+    private static final Gson GSON = new Gson();
+
     private final CartRepository cartRepository;
     private final ValidatCartMethod validatCartMethod;
-    private final RabbitTemplate rabbitTemplate;
+    private final CartMessagePublisher cartMessagePublisher;
     private final ProductRepository productRepository;
+    private final CartCache cartCache;
 
     @Transactional(readOnly = true)
     public List<Map<LocalDate, List<CartDto>>> getAllCarts(Long userId){
-        List<Cart> sortedCarts = cartRepository.findAllByUsersIdOrderByCreatedAtDesc(userId);
+        // 캐시에 없을 때만 DB 조회
+        List<CartDto> sortedCarts = cartCache.get(userId, () -> cartRepository.findAllByUsersIdOrderByCreatedAtDesc(userId));
         // 카트 레코드를 날짜별로 그룹화
         //여기서 중요한 점은 LocalDate는 날짜만을 다루기 때문에 시간 정보가 무시되고 날짜 정보만을 사용하여 그룹화가 이루어집니다.
         // 만약 시간 정보도 포함하여 그룹화하려면 LocalDateTime을 사용하거나 다른 방식으로 날짜와 시간을 함께 처리해야 합니다.
         Map<LocalDate, List<CartDto>> groupedCarts = sortedCarts.stream()
                 .collect(Collectors.groupingBy(
                         cart -> cart.getCreatedAt().toLocalDate(),
-                        Collectors.mapping(CartDto::fromEntity, Collectors.toList())
+                        Collectors.toList()
                 ));
 
         List<Map<LocalDate, List<CartDto>>> result = new ArrayList<>();
@@ -67,26 +76,34 @@ public class CartService {
         return carts.map(CartDto::fromEntity);
     }
 
+    // 사용자 1번, 상품 IN 쿼리 1번, 중복 확인용 장바구니 1번 조회 후 전체 검증이 끝나면 발행
     @Transactional
     public List<String> addToCart(List<PostCartDto.PostCartRequest> requestList, Long userId) {
-        List<String >nameList = new ArrayList<>();
+        User validatedUser = validatCartMethod.validateUser(userId);
+        Map<Long, Product> products = validatCartMethod.validateProducts(requestList.stream()
+                .map(PostCartDto.PostCartRequest::getProductId)
+                .collect(Collectors.toSet()));
+        List<CartDto> carts = validatCartMethod.getCarts(userId);
+
+        List<CartRmqDto> newCarts = new ArrayList<>();
+        List<String> nameList = new ArrayList<>();
+        Set<String> requested = new HashSet<>();
         for(PostCartDto.PostCartRequest request : requestList) {
             Long inputProductId = request.getProductId();
             Integer inputQuantity = request.getQuantity();
-            List<String> inputOptions = request.getOptions();
-
-            // Gson 인스턴스 생성
-            Gson gson = new Gson();
 
             // inputOptions를 JSON 문자열로 변환
-            String inputOptionsJson = gson.toJson(inputOptions);
-
-            User validatedUser = validatCartMethod.validateUser(userId);
-            Product validatedProduct = validatCartMethod.validateProduct(inputProductId);
-            validatCartMethod.validateDuplicateCart(validatedProduct, userId, inputOptionsJson);
+            String inputOptionsJson = GSON.toJson(request.getOptions());
+
+            Product validatedProduct = products.get(inputProductId);
+            validatCartMethod.validateDuplicateCart(carts, userId, inputProductId, inputOptionsJson);
+            // 같은 요청 안에서 같은 상품 + 옵션이 두 번 들어온 경우
+            if (!requested.add(inputProductId + ":" + inputOptionsJson)) {
+                throw new CartException(CartErrorCode.PRODUCT_DUPLICATE, inputProductId, inputOptionsJson);
+            }
             validatCartMethod.validateStock(inputQuantity, validatedProduct);
 
-            CartRmqDto newCart = CartRmqDto.fromEntityForPost(
+            newCarts.add(CartRmqDto.fromEntityForPost(
                     Cart.builder()
                             .users(validatedUser)
                             .products(validatedProduct)
@@ -94,35 +111,39 @@ public class CartService {
                             .quantity(inputQuantity)
                             .isOrdered(false)
                             .build()
-            );
-
-            rabbitTemplate.convertAndSend("exchange", "postCart", newCart);
+            ));
             nameList.add(validatedProduct.getName() + "상품을 장바구로 추가합니다.");
         }
+
+        cartMessagePublisher.publish("postCart", userId, newCarts);
+        newCarts.forEach(cart -> cartCache.addPending(userId, cart.getProductId(), cart.getOptions()));
         return nameList;
     }
 
+    // 사용자 1번, 장바구니 1번, 상품 IN 쿼리 1번 조회 후 전체 검증이 끝나면 발행
     @Transactional
     public List<String> modifyCart(List<PutCartDto.PutCartRequest> requestList, Long userId) {
-        List<String >nameList = new ArrayList<>();
+        User validatedUser = validatCartMethod.validateUser(userId);
+        Map<Long, Cart> validatedCarts = validatCartMethod.validateCarts(requestList.stream()
+                .map(PutCartDto.PutCartRequest::getCartId)
+                .collect(Collectors.toSet()), userId);
+        Map<Long, Product> products = validatCartMethod.validateProducts(requestList.stream()
+                .map(PutCartDto.PutCartRequest::getProductId)
+                .collect(Collectors.toSet()));
+
+        List<CartRmqDto> newCarts = new ArrayList<>();
+        List<String> nameList = new ArrayList<>();
         for(PutCartDto.PutCartRequest request : requestList) {
-            Long cartId = request.getCartId();
-            Long productId = request.getProductId();
             Integer inputQuantity = request.getQuantity();
-            List<String> options = request.getOptions();
-
-            // Gson 인스턴스 생성
-            Gson gson = new Gson();
 
             // inputOptions를 JSON 문자열로 변환
-            String inputOptionsJson = gson.toJson(options);
+            String inputOptionsJson = GSON.toJson(request.getOptions());
 
-            User validatedUser = validatCartMethod.validateUser(userId);
-            Cart validatedCart = validatCartMethod.validateCart(cartId, userId);
-            Product validatedProduct = validatCartMethod.validateProduct(productId);
+            Cart validatedCart = validatedCarts.get(request.getCartId());
+            Product validatedProduct = products.get(request.getProductId());
             validatCartMethod.validateStock(inputQuantity, validatedProduct);
 
-            CartRmqDto newCart = CartRmqDto.fromEntityForModify(
+            newCarts.add(CartRmqDto.fromEntityForModify(
                     Cart.builder()
                             .id(validatedCart.getId())
                             .users(validatedUser)
@@ -132,11 +153,12 @@ public class CartService {
                             .isOrdered(false)
                             .createdAt(validatedCart.getCreatedAt())
                             .build()
-            );
-            rabbitTemplate.convertAndSend("exchange", "putCart", newCart);
+            ));
             nameList.add(validatedProduct.getName() + "상품을 장바구니서 수정합니다.");
-
         }
+
+        cartMessagePublisher.publish("putCart", userId, newCarts);
+        newCarts.forEach(cart -> cartCache.modifyPending(userId, cart.getCartId(), cart.getQuantity(), cart.getOptions()));
         return nameList;
 
     }
@@ -147,6 +169,7 @@ public class CartService {
         User validatedUser = validatCartMethod.validateUser(userId);
         //asyncCartMethod.deleteAllByUsersId(userId);
         cartRepository.deleteAllByUsersId(userId);
+        cartCache.evictAfterCommit(userId);
         return validatedUser.getUserName() + "님의 장바구니 목록이 삭제되었습니다.";
     }
 
@@ -156,6 +179,7 @@ public class CartService {
         Cart validatedCart = validatCartMethod.validateCart(cartId, userId);
         //asyncCartMethod.deleteOptionByOptionId(validatedCart.getOptionId());
         cartRepository.deleteById(cartId);
+        cartCache.removeAfterCommit(userId, cartId);
         return validatedCart.getId() + "번 장바구니 삭제";
     }
 
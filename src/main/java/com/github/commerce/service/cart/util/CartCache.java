@@ -0,0 +1,402 @@
+package com.github.commerce.service.cart.util;
+
+import com.github.commerce.config.RabbitMQConfig;
+import com.github.commerce.web.dto.cart.CartCacheInvalidationRmqDto;
+import com.github.commerce.web.dto.cart.CartDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자별 장바구니 캐시 (주문되지 않은 장바구니 줄 + 상품 스냅샷: 상점명/상품명/옵션목록/가격/썸네일/재고).
+ * 첫 조회 때 DB 에서 채우고, 장바구니 삭제/주문 완료는 커밋 이후 반영, 상품 가격/재고 수정 시 해당 상품을 담은 사용자 캐시를 제거합니다.
+ * 장바구니 추가/수정은 외부 consumer 가 비동기로 반영하므로 발행한 변경을 pending 으로 들고 있다가,
+ * DB 조회 결과에 반영된 것이 확인될 때까지는 캐시를 쓰지 않고 DB 에서 읽습니다.
+ * 외부 consumer 의 재고 차감은 알 수 없으므로 TTL 로 오래된 스냅샷을 버립니다. (주문 시 재고는 DB 로 다시 검증)
+ * 캐시는 서버마다 따로 있으므로 제거/무효화는 커밋 이후 cartCacheInvalidation exchange 로 다른 서버에도 전파합니다.
+ * (발행에 실패하면 다른 서버는 TTL 이 지날 때까지 이전 캐시를 볼 수 있음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CartCache {
+
+    private static final long TTL = 5 * 60 * 1000L; //5분
+    private static final long PENDING_TTL = 30 * 1000L; //consumer 가 이 시간 안에 반영하지 못하면 pending 포기
+    // 제거 직후의 조회는 replica 지연 / 제거 전에 시작된 조회일 수 있으므로 이 시간 동안은 다시 캐싱하지 않음
+    private static final long RELOAD_GRACE_MILLIS = 5 * 1000L;
+    private static final int MAX_SIZE = 10000;
+
+    private final Map<Long, UserCart> cache = new ConcurrentHashMap<>();
+    // 상품 id -> 그 상품을 장바구니에 담은(캐시된) 사용자 id
+    private final Map<Long, Set<Long>> usersByProduct = new ConcurrentHashMap<>();
+    // 상품 id -> 마지막 변경 시각 (RELOAD_GRACE_MILLIS 동안만 보관)
+    private final Map<Long, Long> changedProducts = new ConcurrentHashMap<>();
+    private final RabbitTemplate rabbitTemplate;
+
+    /**
+     * 캐시된 장바구니 목록 (생성일 내림차순), 없거나 반영 대기중인 변경이 있으면 loader 로 DB 에서 읽고 가능하면 캐싱
+     */
+    public List<CartDto> get(Long userId, Supplier<List<CartDto>> loader) {
+        long now = System.currentTimeMillis();
+        UserCart cached = cache.get(userId);
+        if (cached != null && cached.isUsable(now)) {
+            return cached.toDtoList(userId);
+        }
+        List<CartDto> carts = loader.get();
+        put(userId, carts, now);
+        return carts;
+    }
+
+    // 같은 상품 + 옵션이 장바구니에 있거나 추가 요청이 반영 대기중인지, get 으로 한 번 읽은 목록을 넘겨서 사용
+    public boolean contains(Long userId, List<CartDto> carts, Long productId, String options) {
+        boolean exists = carts.stream()
+                .anyMatch(cart -> Objects.equals(cart.getProductId(), productId) && Objects.equals(cart.getOption(), options));
+        if (exists) {
+            return true;
+        }
+        UserCart cached = cache.get(userId);
+        long now = System.currentTimeMillis();
+        return cached != null && cached.pending.stream()
+                .anyMatch(pending -> !pending.isExpired(now) && pending.isAddOf(productId, options));
+    }
+
+    // postCart 발행 후 호출
+    public void addPending(Long userId, Long productId, String options) {
+        recordPending(userId, PendingChange.add(productId, options, System.currentTimeMillis()));
+    }
+
+    // putCart 발행 후 호출
+    public void modifyPending(Long userId, Long cartId, Integer quantity, String options) {
+        recordPending(userId, PendingChange.modify(cartId, quantity, options, System.currentTimeMillis()));
+    }
+
+    // 장바구니 한 줄 삭제, 트랜잭션 안이면 커밋 이후 반영 (evict 와 같이 삭제 전에 시작된 조회가 다시 캐싱하지 못하게 함)
+    public void removeAfterCommit(Long userId, Long cartId) {
+        afterCommit(() -> {
+            remove(userId, cartId);
+            broadcast(CartCacheInvalidationRmqDto.cartLine(userId, cartId));
+        });
+    }
+
+    // 사용자 장바구니 전체 제거 (전체 삭제, 결제로 주문 완료 처리 등)
+    public void evictAfterCommit(Long userId) {
+        evict(userId);
+        afterCommit(() -> {
+            evict(userId);
+            broadcast(CartCacheInvalidationRmqDto.user(userId));
+        });
+    }
+
+    // 상품 가격/재고/이름 등이 바뀌면 그 상품을 담은 사용자 캐시 제거
+    public void invalidateProductAfterCommit(Long productId) {
+        invalidateProduct(productId);
+        afterCommit(() -> {
+            invalidateProduct(productId);
+            broadcast(CartCacheInvalidationRmqDto.product(productId));
+        });
+    }
+
+    // 다른 서버에서 커밋된 제거/무효화 반영 (자기가 보낸 메시지는 이미 반영했으므로 무시)
+    @RabbitListener(queues = "#{T(com.github.commerce.config.RabbitMQConfig).CART_CACHE_QUEUE_NAME}",
+            containerFactory = "cartCacheListenerContainerFactory",
+            autoStartup = "${cart.cache.broadcast-enabled:true}")
+    public void onRemoteInvalidation(CartCacheInvalidationRmqDto message) {
+        if (RabbitMQConfig.CART_CACHE_QUEUE_NAME.equals(message.getOrigin()) || message.getType() == null) {
+            return;
+        }
+        switch (message.getType()) {
+            case USER:
+                evict(message.getUserId());
+                break;
+            case CART_LINE:
+                remove(message.getUserId(), message.getCartId());
+                break;
+            case PRODUCT:
+                invalidateProduct(message.getProductId());
+                break;
+        }
+    }
+
+    @Scheduled(fixedDelay = 60 * 1000L)
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        cache.forEach((userId, cached) -> {
+            if (cached.isRemovable(now)) {
+                cache.computeIfPresent(userId, (key, current) -> current.isRemovable(now) ? index(key, current, null) : current);
+            }
+        });
+        changedProducts.values().removeIf(changedAt -> now - changedAt >= RELOAD_GRACE_MILLIS);
+    }
+
+    private void put(Long userId, List<CartDto> carts, long loadedAt) {
+        if (!cache.containsKey(userId) && !hasRoom()) {
+            return; //가득 찬 경우 캐싱하지 않고 DB 조회로 처리
+        }
+        boolean recentlyChanged = carts.stream()
+                .map(cart -> changedProducts.get(cart.getProductId()))
+                .anyMatch(changedAt -> changedAt != null && loadedAt - changedAt < RELOAD_GRACE_MILLIS);
+        cache.compute(userId, (key, cached) -> {
+            long now = System.currentTimeMillis();
+            List<PendingChange> pending = cached == null ? Collections.emptyList() : cached.unresolved(carts, now);
+            boolean cacheable = !recentlyChanged && pending.isEmpty() && (cached == null || now >= cached.cacheableAfter);
+            if (!cacheable) {
+                UserCart unusable = new UserCart(null, pending, cached == null ? 0 : cached.cacheableAfter, now + TTL);
+                return index(key, cached, unusable);
+            }
+            List<CartLine> lines = carts.stream().map(CartLine::from).collect(Collectors.toUnmodifiableList());
+            return index(key, cached, new UserCart(lines, pending, 0, now + TTL));
+        });
+    }
+
+    private void recordPending(Long userId, PendingChange change) {
+        if (!cache.containsKey(userId) && !hasRoom()) {
+            return;
+        }
+        cache.compute(userId, (key, cached) -> {
+            UserCart current = cached != null ? cached : new UserCart(null, Collections.emptyList(), 0, 0);
+            return index(key, cached, current.withPending(change, System.currentTimeMillis() + TTL));
+        });
+    }
+
+    private void remove(Long userId, Long cartId) {
+        long now = System.currentTimeMillis();
+        cache.computeIfPresent(userId, (key, cached) -> index(key, cached, cached.without(cartId, now + RELOAD_GRACE_MILLIS)));
+    }
+
+    private void broadcast(CartCacheInvalidationRmqDto message) {
+        message.setOrigin(RabbitMQConfig.CART_CACHE_QUEUE_NAME);
+        try {
+            rabbitTemplate.convertAndSend(RabbitMQConfig.CART_CACHE_EXCHANGE_NAME, "", message);
+        } catch (AmqpException e) {
+            log.warn("장바구니 캐시 무효화 전파 실패 : {}", e.getMessage());
+        }
+    }
+
+    private void evict(Long userId) {
+        long now = System.currentTimeMillis();
+        cache.computeIfPresent(userId, (key, cached) ->
+                index(key, cached, new UserCart(null, cached.pending, now + RELOAD_GRACE_MILLIS, now + TTL)));
+    }
+
+    private void invalidateProduct(Long productId) {
+        changedProducts.put(productId, System.currentTimeMillis());
+        Set<Long> userIds = usersByProduct.get(productId);
+        if (userIds != null) {
+            new ArrayList<>(userIds).forEach(this::evict);
+        }
+    }
+
+    private boolean hasRoom() {
+        if (cache.size() < MAX_SIZE) {
+            return true;
+        }
+        evictExpired();
+        return cache.size() < MAX_SIZE;
+    }
+
+    // compute 안에서 호출, 상품 -> 사용자 색인을 이전/새 캐시 내용에 맞게 갱신
+    private UserCart index(Long userId, UserCart before, UserCart after) {
+        Set<Long> beforeIds = before == null ? Collections.emptySet() : before.productIds();
+        Set<Long> afterIds = after == null ? Collections.emptySet() : after.productIds();
+        beforeIds.stream()
+                .filter(productId -> !afterIds.contains(productId))
+                .forEach(productId -> usersByProduct.computeIfPresent(productId, (key, users) -> {
+                    users.remove(userId);
+                    return users.isEmpty() ? null : users;
+                }));
+        afterIds.stream()
+                .filter(productId -> !beforeIds.contains(productId))
+                .forEach(productId -> usersByProduct.computeIfAbsent(productId, key -> ConcurrentHashMap.newKeySet()).add(userId));
+        return after;
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    // 불변, 변경은 compute 안에서 새 객체로 교체
+    private static class UserCart {
+        private final List<CartLine> lines; //null 이면 아직 불러오지 않았거나 무효화됨
+        private final List<PendingChange> pending;
+        private final long cacheableAfter;
+        private final long expiresAt;
+
+        private UserCart(List<CartLine> lines, List<PendingChange> pending, long cacheableAfter, long expiresAt) {
+            this.lines = lines;
+            this.pending = pending;
+            this.cacheableAfter = cacheableAfter;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isUsable(long now) {
+            return lines != null && pending.isEmpty() && now < expiresAt;
+        }
+
+        private boolean isRemovable(long now) {
+            return now >= expiresAt && now >= cacheableAfter
+                    && pending.stream().allMatch(change -> change.isExpired(now));
+        }
+
+        private List<CartDto> toDtoList(Long userId) {
+            return lines.stream().map(line -> line.toDto(userId)).collect(Collectors.toList());
+        }
+
+        private Set<Long> productIds() {
+            if (lines == null) {
+                return Collections.emptySet();
+            }
+            Set<Long> productIds = new HashSet<>();
+            lines.forEach(line -> productIds.add(line.productId));
+            return productIds;
+        }
+
+        // DB 조회 결과에 아직 반영되지 않았고 만료되지 않은 변경만 남김
+        private List<PendingChange> unresolved(List<CartDto> carts, long now) {
+            return pending.stream()
+                    .filter(change -> !change.isExpired(now) && carts.stream().noneMatch(change::isAppliedTo))
+                    .collect(Collectors.toUnmodifiableList());
+        }
+
+        private UserCart withPending(PendingChange change, long expiresAt) {
+            List<PendingChange> changes = new ArrayList<>(pending);
+            changes.add(change);
+            return new UserCart(lines, Collections.unmodifiableList(changes), cacheableAfter, Math.max(this.expiresAt, expiresAt));
+        }
+
+        private UserCart without(Long cartId, long cacheableAfter) {
+            long graceUntil = Math.max(this.cacheableAfter, cacheableAfter);
+            if (lines == null) {
+                return new UserCart(null, pending, graceUntil, expiresAt);
+            }
+            List<CartLine> remaining = lines.stream()
+                    .filter(line -> !line.cartId.equals(cartId))
+                    .collect(Collectors.toUnmodifiableList());
+            return new UserCart(remaining, pending, graceUntil, expiresAt);
+        }
+    }
+
+    // 목록에 표시하는 컬럼만 보관 (userId / totalPrice 는 꺼낼 때 계산)
+    private static class CartLine {
+        private final Long cartId;
+        private final Long productId;
+        private final String shopName;
+        private final String productName;
+        private final String productOptionList;
+        private final Integer price;
+        private final String imageUrl;
+        private final Integer stock;
+        private final Integer quantity;
+        private final Boolean isOrdered;
+        private final String cartState;
+        private final String option;
+        private final LocalDateTime createdAt;
+
+        private CartLine(CartDto cart) {
+            this.cartId = cart.getCartId();
+            this.productId = cart.getProductId();
+            this.shopName = cart.getShopName();
+            this.productName = cart.getProductName();
+            this.productOptionList = cart.getProductOptionList();
+            this.price = cart.getPrice();
+            this.imageUrl = cart.getImageUrl();
+            this.stock = cart.getStock();
+            this.quantity = cart.getQuantity();
+            this.isOrdered = cart.getIsOrdered();
+            this.cartState = cart.getCartState();
+            this.option = cart.getOption();
+            this.createdAt = cart.getCreatedAt();
+        }
+
+        private static CartLine from(CartDto cart) {
+            return new CartLine(cart);
+        }
+
+        private CartDto toDto(Long userId) {
+            return CartDto.builder()
+                    .userId(userId)
+                    .cartId(cartId)
+                    .productId(productId)
+                    .shopName(shopName)
+                    .productName(productName)
+                    .productOptionList(productOptionList)
+                    .price(price)
+                    .imageUrl(imageUrl)
+                    .stock(stock)
+                    .quantity(quantity)
+                    .isOrdered(isOrdered)
+                    .cartState(cartState)
+                    .totalPrice(price * quantity)
+                    .option(option)
+                    .createdAt(createdAt)
+                    .build();
+        }
+    }
+
+    private static class PendingChange {
+        private final Long cartId; //추가 요청이면 null
+        private final Long productId;
+        private final Integer quantity;
+        private final String options;
+        private final long requestedAt;
+
+        private PendingChange(Long cartId, Long productId, Integer quantity, String options, long requestedAt) {
+            this.cartId = cartId;
+            this.productId = productId;
+            this.quantity = quantity;
+            this.options = options;
+            this.requestedAt = requestedAt;
+        }
+
+        private static PendingChange add(Long productId, String options, long requestedAt) {
+            return new PendingChange(null, productId, null, options, requestedAt);
+        }
+
+        private static PendingChange modify(Long cartId, Integer quantity, String options, long requestedAt) {
+            return new PendingChange(cartId, null, quantity, options, requestedAt);
+        }
+
+        private boolean isAddOf(Long productId, String options) {
+            return cartId == null && Objects.equals(this.productId, productId) && Objects.equals(this.options, options);
+        }
+
+        private boolean isAppliedTo(CartDto cart) {
+            if (cartId == null) {
+                return isAddOf(cart.getProductId(), cart.getOption());
+            }
+            return cartId.equals(cart.getCartId()) && Objects.equals(quantity, cart.getQuantity())
+                    && Objects.equals(options, cart.getOption());
+        }
+
+        private boolean isExpired(long now) {
+            return now - requestedAt >= PENDING_TTL;
+        }
+    }
+}
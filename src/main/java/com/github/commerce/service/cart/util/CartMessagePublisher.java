@@ -0,0 +1,35 @@
+package com.github.commerce.service.cart.util;
+
+import com.github.commerce.web.dto.cart.CartBatchRmqDto;
+import com.github.commerce.web.dto.cart.CartRmqDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 장바구니 추가/수정 메시지 발행.
+ * cart.batch-publish 가 true 이면 요청 전체를 "<routingKey>Batch" 메시지 하나로, 아니면 기존처럼 줄마다 발행합니다.
+ * (batch 큐는 consumer 가 처리하도록 배포된 이후에 켜야 함)
+ */
+@Component
+@RequiredArgsConstructor
+public class CartMessagePublisher {
+    private final RabbitTemplate rabbitTemplate;
+
+    @Value("${cart.batch-publish:false}")
+    private boolean batchPublish;
+
+    public void publish(String routingKey, Long userId, List<CartRmqDto> carts) {
+        if (carts.isEmpty()) {
+            return;
+        }
+        if (batchPublish) {
+            rabbitTemplate.convertAndSend("exchange", routingKey + "Batch", CartBatchRmqDto.of(userId, carts));
+            return;
+        }
+        carts.forEach(cart -> rabbitTemplate.convertAndSend("exchange", routingKey, cart));
+    }
+}
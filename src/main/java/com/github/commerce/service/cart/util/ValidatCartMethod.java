@@ -9,12 +9,16 @@ import com.github.commerce.repository.product.ProductRepository;
 import com.github.commerce.repository.user.UserRepository;
 import com.github.commerce.service.cart.exception.CartErrorCode;
 import com.github.commerce.service.cart.exception.CartException;
+import com.github.commerce.web.dto.cart.CartDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
@@ -23,6 +27,7 @@ public class ValidatCartMethod {
     private final ProductRepository productRepository;
     private final UserRepository userRepository;
     private final CartRepository cartRepository;
+    private final CartCache cartCache;
 
 
     public User validateUser(Long userId){
@@ -36,16 +41,24 @@ public class ValidatCartMethod {
         }
     }
 
-    public Product validateProduct(Long productId){
-        Product product = productRepository.findById(productId)
-                .orElseThrow(() -> new CartException(CartErrorCode.THIS_PRODUCT_DOES_NOT_EXIST));
-
-        Integer stock = product.getLeftAmount();
-        if (stock == null || stock <= 0) {
-            throw new CartException(CartErrorCode.OUT_OF_STOCK);
+    // 여러 상품을 IN 쿼리 한 번으로 조회, productId -> 상품
+    public Map<Long, Product> validateProducts(Collection<Long> productIds){
+        if (productIds.contains(null)) {
+            throw new CartException(CartErrorCode.THIS_PRODUCT_DOES_NOT_EXIST);
         }
-
-        return product;
+        Map<Long, Product> products = productRepository.findAllById(productIds).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+        for (Long productId : productIds) {
+            Product product = products.get(productId);
+            if (product == null) {
+                throw new CartException(CartErrorCode.THIS_PRODUCT_DOES_NOT_EXIST);
+            }
+            Integer stock = product.getLeftAmount();
+            if (stock == null || stock <= 0) {
+                throw new CartException(CartErrorCode.OUT_OF_STOCK);
+            }
+        }
+        return products;
     }
 
     public Cart validateCart(Long cartId, Long userId){
@@ -57,17 +70,31 @@ public class ValidatCartMethod {
         return cart;
     }
 
+    // 사용자의 장바구니 여러 개를 한 번에 조회, cartId -> 장바구니
+    public Map<Long, Cart> validateCarts(Collection<Long> cartIds, Long userId){
+        if (cartIds.contains(null)) {
+            throw new CartException(CartErrorCode.THIS_CART_DOES_NOT_EXIST);
+        }
+        Map<Long, Cart> carts = cartRepository.findAllByIdInAndUsersId(cartIds, userId).stream()
+                .collect(Collectors.toMap(Cart::getId, Function.identity()));
+        if (carts.size() != cartIds.size()) {
+            throw new CartException(CartErrorCode.THIS_CART_DOES_NOT_EXIST);
+        }
+        return carts;
+    }
+
     private boolean existsInCart(Long userId, Long productId){
         return cartRepository.existsByUsersIdAndProductsId(userId, productId);
     }
 
-    public void validateDuplicateCart(Product validatedProduct, Long userId, String options) {
-        Long productId = validatedProduct.getId();
-        List<Cart> cartList = cartRepository.findAllByProductsIdAndUsersId(productId, userId);
-        cartList.forEach((cart)->{
-            if(Objects.equals(validatedProduct.getId(), cart.getProducts().getId()) && Objects.equals(cart.getOptions(), options)){
-                throw new CartException(CartErrorCode.PRODUCT_DUPLICATE, productId, options);
-            }
-        });
+    // 중복 확인용 장바구니 목록 (캐시, 없으면 DB 에서 채움), 여러 줄을 확인할 때 한 번만 조회
+    public List<CartDto> getCarts(Long userId) {
+        return cartCache.get(userId, () -> cartRepository.findAllByUsersIdOrderByCreatedAtDesc(userId));
+    }
+
+    public void validateDuplicateCart(List<CartDto> carts, Long userId, Long productId, String options) {
+        if (cartCache.contains(userId, carts, productId, options)) {
+            throw new CartException(CartErrorCode.PRODUCT_DUPLICATE, productId, options);
+        }
     }
 }
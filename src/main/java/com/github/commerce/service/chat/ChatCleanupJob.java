@@ -0,0 +1,34 @@
+package com.github.commerce.service.chat;
+
+import com.github.commerce.service.scheduler.ClusterJob;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@RequiredArgsConstructor
+public class ChatCleanupJob implements ClusterJob { //매일 자정 오래된 채팅 정리
+
+    private final ChatService chatService;
+
+    @Override
+    public String getName() {
+        return "cleanupOldChats";
+    }
+
+    @Override
+    public String getCron() {
+        return "0 0 0 * * *";
+    }
+
+    @Override
+    public Duration getLeaseTime() {
+        return Duration.ofMinutes(30);
+    }
+
+    @Override
+    public void run() {
+        chatService.cleanupOldChats();
+    }
+}
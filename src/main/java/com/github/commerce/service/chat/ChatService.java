@@ -17,7 +17,6 @@ import java.util.*;
 import com.github.commerce.service.user.exception.UserException;
 import com.github.commerce.web.dto.chat.ChatDto;
 import lombok.RequiredArgsConstructor;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -100,7 +99,7 @@ public class ChatService {
         return resultMap;
     }
 
-    @Scheduled(cron = "0 0 0 * * ?", zone = "Asia/Seoul")  // This will run at midnight every day
+    // 매일 자정 ChatCleanupJob 에서 (여러 서버 중 한 곳에서만)
     public void cleanupOldChats() {
         chatRepositoryCustom.cleanupOldChats();
     }
@@ -0,0 +1,173 @@
+package com.github.commerce.service.coupon;
+
+import com.github.commerce.entity.Coupon;
+import com.github.commerce.entity.CouponGrant;
+import com.github.commerce.entity.CouponGrantStatus;
+import com.github.commerce.entity.Grade;
+import com.github.commerce.entity.UsersCoupon;
+import com.github.commerce.repository.coupon.CouponGrantRepository;
+import com.github.commerce.repository.coupon.CouponRepository;
+import com.github.commerce.repository.coupon.UsersCouponRepository;
+import com.github.commerce.repository.user.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 쿠폰 자동 지급 (coupon_grants) 요청 기록 / 가져가기 / 지급 / 재시도.
+ * 지급은 CouponGrantWorker 가 배치로 호출하며, 쿠폰 수량은 CouponStockCounter 로 차감합니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class CouponGrantService {
+
+    public static final Long WELCOME_COUPON_ID = 1L;
+
+    private static final int MAX_ATTEMPTS = 5;
+    private static final long RETRY_BACKOFF_SECONDS = 30;
+    private static final long STALE_PROCESSING_MINUTES = 5;
+
+    private final CouponGrantRepository couponGrantRepository;
+    private final CouponRepository couponRepository;
+    private final UsersCouponRepository usersCouponRepository;
+    private final UserRepository userRepository;
+    private final CouponStockCounter couponStockCounter;
+
+    // 호출한 트랜잭션(회원가입)에 포함되어 함께 커밋/롤백
+    @Transactional
+    public void request(Long userId, Long couponId) {
+        if (couponGrantRepository.existsByUsersIdAndCouponsId(userId, couponId)) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        couponGrantRepository.save(CouponGrant.builder()
+                .usersId(userId)
+                .couponsId(couponId)
+                .status(CouponGrantStatus.PENDING)
+                .nextAttemptAt(now)
+                .createdAt(now)
+                .updatedAt(now)
+                .build());
+    }
+
+    // 대기중인 요청을 최대 size 건 PROCESSING 으로 바꾸고 id 반환
+    @Transactional
+    public List<Long> claim(int size) {
+        LocalDateTime now = LocalDateTime.now();
+        List<CouponGrant> grants = couponGrantRepository.findClaimable(CouponGrantStatus.PENDING, now, PageRequest.of(0, size));
+        grants.forEach(grant -> {
+            grant.changeStatus(CouponGrantStatus.PROCESSING, now);
+            grant.setClaimedAt(now);
+            grant.setAttempts(grant.getAttempts() + 1);
+        });
+        return grants.stream().map(CouponGrant::getId).collect(Collectors.toList());
+    }
+
+    // 가져간 요청을 쿠폰별로 한 번에 지급, 지급한 건수 반환
+    @Transactional
+    public int grant(List<Long> grantIds) {
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, List<CouponGrant>> grantsByCoupon = couponGrantRepository.findAllById(grantIds).stream()
+                .filter(grant -> grant.getStatus() == CouponGrantStatus.PROCESSING)
+                .collect(Collectors.groupingBy(CouponGrant::getCouponsId));
+
+        int granted = 0;
+        for (Map.Entry<Long, List<CouponGrant>> entry : grantsByCoupon.entrySet()) {
+            granted += grant(entry.getKey(), entry.getValue(), now);
+        }
+        return granted;
+    }
+
+    // 지급 트랜잭션이 실패한 요청은 재시도 대기, MAX_ATTEMPTS 를 넘으면 FAILED
+    @Transactional
+    public void release(List<Long> grantIds) {
+        LocalDateTime now = LocalDateTime.now();
+        couponGrantRepository.findAllById(grantIds).forEach(grant -> {
+            if (grant.getStatus() != CouponGrantStatus.PROCESSING) {
+                return;
+            }
+            if (grant.getAttempts() >= MAX_ATTEMPTS) {
+                log.error("쿠폰 지급 실패 userId={}, couponId={}, attempts={}", grant.getUsersId(), grant.getCouponsId(), grant.getAttempts());
+                grant.changeStatus(CouponGrantStatus.FAILED, now);
+                return;
+            }
+            grant.changeStatus(CouponGrantStatus.PENDING, now);
+            grant.setNextAttemptAt(now.plusSeconds(RETRY_BACKOFF_SECONDS * grant.getAttempts()));
+        });
+    }
+
+    @Transactional
+    public int recoverStale() {
+        LocalDateTime now = LocalDateTime.now();
+        return couponGrantRepository.resetStale(CouponGrantStatus.PROCESSING, CouponGrantStatus.PENDING,
+                now.minusMinutes(STALE_PROCESSING_MINUTES), now);
+    }
+
+    private int grant(Long couponId, List<CouponGrant> grants, LocalDateTime now) {
+        Coupon coupon = couponRepository.findById(couponId).orElse(null);
+        // 자동 지급 대상은 신규(GREEN) 회원
+        if (coupon == null || Boolean.TRUE.equals(coupon.getIsDeleted()) || (coupon.getCouponGrade() != Grade.ALL && coupon.getCouponGrade() != Grade.GREEN)) {
+            grants.forEach(grant -> grant.changeStatus(CouponGrantStatus.SKIPPED, now));
+            return 0;
+        }
+
+        // 이미 가진 사용자는 수량 차감 없이 완료 처리 (재시도 시 중복 지급 방지)
+        Set<Long> alreadyIssued = new HashSet<>(usersCouponRepository.findUsersIdsByCouponsIdAndUsersIdIn(couponId,
+                grants.stream().map(CouponGrant::getUsersId).collect(Collectors.toList())));
+        List<CouponGrant> targets = new ArrayList<>();
+        grants.forEach(grant -> {
+            if (alreadyIssued.contains(grant.getUsersId())) {
+                grant.changeStatus(CouponGrantStatus.GRANTED, now);
+            } else {
+                targets.add(grant);
+            }
+        });
+        if (targets.isEmpty()) {
+            return 0;
+        }
+
+        // 수량이 모자라면 먼저 가입한 순서(id 순)로 지급
+        int available = couponStockCounter.take(couponId, targets.size());
+        LocalDateTime expiredAt = now.plusDays(coupon.getPeriod());
+        List<UsersCoupon> usersCoupons = new ArrayList<>();
+        List<CouponGrant> unfilled = new ArrayList<>();
+        for (int i = 0; i < targets.size(); i++) {
+            CouponGrant grant = targets.get(i);
+            if (i < available) {
+                usersCoupons.add(new UsersCoupon(coupon, userRepository.getReferenceById(grant.getUsersId()), expiredAt));
+                grant.changeStatus(CouponGrantStatus.GRANTED, now);
+            } else {
+                unfilled.add(grant);
+            }
+        }
+        if (!unfilled.isEmpty()) {
+            markUnfilled(couponId, unfilled, now);
+        }
+        usersCouponRepository.saveAll(usersCoupons);
+        return usersCoupons.size();
+    }
+
+    // 다른 노드가 떼어 간 수량이 아직 반환되지 않았으면 소진이 아니므로, 시도 횟수를 쓰지 않고 다시 대기
+    private void markUnfilled(Long couponId, List<CouponGrant> grants, LocalDateTime now) {
+        if (couponStockCounter.isSoldOut(couponId)) {
+            grants.forEach(grant -> grant.changeStatus(CouponGrantStatus.SOLD_OUT, now));
+            return;
+        }
+        grants.forEach(grant -> {
+            grant.changeStatus(CouponGrantStatus.PENDING, now);
+            grant.setAttempts(grant.getAttempts() - 1);
+            grant.setNextAttemptAt(now.plusSeconds(RETRY_BACKOFF_SECONDS));
+        });
+    }
+}
@@ -0,0 +1,83 @@
+package com.github.commerce.service.coupon;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * coupon_grants 대기 요청을 BATCH_SIZE 건씩 가져가 지급합니다.
+ * 가입 커밋 직후 wakeUp 으로 LINGER_MILLIS 뒤에 실행해 여러 가입을 한 배치로 묶고,
+ * 놓친 요청(다른 노드 / 재시도 대기 / 재기동)은 주기적인 sweep 에서 처리합니다.
+ */
+@Slf4j
+@Component
+public class CouponGrantWorker {
+
+    private static final int BATCH_SIZE = 200;
+    private static final long LINGER_MILLIS = 200L;
+
+    private final CouponGrantService couponGrantService;
+    private final ScheduledExecutorService executor =
+            Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("coupon-grant-"));
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+
+    public CouponGrantWorker(CouponGrantService couponGrantService) {
+        this.couponGrantService = couponGrantService;
+    }
+
+    public void wakeUp() {
+        if (scheduled.compareAndSet(false, true)) {
+            executor.schedule(this::drain, LINGER_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Scheduled(fixedDelay = 10 * 1000L)
+    public void sweep() {
+        try {
+            int recovered = couponGrantService.recoverStale();
+            if (recovered > 0) {
+                log.warn("처리가 멈춘 쿠폰 지급 요청 {}건을 다시 대기 상태로 변경", recovered);
+            }
+        } catch (Exception e) {
+            log.warn("쿠폰 지급 요청 복구 실패 : {}", e.getMessage());
+        }
+        wakeUp();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void drain() {
+        scheduled.set(false);
+        try {
+            List<Long> grantIds;
+            do {
+                grantIds = couponGrantService.claim(BATCH_SIZE);
+                if (!grantIds.isEmpty()) {
+                    grant(grantIds);
+                }
+            } while (grantIds.size() == BATCH_SIZE);
+        } catch (Exception e) {
+            log.warn("쿠폰 지급 요청 조회 실패 : {}", e.getMessage());
+        }
+    }
+
+    private void grant(List<Long> grantIds) {
+        try {
+            couponGrantService.grant(grantIds);
+        } catch (Exception e) {
+            log.warn("쿠폰 지급 실패 {}건, 재시도 예정 : {}", grantIds.size(), e.getMessage());
+            couponGrantService.release(grantIds);
+        }
+    }
+}
@@ -42,7 +42,7 @@ public class CouponService {
     //쿠폰 생성
     @Transactional
     public CouponResponseDto registerCoupon(UserDetailsImpl userDetails, CouponRegisterRequest couponRegisterRequest){
-        Long userId = userDetails.getUser().getId();
+        Long userId = userDetails.getId();
         Optional<UsersInfo> usersInfo = userInfoRepository.findByUsersId(userId);
 
         //사용자 정보가 없을 때
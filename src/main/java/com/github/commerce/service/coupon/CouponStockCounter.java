@@ -0,0 +1,174 @@
+package com.github.commerce.service.coupon;
+
+import com.github.commerce.entity.Coupon;
+import com.github.commerce.repository.coupon.CouponRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 자동 지급용 쿠폰 잔여 수량 카운터.
+ * DB(coupons.coupon_amount)에서 LEASE_SIZE 만큼 미리 떼어 와 노드 메모리에서 CAS 로 차감하므로,
+ * 지급 한 건마다 쿠폰 행을 잠그지 않습니다. DB 수량이 LEASE_SIZE 보다 적으면 필요한 만큼만 떼어 옵니다.
+ * 떼어 온 수량은 LEASE_RETURN_MILLIS 동안 쓰지 않으면(그리고 종료 시) 돌려주고, 떼어 갈 때마다
+ * coupons.lease_expires_at 을 반환 기한까지 늦추므로 그 전까지는 DB 수량이 0 이어도 소진으로 보지 않습니다.
+ * 비정상 종료 시 남은 수량은 발급되지 않을 뿐 초과 발급되지는 않습니다.
+ */
+@Slf4j
+@Component
+public class CouponStockCounter {
+
+    private static final int LEASE_SIZE = 100;
+    private static final long LEASE_RETURN_MILLIS = 30 * 1000L; //마지막으로 떼어 온 뒤 이 시간 동안 남으면 반환
+    // 반환 주기(LEASE_RETURN_MILLIS + 스케줄 간격)보다 넉넉하게, 이 시간이 지나면 떼어 간 수량이 모두 반환된 것으로 봄
+    private static final long LEASE_HOLD_MILLIS = 60 * 1000L;
+
+    private final CouponRepository couponRepository;
+    private final TransactionTemplate leaseTransaction;
+    private final Map<Long, AtomicInteger> leased = new ConcurrentHashMap<>();
+    private final Map<Long, Long> leasedAt = new ConcurrentHashMap<>();
+
+    public CouponStockCounter(CouponRepository couponRepository, PlatformTransactionManager transactionManager) {
+        this.couponRepository = couponRepository;
+        // 지급 트랜잭션이 롤백되어도 떼어 온 수량은 카운터에 남아 있으므로 별도 트랜잭션으로 커밋
+        this.leaseTransaction = new TransactionTemplate(transactionManager);
+        this.leaseTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 최대 amount 개 차감, 실제 차감한 수(수량이 모자라면 amount 보다 작음)를 반환합니다.
+     * 0 이 소진을 뜻하지는 않으므로(다른 노드가 떼어 간 수량이 반환되기 전) isSoldOut 으로 확인합니다.
+     * 트랜잭션 안에서 호출하면 롤백 시 차감한 수량을 카운터로 되돌립니다.
+     */
+    public int take(Long couponId, int amount) {
+        AtomicInteger stock = stock(couponId);
+        int taken = takeLocal(stock, amount);
+        while (taken < amount) {
+            int lease = lease(couponId, amount - taken);
+            if (lease == 0) {
+                break; //DB 수량 없음
+            }
+            stock.addAndGet(lease);
+            taken += takeLocal(stock, amount - taken);
+        }
+        restoreOnRollback(stock, taken);
+        return taken;
+    }
+
+    /**
+     * DB 는 건드리지 않고 이 노드가 이미 떼어 온 수량에서만 최대 amount 개 차감합니다.
+     * 쿠폰 행을 잠근 트랜잭션(수동 발급)에서 DB 수량이 0 일 때 사용합니다.
+     */
+    public int takeLeased(Long couponId, int amount) {
+        AtomicInteger stock = leased.get(couponId);
+        if (stock == null) {
+            return 0;
+        }
+        int taken = takeLocal(stock, amount);
+        restoreOnRollback(stock, taken);
+        return taken;
+    }
+
+    // DB 수량이 없고, 떼어 간 수량의 반환 기한도 지났을 때만 소진
+    public boolean isSoldOut(Long couponId) {
+        AtomicInteger stock = leased.get(couponId);
+        if (stock != null && stock.get() > 0) {
+            return false;
+        }
+        return !couponRepository.hasStockOrActiveLease(couponId, LocalDateTime.now());
+    }
+
+    @Scheduled(fixedDelay = 10 * 1000L)
+    public void returnIdleLeases() {
+        long now = System.currentTimeMillis();
+        leasedAt.forEach((couponId, at) -> {
+            if (now - at >= LEASE_RETURN_MILLIS && leasedAt.remove(couponId, at)) {
+                giveBack(couponId, leased.get(couponId));
+            }
+        });
+    }
+
+    @PreDestroy
+    public void returnLeased() {
+        leased.forEach(this::giveBack);
+    }
+
+    private AtomicInteger stock(Long couponId) {
+        return leased.computeIfAbsent(couponId, key -> new AtomicInteger());
+    }
+
+    private void giveBack(Long couponId, AtomicInteger stock) {
+        int left = stock == null ? 0 : stock.getAndSet(0);
+        if (left <= 0) {
+            return;
+        }
+        try {
+            leaseTransaction.executeWithoutResult(status -> couponRepository.increaseCouponAmount(couponId, left));
+        } catch (Exception e) {
+            log.warn("쿠폰 {} 잔여 수량 {}개 반환 실패 : {}", couponId, left, e.getMessage());
+        }
+    }
+
+    private void restoreOnRollback(AtomicInteger stock, int reserved) {
+        if (reserved > 0 && TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        stock.addAndGet(reserved);
+                    }
+                }
+            });
+        }
+    }
+
+    private int takeLocal(AtomicInteger stock, int amount) {
+        while (true) {
+            int current = stock.get();
+            int taken = Math.min(current, amount);
+            if (taken <= 0) {
+                return 0;
+            }
+            if (stock.compareAndSet(current, current - taken)) {
+                return taken;
+            }
+        }
+    }
+
+    // 보통은 조건부 UPDATE 한 번, 남은 수량이 LEASE_SIZE 보다 적을 때(소진 직전)는 잠금 조회로 필요한 만큼만 가져와
+    // 다른 노드 몫을 남겨 둠
+    private int lease(Long couponId, int needed) {
+        int wanted = Math.max(LEASE_SIZE, needed);
+        LocalDateTime expiresAt = LocalDateTime.now().plusNanos(LEASE_HOLD_MILLIS * 1_000_000L);
+        Integer lease = leaseTransaction.execute(status -> {
+            if (couponRepository.leaseCouponAmount(couponId, wanted, expiresAt) == 1) {
+                return wanted;
+            }
+            Coupon coupon = couponRepository.findCouponById(couponId);
+            if (coupon == null || coupon.getCouponAmount() == null || coupon.getCouponAmount() <= 0) {
+                return 0;
+            }
+            int rest = Math.min(needed, coupon.getCouponAmount());
+            coupon.decreaseCouponAmount(rest);
+            if (!coupon.hasActiveLease(expiresAt)) {
+                coupon.setLeaseExpiresAt(expiresAt);
+            }
+            return rest;
+        });
+        if (lease != null && lease > 0) {
+            leasedAt.put(couponId, System.currentTimeMillis());
+        }
+        return lease == null ? 0 : lease;
+    }
+}
@@ -30,8 +30,10 @@ public class UserCouponService {
     private final CouponRepository couponRepository;
     private final UsersCouponRepository usersCouponRepository;
     private final UserInfoRepository userInfoRepository;
+    private final CouponStockCounter couponStockCounter;
 
     //본인의 쿠폰 목록 조회
+    @Transactional(readOnly = true)
     public List<UsersCouponResponseDto> getMyCouponList(Long userId){
 
         Optional<User> user = userRepository.findById(userId);
@@ -108,7 +110,14 @@ public class UserCouponService {
 //        coupon.setCouponAmount(coupon.getCouponAmount() - 1);
 //        couponRepository.save(coupon);
          **/
-        coupon.decreaseCouponAmount(1);
+        // 쿠폰 행을 잠근 상태라 DB 수량이 없을 때는 이 노드가 자동 지급용으로 떼어 온 수량에서 차감,
+        // 다른 노드가 떼어 간 수량이 반환 기한 전이면 소진이 아니므로 재시도 안내
+        if (coupon.getCouponAmount() != null && coupon.getCouponAmount() > 0) {
+            coupon.decreaseCouponAmount(1);
+        } else if (couponStockCounter.takeLeased(couponId, 1) == 0) {
+            throw new CouponException(coupon.hasActiveLease(LocalDateTime.now())
+                    ? CouponErrorCode.STOCK_TEMPORARILY_UNAVAILABLE : CouponErrorCode.OUT_OF_STOCK);
+        }
 
         return new UsersCouponResponseDto(usersCouponRepository.save(new UsersCoupon(coupon, user.get(), LocalDateTime.now().plusDays(coupon.getPeriod()))));
     }
@@ -0,0 +1,32 @@
+package com.github.commerce.service.coupon;
+
+import com.github.commerce.entity.UserRoleEnum;
+import com.github.commerce.web.dto.user.UserRegisteredEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class WelcomeCouponListener {
+    private final CouponGrantService couponGrantService;
+    private final CouponGrantWorker couponGrantWorker;
+
+    //가입 트랜잭션 안(커밋 직전)에서 지급 요청만 기록, 쿠폰 행은 잠그지 않음
+    //(카카오 가입은 트랜잭션 밖에서 발행될 수 있어 fallbackExecution)
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void requestWelcomeCoupon(UserRegisteredEvent event) {
+        if (event.getRole() == UserRoleEnum.USER) {
+            couponGrantService.request(event.getUserId(), CouponGrantService.WELCOME_COUPON_ID);
+        }
+    }
+
+    //커밋된 가입만 지급 작업을 깨움
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void grantWelcomeCoupon(UserRegisteredEvent event) {
+        if (event.getRole() == UserRoleEnum.USER) {
+            couponGrantWorker.wakeUp();
+        }
+    }
+}
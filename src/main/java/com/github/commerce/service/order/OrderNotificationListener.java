@@ -0,0 +1,22 @@
+package com.github.commerce.service.order;
+
+import com.github.commerce.web.controller.order.SseEmitters;
+import com.github.commerce.web.dto.order.OrderNotificationDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderNotificationListener {
+    private final SseEmitters sseEmitters;
+
+    //결제 트랜잭션이 커밋된 후에만 판매자에게 알림 (롤백된 결제는 알리지 않음)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void notifySeller(OrderNotificationDto notification) {
+        sseEmitters.send(notification.getSellerUserId(), "paidOrder", notification);
+    }
+}
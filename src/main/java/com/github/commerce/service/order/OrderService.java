@@ -2,10 +2,14 @@ package com.github.commerce.service.order;
 
 import com.github.commerce.entity.*;
 import com.github.commerce.repository.order.OrderRepository;
+import com.github.commerce.service.order.exception.OrderErrorCode;
+import com.github.commerce.service.order.exception.OrderException;
+import com.github.commerce.service.order.util.SellerOrderFeedWriter;
 import com.github.commerce.service.order.util.ValidateOrderMethod;
 import com.github.commerce.web.dto.order.OrderDto;
 import com.github.commerce.web.dto.order.OrderRmqDto;
 import com.github.commerce.web.dto.order.PostOrderDto;
+import com.github.commerce.web.dto.order.SellerOrderFeedDto;
 import com.google.gson.Gson;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -15,6 +19,8 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
@@ -24,6 +30,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -32,6 +39,11 @@ public class OrderService {
     private final OrderRepository orderRepository;
     private final ValidateOrderMethod validateOrderMethod;
     private final RabbitTemplate rabbitTemplate;
+    private final SellerOrderFeedWriter sellerOrderFeedWriter;
+
+    private static final List<Integer> PAID_ORDER_STATES = List.of(2, 3, 4, 5);
+    private static final int SELLER_ORDER_FEED_DEFAULT_SIZE = 50;
+    private static final int SELLER_ORDER_FEED_MAX_SIZE = 200;
 
     @Transactional
     public List<String> createOrder(List<PostOrderDto.PostOrderRequest> requestList, Long userId) {
@@ -114,12 +126,12 @@ public class OrderService {
 
     @Transactional(readOnly = true)
     public List<Map<LocalDate, List<OrderDto>>> getPurchasedOrderList(Long userId){
-        List<Order> sortedOrders = orderRepository.findPaidOrderByUserIdSortByCreatedAtDesc(userId);
+        List<OrderDto> sortedOrders = orderRepository.findPaidOrderByUserIdSortByCreatedAtDesc(userId);
         // 카트 레코드를 날짜별로 그룹화
         Map<LocalDate, List<OrderDto>> groupedOrders = sortedOrders.stream()
                 .collect(Collectors.groupingBy(
                         order -> order.getCreatedAt().toLocalDate(),
-                        Collectors.mapping(OrderDto::fromEntity, Collectors.toList())));
+                        Collectors.toList()));
 
         List<Map<LocalDate, List<OrderDto>>> result = new ArrayList<>();
         result.add(groupedOrders);
@@ -127,6 +139,7 @@ public class OrderService {
         return result;
     }
 
+    @Transactional(readOnly = true)
     public List<Map<LocalDate, List<OrderDto>>> getSellerOrderList(Long userId) {
         Seller seller = validateOrderMethod.validateSellerByUserId(userId);
 
@@ -143,9 +156,53 @@ public class OrderService {
     }
 
 
+    // 판매자 확인과 조건 검증은 응답을 쓰기 전에 끝내서 오류는 일반 에러 응답으로 나가게 함
+    @Transactional(readOnly = true)
+    public SellerOrderFeedDto.Request getSellerOrderFeedRequest(
+            Long userId, LocalDate startDate, LocalDate endDate, Integer orderState,
+            LocalDateTime cursorCreatedAt, Long cursorId, Integer size
+    ) {
+        Seller seller = validateOrderMethod.validateSellerByUserId(userId);
+
+        if (orderState != null && !PAID_ORDER_STATES.contains(orderState)) {
+            throw new OrderException(OrderErrorCode.INVALID_ORDER_STATE);
+        }
+        if (startDate != null && endDate != null && startDate.isAfter(endDate)) {
+            throw new OrderException(OrderErrorCode.INVALID_DATE_RANGE);
+        }
+        if ((cursorCreatedAt == null) != (cursorId == null)) {
+            throw new OrderException(OrderErrorCode.INVALID_CURSOR);
+        }
+
+        int pageSize = size == null ? SELLER_ORDER_FEED_DEFAULT_SIZE : size;
+        if (pageSize < 1 || pageSize > SELLER_ORDER_FEED_MAX_SIZE) {
+            throw new OrderException(OrderErrorCode.INVALID_PAGE_SIZE);
+        }
+
+        return SellerOrderFeedDto.Request.builder()
+                .sellerId(seller.getId())
+                .orderStates(orderState == null ? PAID_ORDER_STATES : List.of(orderState))
+                .from(startDate == null ? null : startDate.atStartOfDay())
+                .to(endDate == null ? null : endDate.plusDays(1).atStartOfDay()) // endDate 당일 포함
+                .cursorCreatedAt(cursorCreatedAt)
+                .cursorId(cursorId)
+                .size(pageSize)
+                .build();
+    }
+
+    // size + 1 건만 조회해 다음 페이지 여부를 판단하고, 날짜별 그룹은 쓰면서 계산
+    @Transactional(readOnly = true)
+    public void writeSellerOrderFeed(SellerOrderFeedDto.Request request, OutputStream outputStream) throws IOException {
+        try (Stream<OrderDto> orders = orderRepository.streamSellerOrderFeed(
+                request.getSellerId(), request.getOrderStates(), request.getFrom(), request.getTo(),
+                request.getCursorCreatedAt(), request.getCursorId(), PageRequest.of(0, request.getSize() + 1))) {
+            sellerOrderFeedWriter.write(orders.iterator(), request.getSize(), outputStream);
+        }
+    }
+
     @Transactional(readOnly = true)
     public List<OrderDto> getOrderList(Long userId){
-        List<Order> sortedOrders = orderRepository.findAllByUsersIdOrderByCreatedAtDesc(userId);
+        List<OrderDto> sortedOrders = orderRepository.findAllByUsersIdOrderByCreatedAtDesc(userId);
         // 카트 레코드를 날짜별로 그룹화
 //        Map<LocalDate, List<OrderDto>> groupedOrders = sortedOrders.stream()
 //                .collect(Collectors.groupingBy(
@@ -155,7 +212,7 @@ public class OrderService {
 //        List<Map<LocalDate, List<OrderDto>>> result = new ArrayList<>();
 //        result.add(groupedOrders);
 
-        return sortedOrders.stream().map(OrderDto::fromEntity).collect(Collectors.toList());
+        return sortedOrders;
     }
 
     @Transactional(readOnly = true)
@@ -226,7 +283,8 @@ public class OrderService {
         return orderList.stream().map(OrderDto::fromEntity).collect(Collectors.toList());
     }
 
-    @Transactional
+    //주문 직후 호출되므로 RoutingDataSource 의 read-your-writes 에 따라 master 에서 조회됨
+    @Transactional(readOnly = true)
     public List<OrderDto> getOrderListFromProduct(Long userId, Long productId) {
         validateOrderMethod.validateUser(userId);
         LocalDateTime adjustTime = getKoreanTime().minusSeconds(5);
@@ -234,32 +292,6 @@ public class OrderService {
         return orderList.stream().map(OrderDto::fromEntity).collect(Collectors.toList());
     }
 
-//    // 판매자에게 SSE 이벤트를 발생시키는 메서드
-//    private void sendEventToSeller(Long sellerUserId, String message) {
-//        String eventData = "data: {"
-//                + "\"sellerUserId\": " + sellerUserId + ","
-//                + "\"message\": \"" + message + "\""
-//                + "}\n\n";
-//
-//
-//        // SSE 이벤트를 발생시키는 WebClient를 사용하여 /sse/sendEvent 엔드포인트로 요청을 보냅니다.
-//        webClientBuilder.baseUrl("http://localhost:8080/sse") // SSEController의 엔드포인트 URL로 설정
-//                .build()
-//                .get()
-//                .uri("/sendEvent")
-//                .header("Content-Type", "text/event-stream") // SSE 이벤트 타입으로 설정
-//                .bodyValue(eventData) // 생성한 이벤트 데이터를 body에 넣습니다.
-//                .exchange()
-//                .flatMap(response -> {
-//                    if (response.statusCode().is2xxSuccessful()) {
-//                        return Mono.empty(); // 성공적으로 요청을 보내면 빈 Mono를 반환합니다.
-//                    } else {
-//                        return Mono.error(new RuntimeException("SSE 이벤트 발생에 실패했습니다."));
-//                    }
-//                })
-//                .block(); // 블로킹 방식으로 요청을 보냅니다.
-//    }
-
     public LocalDateTime getKoreanTime(){
         ZoneId koreanZone = ZoneId.of("Asia/Seoul");
         ZonedDateTime koreanTime = ZonedDateTime.now(koreanZone);
@@ -9,6 +9,10 @@ import org.springframework.http.HttpStatus;
 public enum OrderErrorCode {
     //status(HttpStatus.badRequest) 400
     INVALID_QUANTITY("수량을 확인해주세요.", HttpStatus.BAD_REQUEST),
+    INVALID_ORDER_STATE("조회할 수 없는 주문 상태입니다.", HttpStatus.BAD_REQUEST),
+    INVALID_DATE_RANGE("조회 기간을 확인해주세요.", HttpStatus.BAD_REQUEST),
+    INVALID_PAGE_SIZE("한 번에 조회할 수 있는 개수는 1~200개 입니다.", HttpStatus.BAD_REQUEST),
+    INVALID_CURSOR("cursorCreatedAt 과 cursorId 는 함께 보내야 합니다.", HttpStatus.BAD_REQUEST),
 
     //status(HttpStatus.NOT_FOUND) 403
     SELLER_NOT_FOUND("판매자로 등록되지 않았습니다..", HttpStatus.FORBIDDEN),
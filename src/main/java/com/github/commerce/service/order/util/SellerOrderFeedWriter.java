@@ -0,0 +1,74 @@
+package com.github.commerce.service.order.util;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.commerce.web.dto.order.OrderDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.Iterator;
+
+/**
+ * createdAt 내림차순으로 들어오는 주문을 날짜별 그룹으로 묶어 바로 JSON 으로 씁니다. (전체 목록을 메모리에 올리지 않음)
+ * {"groups":[{"date":"2023-09-01","orders":[...]}, ...], "hasNext":true, "nextCursorCreatedAt":"...", "nextCursorId":1}
+ * size + 1 번째 주문이 있으면 hasNext, 마지막으로 쓴 주문이 다음 커서가 됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SellerOrderFeedWriter {
+    private static final int FLUSH_INTERVAL = 20;
+
+    private final ObjectMapper objectMapper;
+
+    public void write(Iterator<OrderDto> orders, int size, OutputStream outputStream) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+        generator.writeStartObject();
+        generator.writeArrayFieldStart("groups");
+        LocalDate currentDate = null;
+        OrderDto last = null;
+        int written = 0;
+        boolean hasNext = false;
+        while (orders.hasNext()) {
+            OrderDto order = orders.next();
+            if (written == size) {
+                hasNext = true;
+                break;
+            }
+            LocalDate date = order.getCreatedAt().toLocalDate();
+            if (!date.equals(currentDate)) {
+                if (currentDate != null) {
+                    generator.writeEndArray();
+                    generator.writeEndObject();
+                }
+                generator.writeStartObject();
+                generator.writeStringField("date", date.toString());
+                generator.writeArrayFieldStart("orders");
+                currentDate = date;
+            }
+            generator.writeObject(order);
+            last = order;
+            if (++written % FLUSH_INTERVAL == 0) {
+                generator.flush();
+            }
+        }
+        if (currentDate != null) {
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+
+        generator.writeBooleanField("hasNext", hasNext);
+        if (hasNext) {
+            // @JsonFormat(초 단위)과 달리 커서는 DB 값 그대로의 정밀도로 내려줌
+            generator.writeStringField("nextCursorCreatedAt", last.getCreatedAt().toString());
+            generator.writeNumberField("nextCursorId", last.getOrderId());
+        }
+        generator.writeEndObject();
+        generator.close();
+    }
+}
@@ -22,6 +22,7 @@ public class ChargeHistoryService {
     private final UserRepository userRepository;
     private final PayMoneyRepository payMoneyRepository;
     private final ChargeHistoryRepository chargeHistoryRepository;
+    private final WalletSummaryService walletSummaryService;
 
     @Transactional
     public ChargeDto.ChargeResponse chargePayMoney(Long userId, ChargeDto.ChargeRequest request) {
@@ -29,8 +30,8 @@ public class ChargeHistoryService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new PaymentException(PaymentErrorCode.PAYMENT_USER_NOT_FOUND));
 
-        // 사용자 페이머니 조회
-        PayMoney payMoney = payMoneyRepository.findTop1ByUsersOrderByIdDesc(user)
+        // 사용자 페이머니 조회 (최신 지갑 행을 잠가 동시 충전/결제/포인트 적립과 직렬화)
+        PayMoney payMoney = payMoneyRepository.lockLatestByUsersId(userId)
                 .orElseGet(() -> {
                     // 조회된 결과가 없는 경우, 새로운 PayMoney 객체 생성
                     PayMoney newPayMoney = new PayMoney();
@@ -40,6 +41,9 @@ public class ChargeHistoryService {
                     return payMoneyRepository.save(newPayMoney);
                 });
 
+        // 지갑 요약 반영 (페이머니 변경 전에 호출)
+        walletSummaryService.applyCharge(userId, request.getPayMoney());
+
         // 사용자의 페이머니 정보가 있는 경우: 페이머니 정보를 업데이트합니다.
         payMoney.setChargePayMoneyTotal(payMoney.getChargePayMoneyTotal() + request.getPayMoney());
         payMoney.setPayMoneyBalance(payMoney.getPayMoneyBalance() + request.getPayMoney());
@@ -5,11 +5,11 @@ import com.github.commerce.repository.payment.PayMoneyRepository;
 import com.github.commerce.web.dto.payment.GetPayMoneyDto;
 import com.github.commerce.web.dto.payment.PayMoneyDto;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 import javax.transaction.Transactional;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 
 @Service
@@ -18,13 +18,18 @@ public class PayMoneyService {
 
     private final PayMoneyRepository payMoneyRepository;
 
-    @Transactional
-    public List<GetPayMoneyDto.GetPayMoneyResponse> getPayMoneyList(Long userId) {
-        List<PayMoney> payMoneyList = payMoneyRepository.findAllByUsersId(userId);
+    private static final int PAY_MONEY_PAGE_SIZE = 20;
 
-        if (payMoneyList == null || payMoneyList.isEmpty()) {
-            // null 또는 빈 리스트인 경우 처리
-            return Collections.emptyList(); // 또는 null을 반환하거나 다른 기본 값을 반환할 수 있음
+    // 전체 내역 대신 최신순 한 페이지만 조회 (잔액/누계는 WalletSummaryService)
+    @Transactional
+    public GetPayMoneyDto.GetPayMoneyListResponse getPayMoneyList(Long userId, Long cursorId) {
+        // 한 건 더 조회해서 다음 페이지 여부 확인
+        List<PayMoney> payMoneyList = payMoneyRepository.findPayMoneyHistory(
+                userId, cursorId, PageRequest.of(0, PAY_MONEY_PAGE_SIZE + 1));
+
+        boolean hasNext = payMoneyList.size() > PAY_MONEY_PAGE_SIZE;
+        if (hasNext) {
+            payMoneyList = payMoneyList.subList(0, PAY_MONEY_PAGE_SIZE);
         }
 
         List<GetPayMoneyDto.GetPayMoneyResponse> responseList = new ArrayList<>();
@@ -44,10 +49,10 @@ public class PayMoneyService {
             responseList.add(response);
         }
 
-        return responseList;
+        return GetPayMoneyDto.GetPayMoneyListResponse.builder()
+                .payMoneys(responseList)
+                .hasNext(hasNext)
+                .nextCursorId(hasNext ? payMoneyList.get(payMoneyList.size() - 1).getId() : null)
+                .build();
     }
-
-
-
-
 }
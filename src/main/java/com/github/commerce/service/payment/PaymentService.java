@@ -8,14 +8,17 @@ import com.github.commerce.repository.payment.PaymentRepository;
 import com.github.commerce.repository.user.UserRepository;
 import com.github.commerce.service.cart.exception.CartErrorCode;
 import com.github.commerce.service.cart.exception.CartException;
+import com.github.commerce.service.cart.util.CartCache;
 import com.github.commerce.service.coupon.UserCouponService;
 import com.github.commerce.service.coupon.exception.CouponException;
 import com.github.commerce.service.payment.exception.PaymentErrorCode;
 import com.github.commerce.service.payment.exception.PaymentException;
 import com.github.commerce.web.dto.coupon.UsersCouponResponseDto;
+import com.github.commerce.web.dto.order.OrderNotificationDto;
 import com.github.commerce.web.dto.payment.PaymentDto;
 import com.github.commerce.web.dto.payment.PurchaseDto;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -31,6 +34,9 @@ public class PaymentService {
     private final PaymentRepository paymentRepository;
     private final UserRepository userRepository;
     private final UserCouponService userCouponService;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final CartCache cartCache;
+    private final WalletSummaryService walletSummaryService;
 
     @Transactional
     public PaymentDto purchaseOrder(Long userId, PurchaseDto.PurchaseRequest request) {
@@ -38,7 +44,7 @@ public class PaymentService {
         Long totalPaymentPrice = request.getTotalPrice();
 
         // 유저 조회
-        User user = userRepository.findById(userId)
+        userRepository.findById(userId)
                 .orElseThrow(() -> new PaymentException(PaymentErrorCode.PAYMENT_USER_NOT_FOUND));
 
         // 쿠폰 사용 여부 확인
@@ -51,25 +57,24 @@ public class PaymentService {
             }
         }
 
-        // 포인트 초기화
-        Long point = 0L;
+        // 페이머니 조회 (최신 지갑 행을 잠가 동시 충전/결제/포인트 적립과 직렬화)
+        PayMoney payMoney = payMoneyRepository.lockLatestByUsersId(userId)
+                .orElseThrow(() -> new RuntimeException("페이머니를 찾을 수 없습니다."));
 
         // 포인트를 사용하지 않는 경우에는 기존 포인트 잔액을 그대로 유지
-        if (!request.getIsUsePoint()) {
-            point = payMoneyRepository.findTop1ByUsersOrderByIdDesc(user)
-                    .map(PayMoney::getPointBalance)
-                    .orElse(0L);
+        Long point = 0L;
+        if (!request.getIsUsePoint() && payMoney.getPointBalance() != null) {
+            point = payMoney.getPointBalance();
         }
 
-        // 페이머니 조회
-        PayMoney payMoney = payMoneyRepository.findTop1ByUsersOrderByIdDesc(user)
-                .orElseThrow(() -> new RuntimeException("페이머니를 찾을 수 없습니다."));
-
         // 결제 가능 여부 확인
         if (totalPaymentPrice > payMoney.getPayMoneyBalance()) {
             throw new PaymentException(PaymentErrorCode.PAYMENT_INSUFFICIENT_BALANCE);
         }
 
+        // 지갑 요약 반영 (페이머니 변경 전에 호출), 포인트를 사용하면 요약의 보유 포인트 전부 차감
+        walletSummaryService.applyPayment(userId, totalPaymentPrice, request.getIsUsePoint());
+
         // 페이머니 업데이트
         PayMoney newPayMoney = PayMoney.usePayMoney(payMoney);
         newPayMoney.setUsedChargePayMoney(totalPaymentPrice);
@@ -119,6 +124,9 @@ public class PaymentService {
             int orderStateCode = 2;
             order.setOrderState(orderStateCode);
             orderRepository.save(order);
+
+            // 판매자 SSE 알림 - 커밋 이후 OrderNotificationListener 에서 전송
+            applicationEventPublisher.publishEvent(OrderNotificationDto.fromEntity(order));
         }
     }
 
@@ -131,6 +139,8 @@ public class PaymentService {
             int cartStateCode = 2;
             cart.setCartState(cartStateCode);
             cartRepository.save(cart);
+            // 주문된 장바구니는 목록에서 빠지므로 커밋 이후 사용자 장바구니 캐시 제거
+            cartCache.evictAfterCommit(cart.getUsers().getId());
         }
     }
 }
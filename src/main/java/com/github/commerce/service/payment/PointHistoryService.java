@@ -7,8 +7,10 @@ import com.github.commerce.repository.payment.PointHistoryRepository;
 import com.github.commerce.service.payment.exception.PaymentErrorCode;
 import com.github.commerce.service.payment.exception.PaymentException;
 import com.github.commerce.web.dto.payment.PointHistoryDto;
+import com.github.commerce.web.dto.payment.PointHistoryFeedDto;
 import com.github.commerce.web.dto.payment.PointStatusEnum;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,18 +23,20 @@ public class PointHistoryService {
 
     private final PayMoneyRepository payMoneyRepository;
     private final PointHistoryRepository pointHistoryRepository;
+    private final WalletSummaryService walletSummaryService;
+
+    private static final int POINT_HISTORY_PAGE_SIZE = 20;
 
     @Transactional
     public void updatePayMoneyAndAddPointHistory(Long userId, Long earnedPoint, Long usedPoint) {
 
-        List<PayMoney> payMoneyList = payMoneyRepository.findAllByUsersIdOrderByCreatedAtDesc(userId);
-
-        if (payMoneyList.isEmpty()) {
-            // 아직 아무런 포인트 내역이 없는 경우
-            throw new PaymentException(PaymentErrorCode.POINT_HISTORY_NO_RECORDS_FOUND);
-        }
+        // 최신 지갑 행을 잠가 동시 충전/결제/포인트 적립과 직렬화
+        PayMoney payMoney = payMoneyRepository.lockLatestByUsersId(userId)
+                // 아직 아무런 포인트 내역이 없는 경우
+                .orElseThrow(() -> new PaymentException(PaymentErrorCode.POINT_HISTORY_NO_RECORDS_FOUND));
 
-        PayMoney payMoney = payMoneyList.get(0);
+        // 지갑 요약 반영 (페이머니 변경 전에 호출)
+        walletSummaryService.applyPoint(userId, earnedPoint - usedPoint);
 
         // 포인트 잔액 업데이트
         Long currentPointBalance = payMoney.getPointBalance();
@@ -59,11 +63,24 @@ public class PointHistoryService {
         pointHistoryRepository.save(pointHistory);
     }
 
-    public List<PointHistoryDto> getPointHistoryList(Long userId) {
-        List<PointHistory> pointHistoryList = pointHistoryRepository.findAllByPayMoneyUsersId(userId);
+    @Transactional(readOnly = true)
+    public PointHistoryFeedDto getPointHistoryList(Long userId, Long cursorId) {
+        // 한 건 더 조회해서 다음 페이지 여부 확인
+        List<PointHistory> pointHistoryList = pointHistoryRepository.findPointHistory(
+                userId, cursorId, PageRequest.of(0, POINT_HISTORY_PAGE_SIZE + 1));
+
+        boolean hasNext = pointHistoryList.size() > POINT_HISTORY_PAGE_SIZE;
+        if (hasNext) {
+            pointHistoryList = pointHistoryList.subList(0, POINT_HISTORY_PAGE_SIZE);
+        }
+
         List<PointHistoryDto> pointHistoryDtoList = pointHistoryList.stream()
                 .map(PointHistoryDto::fromEntity)
                 .collect(Collectors.toList());
-        return pointHistoryDtoList;
+        return PointHistoryFeedDto.builder()
+                .pointHistories(pointHistoryDtoList)
+                .hasNext(hasNext)
+                .nextCursorId(hasNext ? pointHistoryList.get(pointHistoryList.size() - 1).getId() : null)
+                .build();
     }
 }
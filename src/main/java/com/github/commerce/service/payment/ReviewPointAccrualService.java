@@ -0,0 +1,114 @@
+package com.github.commerce.service.payment;
+
+import com.github.commerce.repository.payment.PayMoneyRepository;
+import com.github.commerce.repository.payment.PointHistoryRepository;
+import com.github.commerce.web.dto.payment.PointStatusEnum;
+import com.github.commerce.web.dto.review.ReviewPointRmqDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 리뷰 작성 포인트(결제액 2%) 적립 consumer.
+ * reviewPoint 큐 메시지를 batch 로 받아 사용자별로 합산한 뒤,
+ * 사용자당 최신 지갑(PayMoney) 잔액 UPDATE 한 번(+ 지갑 요약) + point_histories batch INSERT 한 번으로 반영합니다.
+ * 충전/결제처럼 사용자의 최신 지갑 행을 먼저 잠그므로, 동시에 결제가 적립 전 포인트 잔액으로 새 행을 만들지 못합니다.
+ * point_histories.review_id 가 unique 라서 같은 리뷰가 다시 전달돼도 한 번만 적립됩니다.
+ */
+@Slf4j
+@Service
+public class ReviewPointAccrualService {
+
+    private static final String INSERT_POINT_HISTORY =
+            "INSERT INTO point_histories (user_id, review_id, earned_point, used_point, status, create_at) " +
+            "VALUES (:payMoneyId, :reviewId, :earnedPoint, 0, :status, :createdAt)";
+
+    private final PayMoneyRepository payMoneyRepository;
+    private final PointHistoryRepository pointHistoryRepository;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final WalletSummaryService walletSummaryService;
+    private final TransactionTemplate transactionTemplate;
+
+    public ReviewPointAccrualService(PayMoneyRepository payMoneyRepository, PointHistoryRepository pointHistoryRepository,
+                                     NamedParameterJdbcTemplate jdbcTemplate, WalletSummaryService walletSummaryService,
+                                     PlatformTransactionManager transactionManager) {
+        this.payMoneyRepository = payMoneyRepository;
+        this.pointHistoryRepository = pointHistoryRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.walletSummaryService = walletSummaryService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @RabbitListener(queues = "reviewPoint", containerFactory = "reviewPointListenerContainerFactory",
+            autoStartup = "${review.point.consumer-enabled:true}")
+    public void consume(List<ReviewPointRmqDto> messages) {
+        accrue(messages);
+    }
+
+    // 처리 중 실패하면 batch 전체가 롤백되고 메시지는 다시 전달됨 (이미 적립된 리뷰는 건너뜀)
+    public void accrue(List<ReviewPointRmqDto> messages) {
+        transactionTemplate.executeWithoutResult(status -> {
+            // 같은 batch 안의 중복 전달 제거
+            Map<Long, ReviewPointRmqDto> byReviewId = new LinkedHashMap<>();
+            for (ReviewPointRmqDto message : messages) {
+                if (message.getPoint() != null && message.getPoint() > 0) {
+                    byReviewId.putIfAbsent(message.getReviewId(), message);
+                }
+            }
+            if (byReviewId.isEmpty()) {
+                return;
+            }
+            pointHistoryRepository.findReviewIdsByReviewIdIn(byReviewId.keySet())
+                    .forEach(byReviewId::remove);
+            if (byReviewId.isEmpty()) {
+                return;
+            }
+
+            // 사용자 id 순으로 잠가 batch 끼리 교착되지 않도록 함
+            Map<Long, Long> pointsByUser = new TreeMap<>();
+            byReviewId.values().forEach(message -> pointsByUser.merge(message.getUserId(), message.getPoint(), Long::sum));
+
+            Map<Long, Long> payMoneyIdByUser = new HashMap<>();
+            pointsByUser.forEach((userId, points) -> payMoneyRepository.lockLatestByUsersId(userId)
+                    .ifPresent(payMoney -> {
+                        walletSummaryService.applyPoint(userId, points);
+                        payMoneyRepository.addPointBalance(payMoney.getId(), points);
+                        payMoneyIdByUser.put(userId, payMoney.getId());
+                    }));
+
+            LocalDateTime now = LocalDateTime.now();
+            List<SqlParameterSource> histories = new ArrayList<>();
+            for (ReviewPointRmqDto message : byReviewId.values()) {
+                Long payMoneyId = payMoneyIdByUser.get(message.getUserId());
+                if (payMoneyId == null) {
+                    // 지갑이 없는 사용자는 적립할 곳이 없음 (결제한 사용자라 정상적으로는 없음)
+                    log.warn("리뷰 포인트 적립 대상 지갑 없음 reviewId={}, userId={}", message.getReviewId(), message.getUserId());
+                    continue;
+                }
+                histories.add(new MapSqlParameterSource()
+                        .addValue("payMoneyId", payMoneyId)
+                        .addValue("reviewId", message.getReviewId())
+                        .addValue("earnedPoint", message.getPoint())
+                        .addValue("status", PointStatusEnum.EARN_POINT.getValue())
+                        .addValue("createdAt", now));
+            }
+            if (!histories.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_POINT_HISTORY, histories.toArray(new SqlParameterSource[0]));
+            }
+            log.info("리뷰 포인트 적립 : 리뷰 {}건, 사용자 {}명", histories.size(), pointsByUser.size());
+        });
+    }
+}
@@ -17,6 +17,7 @@ public class TempChargeService {
 
     private final UserRepository userRepository;
     private final PayMoneyRepository payMoneyRepository;
+    private final WalletSummaryService walletSummaryService;
 
     @Transactional
     public TempPayMoneyDto tempCharge(Long userId) {
@@ -24,7 +25,11 @@ public class TempChargeService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new PaymentException(PaymentErrorCode.PAYMENT_USER_NOT_FOUND));
 
-        PayMoney payMoney = payMoneyRepository.findByUsersId(userId).orElse(null);
+        // 최신 지갑 행을 잠가 동시 충전/결제/포인트 적립과 직렬화
+        PayMoney payMoney = payMoneyRepository.lockLatestByUsersId(userId).orElse(null);
+
+        // 지갑 요약 반영 (페이머니 변경 전에 호출)
+        walletSummaryService.applyCharge(userId, 1000000L);
 
         if (payMoney == null) {
             payMoney = PayMoney.builder()
@@ -0,0 +1,84 @@
+package com.github.commerce.service.payment;
+
+import com.github.commerce.entity.WalletSummary;
+import com.github.commerce.repository.payment.WalletSummaryRepository;
+import com.github.commerce.web.dto.payment.WalletSummaryDto;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+/**
+ * 지갑 요약(wallet_summaries) 갱신/조회.
+ * 충전/결제/포인트 변경은 pay_moneys 를 바꾸기 "전에" 같은 트랜잭션에서 apply* 를 호출해야 합니다.
+ * (요약이 없던 사용자는 변경 전 pay_moneys 로 요약을 만든 뒤 변경분을 더하므로 두 번 반영되지 않음)
+ */
+@Service
+public class WalletSummaryService {
+
+    private final WalletSummaryRepository walletSummaryRepository;
+    private final TransactionTemplate initializeTransaction;
+
+    public WalletSummaryService(WalletSummaryRepository walletSummaryRepository, PlatformTransactionManager transactionManager) {
+        this.walletSummaryRepository = walletSummaryRepository;
+        // 읽기 전용(replica) 조회 중 요약이 없을 때만 쓰기 트랜잭션(master)으로 만듦
+        this.initializeTransaction = new TransactionTemplate(transactionManager);
+        this.initializeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Transactional
+    public void applyCharge(Long userId, long amount) {
+        apply(userId, amount, 0L, amount, 0L);
+    }
+
+    /**
+     * 결제 반영, 포인트를 사용하면 요약의 보유 포인트를 전부 차감하고 차감한 포인트를 반환합니다.
+     * 차감할 포인트는 요약 행을 잠그고 읽으므로 pay_moneys 와 값이 어긋나 있어도 요약이 음수가 되거나 남지 않습니다.
+     */
+    @Transactional
+    public long applyPayment(Long userId, long amount, boolean usePoint) {
+        initializeIfAbsent(userId);
+        long usedPoint = usePoint
+                ? walletSummaryRepository.findForUpdate(userId).map(WalletSummary::getPointBalance).orElse(0L)
+                : 0L;
+        walletSummaryRepository.addDeltas(userId, -amount, -usedPoint, 0L, amount, LocalDateTime.now());
+        return usedPoint;
+    }
+
+    @Transactional
+    public void applyPoint(Long userId, long pointDelta) {
+        apply(userId, 0L, pointDelta, 0L, 0L);
+    }
+
+    // 마이페이지/지갑 화면용, 요약 한 줄만 읽음 (처음 조회하는 사용자만 한 번 만들고 master 에서 다시 읽음)
+    @Transactional(readOnly = true)
+    public WalletSummaryDto getWalletSummary(Long userId) {
+        return walletSummaryRepository.findById(userId)
+                .map(WalletSummaryDto::fromEntity)
+                .orElseGet(() -> initializeTransaction.execute(status -> {
+                    initialize(userId);
+                    return WalletSummaryDto.fromEntity(walletSummaryRepository.findById(userId).orElseThrow());
+                }));
+    }
+
+    private void apply(Long userId, long payMoneyDelta, long pointDelta, long chargeDelta, long usedDelta) {
+        initializeIfAbsent(userId);
+        walletSummaryRepository.addDeltas(userId, payMoneyDelta, pointDelta, chargeDelta, usedDelta, LocalDateTime.now());
+    }
+
+    private void initializeIfAbsent(Long userId) {
+        if (!walletSummaryRepository.existsById(userId)) {
+            initialize(userId);
+        }
+    }
+
+    private void initialize(Long userId) {
+        LocalDateTime now = LocalDateTime.now();
+        if (walletSummaryRepository.initializeFromPayMoney(userId, now) == 0) {
+            walletSummaryRepository.initializeEmpty(userId, now);
+        }
+    }
+}
@@ -5,6 +5,7 @@ import com.github.commerce.repository.order.OrderRepository;
 import com.github.commerce.repository.product.ProductContentImageRepository;
 import com.github.commerce.repository.product.ProductRepository;
 import com.github.commerce.repository.review.ReviewRepository;
+import com.github.commerce.service.cart.util.CartCache;
 import com.github.commerce.service.product.exception.ProductErrorCode;
 import com.github.commerce.service.product.exception.ProductException;
 import com.github.commerce.service.product.util.ValidateProductMethod;
@@ -35,6 +36,7 @@ public class ProductService {
     private final ProductContentImageRepository productContentImageRepository;
     private final ReviewRepository reviewRepository;
     private final AwsS3Service awsS3Service;
+    private final CartCache cartCache;
 
     @Transactional(readOnly = true)
     public List<GetProductDto> searchProducts(Integer pageNumber, String searchWord, String ageCategory, String genderCategory, String sortBy) {
@@ -156,6 +158,8 @@ public class ProductService {
             originProduct.setAgeCategory(AgeCategoryEnum.switchCategory(convertedRequest.getAgeCategory()));
             originProduct.setOptions(inputOptionsJson);
             originProduct.setIsDeleted(false);
+            // 가격/재고/이름/옵션이 바뀌므로 이 상품을 담은 장바구니 캐시 제거
+            cartCache.invalidateProductAfterCommit(originProduct.getId());
 
 
             // 썸네일 이미지 삭제하고 새로운 이미지 추가, 또는 기존 썸네일 이미지 그대로 사용 (왜냐하면 상품이미지 한개는 필수이므로)
@@ -227,6 +231,7 @@ public class ProductService {
         Product existingProduct = productRepository.findBySellerIdAndId(validateSeller.getId(), validateProduct.getId());
         if (existingProduct != null) {
             productRepository.delete(existingProduct);
+            cartCache.invalidateProductAfterCommit(existingProduct.getId());
         } else {
             throw new ProductException(ProductErrorCode.NOT_AUTHORIZED_SELLER);
         }
@@ -251,15 +256,7 @@ public class ProductService {
         List<DetailPageOrderDto> orderDtoList = orderList.stream().map(DetailPageOrderDto::fromEntity).collect(Collectors.toList());
 
         //리뷰관련기능 : 별점 평균
-        Double averageStar = null;
-         List<Review> reviewList = reviewRepository.findReviewsByProductId(productId, false, 0L);
-        Optional<Short> optionalSum = reviewList.stream()
-                .map(Review::getStarPoint)
-                .reduce((s1, s2) -> (short) (s1 + s2));  // 명시적으로 Short 타입에 대한 덧셈을 수행
-
-        if (optionalSum.isPresent() && !reviewList.isEmpty()) {
-            averageStar = optionalSum.get() / (double) reviewList.size();
-        }
+        Double averageStar = reviewRepository.findAverageStarPointByProductId(productId);
 
 
         return ProductDto.fromEntityDetail(product, isSeller, orderDtoList, userId, userName, imageUrlList, averageStar);
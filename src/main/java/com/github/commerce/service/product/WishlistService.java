@@ -18,6 +18,7 @@ import com.github.commerce.web.dto.product.ProductDto;
 import com.google.gson.Gson;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.*;
@@ -59,6 +60,7 @@ public class WishlistService {
     }
 
 
+    @Transactional(readOnly = true)
     public List<Map<String, Object>> getWishlist(User validateProfileId) {
         List<Wishlist> wishlists = wishlistRepository.findProductsIdByUsers_Id(validateProfileId.getId());
         if(wishlists.isEmpty()) throw new CustomException(ErrorCode.NOT_FOUND_WISHLIST);
@@ -0,0 +1,28 @@
+package com.github.commerce.service.review;
+
+import com.github.commerce.web.dto.review.ReviewPointRmqDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReviewPointPublisher {
+    private final RabbitTemplate rabbitTemplate;
+
+    //리뷰 트랜잭션이 커밋된 후에만 적립 요청 발행 (롤백된 리뷰는 적립하지 않음)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void publish(ReviewPointRmqDto message) {
+        try {
+            rabbitTemplate.convertAndSend("exchange", "reviewPoint", message);
+        } catch (AmqpException e) {
+            log.error("리뷰 포인트 적립 요청 발행 실패 reviewId={}, userId={}, point={} : {}",
+                    message.getReviewId(), message.getUserId(), message.getPoint(), e.getMessage());
+        }
+    }
+}
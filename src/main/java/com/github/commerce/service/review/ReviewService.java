@@ -2,8 +2,6 @@ package com.github.commerce.service.review;
 
 import com.github.commerce.entity.*;
 import com.github.commerce.repository.order.OrderRepository;
-import com.github.commerce.repository.payment.PayMoneyRepository;
-import com.github.commerce.repository.payment.PointHistoryRepository;
 import com.github.commerce.repository.product.ProductRepository;
 import com.github.commerce.repository.review.ReviewRepository;
 import com.github.commerce.repository.user.UserInfoRepository;
@@ -14,9 +12,13 @@ import com.github.commerce.service.review.exception.ReviewErrorCode;
 import com.github.commerce.service.review.exception.ReviewException;
 import com.github.commerce.web.dto.review.PostReviewDto;
 import com.github.commerce.web.dto.review.ReviewDto;
+import com.github.commerce.web.dto.review.ReviewFeedDto;
+import com.github.commerce.web.dto.review.ReviewPointRmqDto;
 import com.google.gson.Gson;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -33,10 +35,14 @@ public class ReviewService {
     private final ProductRepository productRepository;
     private final ReviewRepository reviewRepository;
     private final OrderRepository orderRepository;
-    private final PayMoneyRepository payMoneyRepository;
-    private final PointHistoryRepository pointHistoryRepository;
     private final ProductImageUploadService productImageUploadService;
     private final AwsS3Service awsS3Service;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    private static final int REVIEW_PAGE_SIZE = 20;
+    private static final short MIN_STAR_POINT = 1;
+    private static final short MAX_STAR_POINT = 5;
+    private static final double REVIEW_POINT_RATE = 0.02;
 
     @Transactional
     public ReviewDto createReview(String request, Long userId, MultipartFile multipartFile) {
@@ -48,7 +54,6 @@ public class ReviewService {
         Order validatedPaidOrder = validatePaidOrder(orderId);
         UsersInfo validatedUsersInfo = validateUserInfo(userId);
         Product validatedProduct = validateProduct(productId);
-        PayMoney validatedPay = validatePayMoneyForReviewPoint(userId);
         if (existReview(validatedPaidOrder.getId(), productId)) {
             throw new ReviewException(ReviewErrorCode.REVIEW_ALREADY_EXISTS);
         }
@@ -73,33 +78,45 @@ public class ReviewService {
 
         validatedPaidOrder.setIsReviewed(true);
 
-        //포인트 적립 결제액 2%
-//        Long point = validatedPay.getPointBalance();
-//        if (point == null) {
-//            point = 0L;
-//        }
-//        Long paidPrice = validatedPaidOrder.getTotalPrice();
-//        Long additionalPoints = Math.round(paidPrice * 0.02);
-//        Long modifiedPoint = point + additionalPoints;
-//        validatedPay.setPointBalance(modifiedPoint);
-
-        //포인트 증가 내역
-//        savePointHistory(validatedPay, additionalPoints);
-        //포인트 총액 업데이트
-//        payMoneyRepository.save(validatedPay);
+        //포인트 적립 결제액 2% (커밋 후 reviewPoint 큐로 발행, ReviewPointAccrualService 에서 batch 적립)
+        Long paidPrice = validatedPaidOrder.getTotalPrice();
+        long point = paidPrice == null ? 0L : Math.round(paidPrice * REVIEW_POINT_RATE);
+        if (point > 0) {
+            applicationEventPublisher.publishEvent(ReviewPointRmqDto.of(review.getId(), userId, point));
+        }
 
         return ReviewDto.fromEntity(review);
     }
 
 
     @Transactional(readOnly = true)
-    public List<ReviewDto> getReviews(Long productId, Long cursorId){
+    public ReviewFeedDto getReviews(Long productId, LocalDateTime cursorCreatedAt, Long cursorId,
+                                    Short starPoint, boolean photoOnly){
 
         validateProduct(productId);
+        if ((cursorCreatedAt == null) != (cursorId == null)) {
+            throw new ReviewException(ReviewErrorCode.INVALID_CURSOR);
+        }
+        if (starPoint != null && (starPoint < MIN_STAR_POINT || starPoint > MAX_STAR_POINT)) {
+            throw new ReviewException(ReviewErrorCode.INVALID_STAR_POINT);
+        }
 
-        List<Review> reviewList = reviewRepository.findReviewsByProductId(
-                productId, false, cursorId);
-        return reviewList.stream().map(ReviewDto::fromEntity).collect(Collectors.toList());
+        // 한 건 더 조회해서 다음 페이지 여부 확인
+        List<Review> reviewList = reviewRepository.findReviewFeed(
+                productId, starPoint, photoOnly, cursorCreatedAt, cursorId, PageRequest.of(0, REVIEW_PAGE_SIZE + 1));
+
+        boolean hasNext = reviewList.size() > REVIEW_PAGE_SIZE;
+        if (hasNext) {
+            reviewList = reviewList.subList(0, REVIEW_PAGE_SIZE);
+        }
+        Review last = hasNext ? reviewList.get(reviewList.size() - 1) : null;
+
+        return ReviewFeedDto.builder()
+                .reviews(reviewList.stream().map(ReviewDto::fromEntity).collect(Collectors.toList()))
+                .hasNext(hasNext)
+                .nextCursorCreatedAt(last == null ? null : last.getCreatedAt())
+                .nextCursorId(last == null ? null : last.getId())
+                .build();
     }
 
 
@@ -154,32 +171,9 @@ public class ReviewService {
         return review;
     }
 
-    private PayMoney validatePayMoneyForReviewPoint(Long userId) {
-        List<PayMoney> payList = payMoneyRepository.findAllByUsersIdOrderByCreatedAtDesc(userId);
-
-        if(payList.isEmpty()){
-            throw new ReviewException(ReviewErrorCode.PAYMONEY_NOT_FOUD);
-        }
-        return payList.get(0);
-    }
-
     private Review saveReviewImage(Review review, String imageURl) {
 
         review.setImageUrl(imageURl);
         return reviewRepository.save(review);
     }
-
-    private void savePointHistory(PayMoney validatedPay, Long additionalPoints) {
-
-        //적립 포인트 기록
-        pointHistoryRepository.save(
-                PointHistory.builder()
-                        .payMoney(validatedPay)
-                        .earnedPoint(additionalPoints)
-                        .createdAt(LocalDateTime.now())
-                        .usedPoint(0L)
-                        .status(1)
-                        .build()
-        );
-    }
 }
@@ -11,6 +11,8 @@ public enum ReviewErrorCode {
 
     //400
     IMAGE_EMPTY("이미지 파일이 없습니다.", HttpStatus.BAD_REQUEST ),
+    INVALID_CURSOR("cursorCreatedAt 과 cursorId 는 함께 보내야 합니다.", HttpStatus.BAD_REQUEST),
+    INVALID_STAR_POINT("별점은 1~5 입니다.", HttpStatus.BAD_REQUEST),
 
     //status(HttpStatus.FORBIDDEN) 403
     REVIEW_PERMISSION_DENIED("당신은 이 상품을 산 적이 없는데요.", HttpStatus.FORBIDDEN),
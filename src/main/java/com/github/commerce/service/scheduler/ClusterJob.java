@@ -0,0 +1,26 @@
+package com.github.commerce.service.scheduler;
+
+import java.time.Duration;
+
+/**
+ * 여러 서버 중 한 곳에서만 실행해야 하는 스케줄 작업.
+ * bean 으로 등록하면 ClusterJobScheduler 가 cron 마다 lease 를 잡은 서버에서만 run 을 호출합니다.
+ */
+public interface ClusterJob {
+
+    // lease / 이력 key (서버마다 같아야 함)
+    String getName();
+
+    // 초 분 시 일 월 요일, Asia/Seoul 기준
+    String getCron();
+
+    // 실행 중인 서버가 죽었을 때 다른 서버가 가져갈 수 있기까지의 시간 (작업 최대 실행 시간보다 길게)
+    Duration getLeaseTime();
+
+    // 서버가 모두 내려가 있었거나 이전 실행이 길어져 놓친 slot 을 뒤늦게 한 번 실행할지 (false 면 건너뜀)
+    default boolean isCatchUpMissed() {
+        return true;
+    }
+
+    void run() throws Exception;
+}
@@ -0,0 +1,236 @@
+package com.github.commerce.service.scheduler;
+
+import com.github.commerce.entity.ScheduledJobLock;
+import com.github.commerce.entity.ScheduledJobRun;
+import com.github.commerce.entity.ScheduledJobRunStatus;
+import com.github.commerce.repository.scheduler.ScheduledJobLockRepository;
+import com.github.commerce.repository.scheduler.ScheduledJobRunRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.scheduling.support.CronExpression;
+import org.springframework.scheduling.support.CronTrigger;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.TimeZone;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ClusterJob 들을 cron 에 맞춰 실행하되, scheduled_job_locks 의 lease 를 잡은 서버 한 곳에서만 실행합니다.
+ * - cron slot(실행 예정 시각)마다 조건부 UPDATE 한 번으로 lease 를 잡고, 같은 slot 은 클러스터에서 한 번만 실행됩니다.
+ * - 모든 서버가 내려가 있었거나 이전 실행이 lease 를 들고 있어 놓친 slot 은 기동 시 / 1분마다 확인해서
+ *   작업 설정(isCatchUpMissed)에 따라 한 번만 실행하거나 건너뜁니다. (여러 개를 놓쳤어도 마지막 slot 한 번)
+ * - 실행마다 scheduled_job_runs 에 이력을 남기고 scheduled.job.duration (job, status) 으로 실행 시간을 기록합니다.
+ *   lease 를 이어받으면 이전 slot 에서 RUNNING 으로 남은 실행은 FAILED 로 정리합니다.
+ * 시각은 서버 zone 과 상관없이 모두 Asia/Seoul 기준이며, 서버 간 시계 차이는 lease 시간 안에서만 허용됩니다.
+ */
+@Slf4j
+@Component
+public class ClusterJobScheduler implements SchedulingConfigurer {
+
+    public static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final long MISSED_CHECK_INTERVAL = 60 * 1000L; //1분
+    private static final long MISFIRE_THRESHOLD_SECONDS = 60; //slot 보다 이만큼 늦게 시작하면 놓친 것으로 봄
+    private static final int MAX_SLOT_SCAN = 100000;
+    private static final int MAX_ERROR_LENGTH = 1000;
+    private static final String ABANDONED_MESSAGE = "lease 만료 후 다른 서버가 다음 slot 을 가져감 (실행 중 종료 또는 lease 초과)";
+
+    private final List<ClusterJob> jobs;
+    private final ScheduledJobLockRepository scheduledJobLockRepository;
+    private final ScheduledJobRunRepository scheduledJobRunRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, CronExpression> crons = new ConcurrentHashMap<>();
+    private final String owner;
+    private volatile boolean ready;
+
+    public ClusterJobScheduler(List<ClusterJob> jobs, ScheduledJobLockRepository scheduledJobLockRepository,
+                               ScheduledJobRunRepository scheduledJobRunRepository,
+                               PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        this.jobs = jobs;
+        this.scheduledJobLockRepository = scheduledJobLockRepository;
+        this.scheduledJobRunRepository = scheduledJobRunRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.owner = hostName() + "-" + UUID.randomUUID().toString().substring(0, 8);
+        jobs.forEach(job -> crons.put(job.getName(), CronExpression.parse(job.getCron())));
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        for (ClusterJob job : jobs) {
+            taskRegistrar.addTriggerTask(() -> runDue(job), new CronTrigger(job.getCron(), TimeZone.getTimeZone(ZONE)));
+        }
+    }
+
+    // 처음 배포된 작업은 lease 행을 만들고 (지금 이전 slot 은 실행하지 않음), 꺼져 있던 동안 놓친 slot 확인
+    @EventListener(ApplicationReadyEvent.class)
+    public void registerJobs() {
+        LocalDateTime now = LocalDateTime.now(ZONE);
+        for (ClusterJob job : jobs) {
+            if (scheduledJobLockRepository.existsById(job.getName())) {
+                continue;
+            }
+            try {
+                scheduledJobLockRepository.save(ScheduledJobLock.builder()
+                        .jobName(job.getName())
+                        .lastFireTime(now)
+                        .updatedAt(now)
+                        .build());
+            } catch (DataIntegrityViolationException e) {
+                log.debug("다른 서버가 먼저 등록한 작업 : {}", job.getName());
+            }
+        }
+        ready = true;
+        checkMissedFires();
+    }
+
+    @Scheduled(fixedDelay = MISSED_CHECK_INTERVAL, initialDelay = MISSED_CHECK_INTERVAL)
+    public void checkMissedFires() {
+        if (!ready) {
+            return;
+        }
+        jobs.forEach(this::runDue);
+    }
+
+    public void runDue(ClusterJob job) {
+        if (!ready) {
+            return;
+        }
+        try {
+            ScheduledJobLock lock = scheduledJobLockRepository.findById(job.getName()).orElse(null);
+            if (lock == null) {
+                return;
+            }
+            LocalDateTime now = LocalDateTime.now(ZONE);
+            LocalDateTime fireTime = latestSlot(job, lock.getLastFireTime(), now);
+            if (fireTime == null) {
+                return; //이번 slot 은 이미 다른 서버가 실행
+            }
+
+            boolean missed = Duration.between(fireTime, now).getSeconds() > MISFIRE_THRESHOLD_SECONDS;
+            if (missed && !job.isCatchUpMissed()) {
+                skip(job, fireTime, now);
+                return;
+            }
+
+            Integer acquired = transactionTemplate.execute(status -> scheduledJobLockRepository.acquire(
+                    job.getName(), owner, fireTime, now.plus(job.getLeaseTime()), now));
+            if (acquired != null && acquired == 1) {
+                execute(job, fireTime, missed);
+            }
+        } catch (Exception e) {
+            log.warn("스케줄 작업 lease 확인 실패 {} : {}", job.getName(), e.getMessage());
+        }
+    }
+
+    private void execute(ClusterJob job, LocalDateTime fireTime, boolean missed) {
+        if (missed) {
+            log.info("놓친 스케줄 작업 실행 {} : {}", job.getName(), fireTime);
+        }
+        LocalDateTime startedAt = LocalDateTime.now(ZONE);
+        Integer abandoned = transactionTemplate.execute(tx -> scheduledJobRunRepository.failAbandoned(job.getName(), fireTime,
+                ScheduledJobRunStatus.RUNNING, ScheduledJobRunStatus.FAILED, ABANDONED_MESSAGE, startedAt));
+        if (abandoned != null && abandoned > 0) {
+            log.warn("끝나지 않은 이전 스케줄 작업 {}건 FAILED 처리 {}", abandoned, job.getName());
+        }
+
+        long start = System.nanoTime();
+        ScheduledJobRun run = scheduledJobRunRepository.save(ScheduledJobRun.builder()
+                .jobName(job.getName())
+                .owner(owner)
+                .fireTime(fireTime)
+                .missed(missed)
+                .status(ScheduledJobRunStatus.RUNNING)
+                .startedAt(startedAt)
+                .build());
+
+        ScheduledJobRunStatus status = ScheduledJobRunStatus.SUCCEEDED;
+        String errorMessage = null;
+        try {
+            job.run();
+        } catch (Exception e) {
+            status = ScheduledJobRunStatus.FAILED;
+            errorMessage = truncate(e.toString());
+            log.error("스케줄 작업 실패 {} : {}", job.getName(), e.getMessage(), e);
+        } finally {
+            long elapsedNanos = System.nanoTime() - start;
+            LocalDateTime now = LocalDateTime.now(ZONE);
+            Timer.builder("scheduled.job.duration")
+                    .description("클러스터 스케줄 작업 실행 시간")
+                    .tag("job", job.getName())
+                    .tag("status", status.name())
+                    .register(meterRegistry)
+                    .record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+            run.finish(status, now, TimeUnit.NANOSECONDS.toMillis(elapsedNanos), errorMessage);
+            scheduledJobRunRepository.save(run);
+            // 다음 slot 은 lease 가 끝나기 전이라도 바로 가져갈 수 있도록
+            transactionTemplate.executeWithoutResult(tx -> scheduledJobLockRepository.release(job.getName(), owner, now));
+        }
+    }
+
+    private void skip(ClusterJob job, LocalDateTime fireTime, LocalDateTime now) {
+        Integer skipped = transactionTemplate.execute(status -> scheduledJobLockRepository.skip(job.getName(), fireTime, now));
+        if (skipped == null || skipped != 1) {
+            return;
+        }
+        log.info("놓친 스케줄 작업 건너뜀 {} : {}", job.getName(), fireTime);
+        Counter.builder("scheduled.job.skipped")
+                .tag("job", job.getName())
+                .register(meterRegistry)
+                .increment();
+        scheduledJobRunRepository.save(ScheduledJobRun.builder()
+                .jobName(job.getName())
+                .owner(owner)
+                .fireTime(fireTime)
+                .missed(true)
+                .status(ScheduledJobRunStatus.SKIPPED)
+                .startedAt(now)
+                .finishedAt(now)
+                .durationMillis(0L)
+                .build());
+    }
+
+    // (lastFireTime, now] 안의 마지막 slot, 없으면 null
+    private LocalDateTime latestSlot(ClusterJob job, LocalDateTime lastFireTime, LocalDateTime now) {
+        CronExpression cron = crons.get(job.getName());
+        LocalDateTime slot = null;
+        LocalDateTime next = cron.next(lastFireTime);
+        for (int i = 0; next != null && !next.isAfter(now) && i < MAX_SLOT_SCAN; i++) {
+            slot = next;
+            next = cron.next(next);
+        }
+        return slot;
+    }
+
+    private static String truncate(String message) {
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown";
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.github.commerce.service.scheduler;
+
+import com.github.commerce.repository.scheduler.ScheduledJobRunRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ScheduledJobRunCleanupJob implements ClusterJob { //매일 새벽 4시 30분 오래된 스케줄 작업 이력 삭제
+
+    private final ScheduledJobRunRepository scheduledJobRunRepository;
+
+    @Value("${scheduler.history-retention-days:90}")
+    private long retentionDays;
+
+    @Override
+    public String getName() {
+        return "scheduledJobRunCleanup";
+    }
+
+    @Override
+    public String getCron() {
+        return "0 30 4 * * *";
+    }
+
+    @Override
+    public Duration getLeaseTime() {
+        return Duration.ofMinutes(10);
+    }
+
+    @Override
+    @Transactional
+    public void run() {
+        int deleted = scheduledJobRunRepository.deleteStartedBefore(LocalDateTime.now(ClusterJobScheduler.ZONE).minusDays(retentionDays));
+        log.info("스케줄 작업 이력 삭제 : {}건", deleted);
+    }
+}
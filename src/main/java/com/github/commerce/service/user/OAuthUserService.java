@@ -0,0 +1,81 @@
+package com.github.commerce.service.user;
+
+import com.github.commerce.entity.Grade;
+import com.github.commerce.entity.User;
+import com.github.commerce.entity.UserRoleEnum;
+import com.github.commerce.entity.UsersInfo;
+import com.github.commerce.repository.user.UserDetailsImpl;
+import com.github.commerce.repository.user.UserInfoRepository;
+import com.github.commerce.repository.user.UserRepository;
+import com.github.commerce.web.dto.user.KakaoUserInfoDto;
+import com.github.commerce.web.dto.user.TokenDto;
+import com.github.commerce.web.dto.user.UserRegisteredEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 카카오 사용자 조회/가입 + 토큰 발급.
+ * OAuthService 의 비동기 흐름에서 호출되므로 @Transactional 이 적용되도록 별도 bean 으로 둡니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OAuthUserService {
+    private final PasswordEncoder passwordEncoder;
+    private final UserRepository userRepository;
+    private final UserInfoRepository userInfoRepository;
+    private final RefreshTokenService refreshTokenService;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    // 가입과 토큰 발급을 한 트랜잭션으로 (토큰 발급이 실패하면 가입도 롤백되어 다음 로그인에서 다시 가입)
+    @Transactional
+    public TokenDto login(KakaoUserInfoDto kakaoUserInfo) {
+        User user = findOrCreateUser(kakaoUserInfo);
+        return refreshTokenService.issue(new UserDetailsImpl(user));
+    }
+
+    private User findOrCreateUser(KakaoUserInfoDto kakaoUserInfo) {
+        User user = userRepository.findUserByEmail(kakaoUserInfo.getEmail());
+        if(user==null||user.getIsDelete()==true) {
+            String password= UUID.randomUUID().toString();
+            User savedUser = userRepository.save(
+                    User.builder()
+                            .email(kakaoUserInfo.getEmail())
+                            .password(passwordEncoder.encode(password))
+                            .userName(kakaoUserInfo.getNickname())
+                            .role(UserRoleEnum.USER)
+                            .isDelete(false)
+                            .createdAt(LocalDateTime.now())
+                            .build()
+            );
+            userInfoRepository.save(
+                    UsersInfo.builder()
+                            .users(savedUser)
+                            .grade(Grade.GREEN)
+                            .nickname(Long.toString(kakaoUserInfo.getId()))
+                            .gender("")
+                            .address("")
+                            .age("")
+                            .build()
+            );
+
+            //회원가입시 자동 신규회원 쿠폰발급 (WelcomeCouponListener 에서 배치 지급)
+            applicationEventPublisher.publishEvent(UserRegisteredEvent.builder()
+                    .userId(savedUser.getId())
+                    .role(UserRoleEnum.USER)
+                    .email(savedUser.getEmail())
+                    .nickname(Long.toString(kakaoUserInfo.getId()))
+                    .build());
+            return savedUser;
+
+        }
+        return user;
+    }
+}
@@ -0,0 +1,212 @@
+package com.github.commerce.service.user;
+
+import com.github.commerce.config.security.JwtUtil;
+import com.github.commerce.entity.RefreshToken;
+import com.github.commerce.repository.user.RefreshTokenRepository;
+import com.github.commerce.repository.user.UserDetailsImpl;
+import com.github.commerce.service.user.util.BloomFilter;
+import com.github.commerce.web.dto.user.TokenDto;
+import io.jsonwebtoken.Claims;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 리프레시 토큰 발급/회전(rotation)/폐기.
+ * 토큰은 사용할 때마다 같은 family 의 새 토큰으로 교체되고, 이미 사용(폐기)된 토큰이 다시 들어오면
+ * 탈취로 보고 family 전체를 폐기합니다.
+ * 단, 회전된 지 ROTATION_GRACE_SECONDS 이내에 같은 토큰이 다시 들어오면(탭 여러 개, 재시도 등 동시 요청)
+ * 재사용으로 보지 않고 null 만 반환합니다. (먼저 회전한 요청이 받은 새 토큰은 그대로 유효)
+ * 폐기된 토큰 id 는 DB 에서 주기적으로 동기화한 메모리 필터(Bloom filter + 정확한 Set)로 확인하므로
+ * 폐기 여부 확인에는 DB 조회가 필요 없습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenService {
+
+    private static final long SYNC_INTERVAL = 30 * 1000L; //30초
+    private static final long REBUILD_INTERVAL = 10 * 60 * 1000L; //10분
+    private static final long SYNC_OVERLAP_SECONDS = 5; //서버간 시간차/커밋 지연 보정
+    private static final long EXPECTED_REVOKED_TOKENS = 100000;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    private static final LocalDateTime SYNC_START = LocalDateTime.of(2000, 1, 1, 0, 0);
+    private static final long ROTATION_GRACE_SECONDS = 10;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final JwtUtil jwtUtil;
+
+    private volatile BloomFilter revokedTokenFilter = newFilter();
+    private volatile Set<String> revokedTokenIds = ConcurrentHashMap.newKeySet();
+    // 이 서버에서 재사용이 감지된 family, 다음 rebuild 때 토큰 id 로 대체됨
+    private final Set<String> revokedFamilyIds = ConcurrentHashMap.newKeySet();
+    private volatile LocalDateTime lastSyncedAt = SYNC_START;
+
+    // 로그인마다 새 family 로 발급
+    @Transactional
+    public TokenDto issue(UserDetailsImpl principal) {
+        return issue(principal, UUID.randomUUID().toString(), UUID.randomUUID().toString());
+    }
+
+    /**
+     * 리프레시 토큰 회전.
+     * 서명 검증이 끝난 claim 과 토큰 원문("Bearer " 제외)을 받아 새 access/refresh 토큰을 발급하고,
+     * 폐기/재사용/이전 형식 토큰이면 null 을 반환합니다.
+     */
+    @Transactional
+    public TokenDto rotate(Claims info, String token) {
+        String tokenId = info.getId();
+        String familyId = info.get(JwtUtil.FAMILY_ID_KEY, String.class);
+        UserDetailsImpl principal = jwtUtil.getPrincipalFromClaims(info);
+        if (tokenId == null || familyId == null || principal == null) {
+            return null; //토큰 id 가 없는 이전 형식 토큰은 다시 로그인
+        }
+
+        if (revokedFamilyIds.contains(familyId)) {
+            log.warn("이미 사용된 리프레시 토큰 재사용 감지, family 폐기 : {}", familyId);
+            revokeFamily(familyId);
+            return null;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        String tokenHash = hash(token);
+        if (isRevoked(tokenId)) {
+            // 이 서버에서 회전된 토큰 - 방금 회전된 것인지만 DB 확인
+            handleRevokedToken(tokenId, tokenHash, familyId, now);
+            return null;
+        }
+
+        String successorId = UUID.randomUUID().toString();
+        if (refreshTokenRepository.revokeIfActive(tokenId, tokenHash, now, successorId) == 0) {
+            // 다른 서버(또는 동시 요청)에서 방금 회전된 토큰일 수 있으므로 이 경우에만 DB 확인
+            handleRevokedToken(tokenId, tokenHash, familyId, now);
+            return null;
+        }
+
+        TokenDto tokenDto = issue(principal, familyId, successorId);
+        markRevoked(tokenId);
+        return tokenDto;
+    }
+
+    // 비밀번호 변경 등으로 모든 기기의 로그인을 끊을 때, 다른 서버에는 다음 동기화 때 반영
+    @Transactional
+    public void revokeAll(String email) {
+        refreshTokenRepository.revokeAllByEmail(email, LocalDateTime.now());
+    }
+
+    // 다른 서버에서 폐기된 토큰 id 를 메모리 필터에 반영
+    @Scheduled(fixedDelay = SYNC_INTERVAL)
+    public void syncRevokedTokens() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime since = lastSyncedAt.minusSeconds(SYNC_OVERLAP_SECONDS);
+        refreshTokenRepository.findByRevokedTrueAndRevokedAtAfterAndExpiredAtAfter(since, now)
+                .forEach(refreshToken -> markRevoked(refreshToken.getTokenId()));
+        lastSyncedAt = now;
+    }
+
+    // Bloom filter 는 삭제가 안 되므로 만료된 토큰이 빠지도록 주기적으로 새로 만들어 교체
+    @Scheduled(fixedDelay = REBUILD_INTERVAL)
+    public void rebuildRevokedTokens() {
+        LocalDateTime now = LocalDateTime.now();
+        BloomFilter filter = newFilter();
+        Set<String> tokenIds = ConcurrentHashMap.newKeySet();
+        refreshTokenRepository.findByRevokedTrueAndRevokedAtAfterAndExpiredAtAfter(SYNC_START, now)
+                .forEach(refreshToken -> {
+                    filter.put(refreshToken.getTokenId());
+                    tokenIds.add(refreshToken.getTokenId());
+                });
+
+        revokedTokenIds = tokenIds;
+        revokedTokenFilter = filter;
+        revokedFamilyIds.clear();
+        lastSyncedAt = now;
+        log.info("리프레시 토큰 폐기 목록 갱신 : {}건", tokenIds.size());
+    }
+
+    // 매일 새벽 4시 만료된 토큰 삭제
+    @Scheduled(cron = "0 0 4 * * *")
+    @Transactional
+    public void deleteExpiredTokens() {
+        int deleted = refreshTokenRepository.deleteExpired(LocalDateTime.now());
+        log.info("만료된 리프레시 토큰 삭제 : {}건", deleted);
+    }
+
+    // 회전된 지 얼마 안 된 같은 토큰이면 동시 요청으로 보고 family 유지, 그 외(family/전체 폐기 후 사용, 오래된 토큰 재사용)는 family 폐기
+    private void handleRevokedToken(String tokenId, String tokenHash, String familyId, LocalDateTime now) {
+        refreshTokenRepository.findByTokenId(tokenId)
+                .filter(RefreshToken::getRevoked)
+                .ifPresent(saved -> {
+                    boolean recentlyRotated = saved.getReplacedBy() != null
+                            && saved.getTokenHash().equals(tokenHash)
+                            && saved.getRevokedAt() != null
+                            && saved.getRevokedAt().isAfter(now.minusSeconds(ROTATION_GRACE_SECONDS));
+                    if (recentlyRotated) {
+                        log.info("방금 회전된 리프레시 토큰 동시 요청, family 유지 : {}", familyId);
+                        return;
+                    }
+                    log.warn("이미 사용된 리프레시 토큰 재사용 감지, family 폐기 : {}", familyId);
+                    revokeFamily(familyId);
+                });
+    }
+
+    private TokenDto issue(UserDetailsImpl principal, String familyId, String tokenId) {
+        Date expiration = jwtUtil.getRefreshTokenExpiration();
+        String accessToken = jwtUtil.createToken(principal, "Access");
+        String refreshToken = jwtUtil.createRefreshToken(principal, tokenId, familyId, expiration);
+
+        refreshTokenRepository.save(RefreshToken.builder()
+                .tokenId(tokenId)
+                .familyId(familyId)
+                .tokenHash(hash(refreshToken.substring(JwtUtil.BEARER_PREFIX.length())))
+                .email(principal.getEmail())
+                .expiredAt(LocalDateTime.ofInstant(expiration.toInstant(), ZoneId.systemDefault()))
+                .createdAt(LocalDateTime.now())
+                .build());
+
+        return new TokenDto(accessToken, refreshToken);
+    }
+
+    private void revokeFamily(String familyId) {
+        revokedFamilyIds.add(familyId);
+        refreshTokenRepository.revokeFamily(familyId, LocalDateTime.now());
+    }
+
+    // Bloom filter 에 없으면 확실히 폐기되지 않은 토큰, 있으면 정확한 Set 으로 확인
+    private boolean isRevoked(String tokenId) {
+        return revokedTokenFilter.mightContain(tokenId) && revokedTokenIds.contains(tokenId);
+    }
+
+    private void markRevoked(String tokenId) {
+        revokedTokenIds.add(tokenId);
+        revokedTokenFilter.put(tokenId);
+    }
+
+    private static BloomFilter newFilter() {
+        return new BloomFilter(EXPECTED_REVOKED_TOKENS, FALSE_POSITIVE_RATE);
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            StringBuilder sb = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                sb.append(String.format("%02x", b));
+            }
+            return sb.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
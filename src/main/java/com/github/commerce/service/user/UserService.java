@@ -1,19 +1,23 @@
 package com.github.commerce.service.user;
 
 import com.github.commerce.config.security.JwtUtil;
+import com.github.commerce.config.security.TokenVersionRegistry;
 import com.github.commerce.entity.*;
 import com.github.commerce.repository.user.*;
-import com.github.commerce.service.coupon.UserCouponService;
+import com.github.commerce.service.payment.WalletSummaryService;
 import com.github.commerce.service.product.AwsS3Service;
 import com.github.commerce.service.product.ProductImageUploadService;
 import com.github.commerce.service.user.exception.UserErrorCode;
 import com.github.commerce.service.user.exception.UserException;
+import com.github.commerce.service.user.util.DuplicateCheckFilter;
+import com.github.commerce.service.user.util.DuplicateCheckFilter.Namespace;
+import com.github.commerce.service.user.util.PasswordVerifier;
+import com.github.commerce.web.dto.payment.WalletSummaryDto;
 import com.github.commerce.web.dto.user.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -32,12 +36,15 @@ public class UserService {
     private final SellerRepository sellerRepository;
     private final UserInfoRepository userInfoRepository;
     private final PasswordEncoder passwordEncoder;
-    private final JwtUtil jwtUtil;
-    private final AuthenticationManager authenticationManager;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final PasswordVerifier passwordVerifier;
+    private final RefreshTokenService refreshTokenService;
     private final ProductImageUploadService productImageUploadService;
     private final AwsS3Service awsS3Service;
-    private final UserCouponService userCouponService;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final JwtUtil jwtUtil;
+    private final TokenVersionRegistry tokenVersionRegistry;
+    private final DuplicateCheckFilter duplicateCheckFilter;
+    private final WalletSummaryService walletSummaryService;
 
     @Transactional
     public String registerSeller(RegisterSellerDto registerSellerDto, MultipartFile shopImgFile) {
@@ -81,7 +88,12 @@ public class UserService {
             seller.setShopImageUrl(imageUrl);
         }
         sellerRepository.save(seller);
-
+        applicationEventPublisher.publishEvent(UserRegisteredEvent.builder()
+                .userId(user.getId())
+                .role(UserRoleEnum.SELLER)
+                .email(user.getEmail())
+                .shopName(seller.getShopName())
+                .build());
 
         return "회원가입 완료 되었습니다.";
     }
@@ -127,94 +139,97 @@ public class UserService {
                         .build()
         );
 
-        //회원가입시 자동 신규회원 쿠폰발급
-        userCouponService.issueUserCoupon(user.getId(), 1l);
+        //회원가입시 자동 신규회원 쿠폰발급 - 커밋 직전 지급 요청만 기록하고 WelcomeCouponListener/CouponGrantWorker 에서 배치 지급
+        applicationEventPublisher.publishEvent(UserRegisteredEvent.builder()
+                .userId(user.getId())
+                .role(UserRoleEnum.USER)
+                .email(user.getEmail())
+                .nickname(registerUserInfoDto.getNickname())
+                .build());
 
         return "회원가입 완료되었습니다.";
     }
 
-    @Transactional
+    // 사용자 조회 1번 + 비밀번호 검증(전용 CPU 풀) + 리프레시 토큰 INSERT 1번
+    // BCrypt 동안 트랜잭션/커넥션을 잡지 않도록 트랜잭션 없이 조회하고(가입 직후 로그인도 보이도록 master), 토큰은 issue 의 트랜잭션에서 저장
+    // (open-in-view 가 꺼져 있어 조회가 끝나면 커넥션을 바로 반납)
     public TokenDto login(LoginRequestDto loginRequestDto) {
 
         String email = loginRequestDto.getEmail();
         String password = loginRequestDto.getPassword();
 
-        try {
-            Authentication authentication = authenticationManager.authenticate(
-                    new UsernamePasswordAuthenticationToken(email, password)
-            );
-            SecurityContextHolder.getContext().setAuthentication(authentication);
-
-            User user = userRepository.findUserByEmail(email);
-            if (user == null || user.getIsDelete() == true) {
-                throw new UserException(UserErrorCode.UER_NOT_FOUND);
-            }
-
-            // 아이디 정보로 Token생성
-            TokenDto tokenDto = jwtUtil.createAllToken(user.getEmail(), user.getRole());
-
-            // Refresh토큰 있는지 확인
-            Optional<RefreshToken> refreshToken = refreshTokenRepository.findByEmail(loginRequestDto.getEmail());
-
-            // 있다면 새토큰 발급후 업데이트
-            // 없다면 새로 만들고 디비 저장
-            if (refreshToken.isPresent()) {
-                refreshTokenRepository.save(refreshToken.get().updateToken(tokenDto.getRefreshToken()));
-            } else {
-                RefreshToken newToken = new RefreshToken(tokenDto.getRefreshToken(), loginRequestDto.getEmail());
-                refreshTokenRepository.save(newToken);
-            }
-
-            return tokenDto;
-
-        } catch (Exception e) {
-            log.error(e.getMessage());
+        User user = userRepository.findUserByEmail(email);
+        boolean matched = (user == null || user.getIsDelete() == true)
+                ? passwordVerifier.matchesNothing(password)
+                : passwordVerifier.matches(password, user.getPassword());
+        if (!matched) {
+            log.info("로그인 실패 : {}", email);
             throw new UserException(UserErrorCode.LOGIN_FAIL);
         }
+
+        UserDetailsImpl principal = new UserDetailsImpl(user);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+
+        // 아이디 정보로 Token생성, 로그인마다 새 리프레시 토큰 family 로 발급 (기기별 로그인 유지)
+        return refreshTokenService.issue(principal);
     }
 
+    @Transactional(readOnly = true)
     public MyInfoResponseDto getMyInfo(Long userId, String role) {
 
         if (role.equals("SELLER")) {
             Seller seller = sellerRepository.findByUsersId(userId).orElseThrow(() -> new UserException(UserErrorCode.UER_NOT_FOUND));
+            if (seller.getUsers().getIsDelete() == true) {
+                throw new UserException(UserErrorCode.UER_NOT_FOUND);
+            }
             return MyInfoResponseDto.builder()
                     .role(seller.getUsers().getRole().name())
                     .shopName(seller.getShopName())
                     .build();
         } else {
             UsersInfo usersInfo = userInfoRepository.findByUsersId(userId).orElseThrow(() -> new UserException(UserErrorCode.UER_NOT_FOUND));
+            if (usersInfo.getUsers().getIsDelete() == true) {
+                throw new UserException(UserErrorCode.UER_NOT_FOUND);
+            }
+            // 지갑 요약 한 줄만 읽음 (전체 페이머니 내역을 불러오지 않음)
+            WalletSummaryDto walletSummary = walletSummaryService.getWalletSummary(userId);
             return MyInfoResponseDto.builder()
                     .role(usersInfo.getUsers().getRole().name())
                     .grade(usersInfo.getGrade().name())
                     .nickname(usersInfo.getNickname())
                     .address(usersInfo.getAddress())
-                    .payMoney(usersInfo.getUsers().getPayMoneyByUserId().getPayMoneyBalance())
-                    .point(usersInfo.getUsers().getPayMoneyByUserId().getPointBalance())
+                    .payMoney(walletSummary.getPayMoneyBalance())
+                    .point(walletSummary.getPointBalance())
                     .build();
         }
     }
 
+    // 입력 중 매번 호출되므로 필터에 없으면 DB 조회 없이 사용 가능, 있을 수도 있을 때만 DB 확인
     public String checkEmail(String email) {
-        if (userRepository.existsByEmailAndIsDeleteIsFalse(email)) {
+        if (duplicateCheckFilter.mightExist(Namespace.EMAIL, email)
+                && userRepository.existsByEmailAndIsDeleteIsFalse(email)) {
             throw new UserException(UserErrorCode.USER_EMAIL_ALREADY_EXIST);
         } else return "사용 가능한 이메일입니다.";
     }
 
     public String checkNickName(String nickname) {
-        if (userInfoRepository.existsByNicknameAndUsersIsDeleteFalse(nickname)) {
+        if (duplicateCheckFilter.mightExist(Namespace.NICKNAME, nickname)
+                && userInfoRepository.existsByNicknameAndUsersIsDeleteFalse(nickname)) {
             throw new UserException(UserErrorCode.USER_NICKNAME_ALREADY_EXIST);
         } else return "사용 가능한 닉네임입니다.";
     }
 
     public String checkShopName(String shopName) {
-        if (sellerRepository.existsByShopNameAndUsersIsDeleteFalse(shopName)) {
+        if (duplicateCheckFilter.mightExist(Namespace.SHOP_NAME, shopName)
+                && sellerRepository.existsByShopNameAndUsersIsDeleteFalse(shopName)) {
             throw new UserException(UserErrorCode.SHOP_NAME_ALREADY_EXIST);
         } else return "사용 가능한 쇼핑몰 이름입니다.";
     }
 
     @Transactional
     public String updatePassword(UpdatePasswordReq updatePasswordReq, UserDetailsImpl userDetails) {
-        User user = userRepository.findUserById(userDetails.getUser().getId());
+        User user = userRepository.findUserById(userDetails.getId());
 
         //기존 비밀 번호와 일치 여부 확인
         if (!passwordEncoder.matches(updatePasswordReq.getPassword(), user.getPassword())) {
@@ -226,11 +241,15 @@ public class UserService {
         }
 
         user.setPassword(passwordEncoder.encode(updatePasswordReq.getNewPassword()));
+        //다른 기기의 로그인도 모두 해제 (이미 발급된 access 토큰은 토큰 버전으로 거부)
+        refreshTokenService.revokeAll(user.getEmail());
+        tokenVersionRegistry.raiseAfterCommit(user.getId(), user.raiseTokenVersion(LocalDateTime.now()));
         return "비밀번호 변경 완료되었습니다.";
 
 
     }
 
+    @Transactional(readOnly = true)
     public SellerInfo getSellerInfo(Long userId) {
         Optional<Seller> seller = sellerRepository.findByUsersId(userId);
 
@@ -267,7 +286,13 @@ public class UserService {
 
         seller.get().getUsers().setUserName(sellerInfo.getUserName());
         seller.get().getUsers().setTelephone(sellerInfo.getTelephone());
+        //변경 시각은 다른 서버의 중복확인 필터 동기화용
+        if (!sellerInfo.getShopName().equals(seller.get().getShopName())) {
+            seller.get().setShopNameUpdatedAt(LocalDateTime.now());
+        }
         seller.get().setShopName(sellerInfo.getShopName());
+        //롤백되어도 필터에는 남지만 DB 확인으로 걸러짐
+        duplicateCheckFilter.add(Namespace.SHOP_NAME, sellerInfo.getShopName());
         seller.get().setAddress(sellerInfo.getAddress());
         seller.get().setAddressDetail(sellerInfo.getAddressDetail());
 
@@ -281,6 +306,7 @@ public class UserService {
     }
 
 
+    @Transactional(readOnly = true)
     public UserInfo getUserInfo(Long userId) {
         Optional<UsersInfo> userInfo = userInfoRepository.findByUsersId(userId);
 
@@ -316,8 +342,20 @@ public class UserService {
         userInfo.get().getUsers().setTelephone(userInfoDto.getTelephone());
         userInfo.get().setAddress(userInfoDto.getAddress());
         userInfo.get().setAddressDetail(userInfoDto.getAddressDetail());
+        //변경 시각은 다른 서버의 중복확인 필터 동기화용
+        if (!userInfoDto.getNickname().equals(userInfo.get().getNickname())) {
+            userInfo.get().setNicknameUpdatedAt(LocalDateTime.now());
+        }
         userInfo.get().setNickname(userInfoDto.getNickname());
+        duplicateCheckFilter.add(Namespace.NICKNAME, userInfoDto.getNickname());
 
         return "회원정보 수정 되었습니다!";
     }
+
+    // 회원 정보 변경 후 access token 재발급 - 인증 정보는 claim 으로 만들어지므로 바뀐 userName 을 새 토큰에 담아야 함
+    @Transactional(readOnly = true)
+    public String reissueAccessToken(Long userId) {
+        User user = userRepository.findUserById(userId);
+        return jwtUtil.createToken(new UserDetailsImpl(user), "Access");
+    }
 }
@@ -21,7 +21,11 @@ public enum UserErrorCode {
     NOT_EQUL_PASSWORD("기존의 비밀번호와 일치하지 않습니다.",HttpStatus.BAD_REQUEST),
 
     //status(HttpStatus.UNAUTHORIZED) 401
-    AUTHENTICATION_FAIL("인증에 실패하였습니다.",HttpStatus.UNAUTHORIZED);
+    AUTHENTICATION_FAIL("인증에 실패하였습니다.",HttpStatus.UNAUTHORIZED),
+
+    //status(HttpStatus.SERVICE_UNAVAILABLE) 503
+    LOGIN_OVERLOADED("로그인 요청이 많습니다. 잠시 후 다시 시도해주세요.",HttpStatus.SERVICE_UNAVAILABLE),
+    KAKAO_UNAVAILABLE("카카오 로그인이 지연되고 있습니다. 잠시 후 다시 시도해주세요.",HttpStatus.SERVICE_UNAVAILABLE);
 
     private final String description;
     private final HttpStatus httpStatus;
@@ -0,0 +1,161 @@
+package com.github.commerce.service.user.util;
+
+import com.github.commerce.repository.user.SellerRepository;
+import com.github.commerce.repository.user.UserInfoRepository;
+import com.github.commerce.repository.user.UserRepository;
+import com.github.commerce.web.dto.user.UserRegisteredEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * 이메일 / 닉네임 / 쇼핑몰 이름 중복확인용 메모리 필터 (namespace 별 Bloom filter).
+ * mightExist 가 false 면 "확실히 사용 가능"으로 DB 조회 없이 답하고, true 일 때만 DB 로 정확히 확인합니다.
+ * 기동 후 테이블을 stream 으로 읽어 채우고(그 전에는 항상 DB 확인), 이 서버의 가입/수정은 바로 반영하며,
+ * 다른 서버의 가입과 닉네임/쇼핑몰 이름 변경은 SYNC_INTERVAL 마다 가입일/변경일 기준으로 가져옵니다.
+ * Bloom filter 는 삭제가 안 되므로 탈퇴/변경으로 비워진 값은 DB 확인으로 걸러지고, REBUILD_INTERVAL 마다 새로 만들어 정리합니다.
+ * 동기화 전까지는 다른 서버의 값이 빠져 있을 수 있으므로 가입/수정 시의 중복확인은 DB 로 합니다.
+ */
+@Slf4j
+@Component
+public class DuplicateCheckFilter {
+
+    public enum Namespace { EMAIL, NICKNAME, SHOP_NAME }
+
+    private static final long SYNC_INTERVAL = 30 * 1000L; //30초
+    private static final long REBUILD_INTERVAL = 30 * 60 * 1000L; //30분
+    private static final long SYNC_OVERLAP_SECONDS = 5; //서버간 시간차/커밋 지연 보정
+    private static final long MIN_EXPECTED_INSERTIONS = 100000;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    private static final LocalDateTime LOAD_START = LocalDateTime.of(2000, 1, 1, 0, 0);
+
+    private final UserRepository userRepository;
+    private final UserInfoRepository userInfoRepository;
+    private final SellerRepository sellerRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private volatile Map<Namespace, BloomFilter> filters; //null 이면 아직 적재 전
+    private volatile Map<Namespace, BloomFilter> building; //rebuild 중 들어온 값도 새 필터에 넣기 위함
+    private volatile LocalDateTime lastSyncedAt = LOAD_START;
+
+    public DuplicateCheckFilter(UserRepository userRepository, UserInfoRepository userInfoRepository,
+                                SellerRepository sellerRepository, PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.userInfoRepository = userInfoRepository;
+        this.sellerRepository = sellerRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    // false 면 확실히 없음, true 면 DB 확인 필요
+    public boolean mightExist(Namespace namespace, String value) {
+        Map<Namespace, BloomFilter> current = filters;
+        return value == null || current == null || current.get(namespace).mightContain(normalize(value));
+    }
+
+    public void add(Namespace namespace, String value) {
+        if (value == null) {
+            return;
+        }
+        String normalized = normalize(value);
+        Map<Namespace, BloomFilter> current = filters;
+        Map<Namespace, BloomFilter> next = building;
+        if (current != null) {
+            current.get(namespace).put(normalized);
+        }
+        if (next != null) {
+            next.get(namespace).put(normalized);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserRegistered(UserRegisteredEvent event) {
+        add(Namespace.EMAIL, event.getEmail());
+        add(Namespace.NICKNAME, event.getNickname());
+        add(Namespace.SHOP_NAME, event.getShopName());
+    }
+
+    // 기동을 늦추지 않도록 백그라운드에서 적재
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelay = REBUILD_INTERVAL, initialDelay = REBUILD_INTERVAL)
+    public synchronized void rebuild() {
+        long start = System.currentTimeMillis();
+        LocalDateTime startedAt = LocalDateTime.now();
+        long expectedInsertions = Math.max(MIN_EXPECTED_INSERTIONS, userRepository.count() * 2);
+        Map<Namespace, BloomFilter> next = new EnumMap<>(Namespace.class);
+        for (Namespace namespace : Namespace.values()) {
+            next.put(namespace, new BloomFilter(expectedInsertions, FALSE_POSITIVE_RATE));
+        }
+        building = next;
+        try {
+            load(next, LOAD_START);
+            filters = next;
+            lastSyncedAt = startedAt;
+            log.info("중복확인 필터 적재 완료 : {}ms", System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.warn("중복확인 필터 적재 실패, 기존 필터(또는 DB 확인) 유지 : {}", e.getMessage());
+        } finally {
+            building = null;
+        }
+    }
+
+    // 다른 서버에서 가입한 회원 / 변경한 닉네임, 쇼핑몰 이름 반영
+    @Scheduled(fixedDelay = SYNC_INTERVAL)
+    public synchronized void syncFromOtherNodes() {
+        Map<Namespace, BloomFilter> current = filters;
+        if (current == null) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            LocalDateTime since = lastSyncedAt.minusSeconds(SYNC_OVERLAP_SECONDS);
+            load(current, since);
+            load(current.get(Namespace.NICKNAME), userInfoRepository::streamNicknamesChangedSince, since);
+            load(current.get(Namespace.SHOP_NAME), sellerRepository::streamShopNamesChangedSince, since);
+            lastSyncedAt = now;
+        } catch (Exception e) {
+            log.warn("중복확인 필터 동기화 실패 : {}", e.getMessage());
+        }
+    }
+
+    private void load(Map<Namespace, BloomFilter> target, LocalDateTime since) {
+        load(target.get(Namespace.EMAIL), userRepository::streamActiveEmails, since);
+        load(target.get(Namespace.NICKNAME), userInfoRepository::streamActiveNicknames, since);
+        load(target.get(Namespace.SHOP_NAME), sellerRepository::streamActiveShopNames, since);
+    }
+
+    // stream 은 트랜잭션 안에서만 읽을 수 있음 (readOnly 라 replica 에서 읽음)
+    // 행 단위 스트리밍 중에는 같은 커넥션으로 다른 쿼리를 실행할 수 없으므로 다 읽고 닫은 뒤 다음 조회
+    private void load(BloomFilter filter, Function<LocalDateTime, Stream<String>> query, LocalDateTime since) {
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<String> values = query.apply(since)) {
+                values.filter(value -> value != null)
+                        .forEach(value -> filter.put(normalize(value)));
+            }
+        });
+    }
+
+    // MySQL 기본 collation 은 대소문자를 구분하지 않으므로 소문자로 넣고 확인 (구분하더라도 DB 확인이 늘 뿐)
+    private static String normalize(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,105 @@
+package com.github.commerce.service.user.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.commerce.config.http.OutboundHttpClient;
+import com.github.commerce.service.user.exception.UserErrorCode;
+import com.github.commerce.service.user.exception.UserException;
+import com.github.commerce.web.dto.user.KakaoUserInfoDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 카카오 OAuth API (토큰 발급, 사용자 정보 조회) 비동기 client.
+ * 응답을 받지 못했거나(circuit open, timeout 등) 카카오가 5xx 를 주면 KAKAO_UNAVAILABLE(503),
+ * 인가 코드/토큰이 잘못되어 4xx 를 주면 LOGIN_FAIL(400) 로 완료됩니다.
+ */
+@Slf4j
+@Component
+public class KakaoOAuthClient {
+
+    private final OutboundHttpClient outboundHttpClient;
+    private final ObjectMapper objectMapper;
+    private final String authUri;
+    private final String apiUri;
+    private final String clientId;
+    private final String redirectUri;
+
+    public KakaoOAuthClient(OutboundHttpClient outboundHttpClient, ObjectMapper objectMapper,
+                            @Value("${kakao.auth-uri:https://kauth.kakao.com}") String authUri,
+                            @Value("${kakao.api-uri:https://kapi.kakao.com}") String apiUri,
+                            @Value("${kakao.client-id:2b71aceca0732b8f9db4295e0f78276f}") String clientId,
+                            @Value("${kakao.redirect-uri:https://fe-4commerce.vercel.app/v1/api/user/kakao/callback}") String redirectUri) {
+        this.outboundHttpClient = outboundHttpClient;
+        this.objectMapper = objectMapper;
+        this.authUri = authUri;
+        this.apiUri = apiUri;
+        this.clientId = clientId;
+        this.redirectUri = redirectUri;
+    }
+
+    public CompletableFuture<String> getToken(String code) {
+        String body = "grant_type=authorization_code"
+                + "&client_id=" + encode(clientId)
+                + "&redirect_uri=" + encode(redirectUri)
+                + "&code=" + encode(code);
+
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(authUri + "/oauth/token"))
+                .header("Content-type", "application/x-www-form-urlencoded;charset=utf-8")
+                .POST(HttpRequest.BodyPublishers.ofString(body));
+
+        return send(request).thenApply(jsonNode -> jsonNode.get("access_token").asText());
+    }
+
+    public CompletableFuture<KakaoUserInfoDto> getUserInfo(String accessToken) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(apiUri + "/v2/user/me"))
+                .header("Authorization", "Bearer " + accessToken)
+                .header("Content-type", "application/x-www-form-urlencoded;charset=utf-8")
+                .POST(HttpRequest.BodyPublishers.noBody());
+
+        return send(request).thenApply(jsonNode -> new KakaoUserInfoDto(
+                jsonNode.get("id").asLong(),
+                jsonNode.get("properties").get("nickname").asText(),
+                jsonNode.get("kakao_account").get("email").asText()
+        ));
+    }
+
+    private CompletableFuture<JsonNode> send(HttpRequest.Builder request) {
+        return outboundHttpClient.send(request)
+                .handle((response, e) -> {
+                    if (e != null) {
+                        throw new UserException(UserErrorCode.KAKAO_UNAVAILABLE);
+                    }
+                    return readBody(response);
+                });
+    }
+
+    private JsonNode readBody(HttpResponse<String> response) {
+        if (response.statusCode() >= 500) {
+            throw new UserException(UserErrorCode.KAKAO_UNAVAILABLE);
+        }
+        if (response.statusCode() >= 400) {
+            log.warn("카카오 API 요청 실패 {} : {}", response.statusCode(), response.body());
+            throw new UserException(UserErrorCode.LOGIN_FAIL);
+        }
+        try {
+            return objectMapper.readTree(response.body());
+        } catch (IOException e) {
+            log.warn("카카오 API 응답 파싱 실패 : {}", e.getMessage());
+            throw new UserException(UserErrorCode.KAKAO_UNAVAILABLE);
+        }
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
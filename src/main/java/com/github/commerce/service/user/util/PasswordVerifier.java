@@ -0,0 +1,95 @@
+package com.github.commerce.service.user.util;
+
+import com.github.commerce.service.user.exception.UserErrorCode;
+import com.github.commerce.service.user.exception.UserException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 로그인 비밀번호(BCrypt) 검증 전용 풀.
+ * 스레드 수를 CPU 코어 수로 제한해 로그인이 몰려도 다른 API 의 CPU 를 잠식하지 않게 하고,
+ * 대기열(queue-capacity)이 가득 차면 기다리지 않고 바로 LOGIN_OVERLOADED(503)로 거절합니다.
+ */
+@Slf4j
+@Component
+public class PasswordVerifier implements DisposableBean {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+    private final Counter rejectedCounter;
+    // 없는 계정도 같은 시간이 걸리도록 비교할 해시 (계정 존재 여부 노출 방지)
+    private final String dummyHash;
+
+    public PasswordVerifier(PasswordEncoder passwordEncoder, MeterRegistry meterRegistry,
+                            @Value("${login.password-pool.threads:0}") int threads,
+                            @Value("${login.password-pool.queue-capacity:32}") int queueCapacity,
+                            @Value("${login.password-pool.timeout-millis:5000}") long timeoutMillis) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.passwordEncoder = passwordEncoder;
+        this.timeoutMillis = timeoutMillis;
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("password-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.dummyHash = passwordEncoder.encode(UUID.randomUUID().toString());
+
+        Gauge.builder("login.password.queue", executor, pool -> pool.getQueue().size())
+                .register(meterRegistry);
+        Gauge.builder("login.password.active", executor, ThreadPoolExecutor::getActiveCount)
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("login.password.rejected")
+                .register(meterRegistry);
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        Future<Boolean> result;
+        try {
+            result = executor.submit(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new UserException(UserErrorCode.LOGIN_OVERLOADED);
+        }
+
+        try {
+            return result.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            result.cancel(true);
+            rejectedCounter.increment();
+            throw new UserException(UserErrorCode.LOGIN_OVERLOADED);
+        } catch (InterruptedException e) {
+            result.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new UserException(UserErrorCode.LOGIN_OVERLOADED);
+        } catch (ExecutionException e) {
+            log.warn("비밀번호 검증 실패 : {}", e.getCause().getMessage());
+            return false;
+        }
+    }
+
+    // 계정이 없거나 탈퇴한 경우에도 해시 비교 한 번 (결과는 항상 false)
+    public boolean matchesNothing(String rawPassword) {
+        matches(rawPassword, dummyHash);
+        return false;
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
@@ -1,5 +1,9 @@
 package com.github.commerce.web.advice;
 
+import com.github.commerce.service.admin.exception.AdminErrorResponse;
+import com.github.commerce.service.admin.exception.AdminException;
+import com.github.commerce.service.analytics.exception.AnalyticsErrorResponse;
+import com.github.commerce.service.analytics.exception.AnalyticsException;
 import com.github.commerce.service.cart.exception.CartErrorResponse;
 import com.github.commerce.service.cart.exception.CartException;
 import com.github.commerce.service.chat.exception.ChatErrorResponse;
@@ -130,4 +134,22 @@ public class GlobalExceptionHandler {
                         .errorMessage(e.getErrorMessage())
                         .build());
     }
+
+    @ExceptionHandler(AdminException.class)
+    public ResponseEntity<?> handleAdminException(AdminException e){
+        return ResponseEntity.status(e.getErrorCode().getHttpStatus())
+                .body(AdminErrorResponse.builder()
+                        .errorCode(e.getErrorCode())
+                        .errorMessage(e.getErrorMessage())
+                        .build());
+    }
+
+    @ExceptionHandler(AnalyticsException.class)
+    public ResponseEntity<?> handleAnalyticsException(AnalyticsException e){
+        return ResponseEntity.status(e.getErrorCode().getHttpStatus())
+                .body(AnalyticsErrorResponse.builder()
+                        .errorCode(e.getErrorCode())
+                        .errorMessage(e.getErrorMessage())
+                        .build());
+    }
 }
@@ -7,6 +7,7 @@ import lombok.Getter;
 @AllArgsConstructor
 public enum ErrorCode {
 
-    BAD_REQUEST("입력 값을 확인해 주세요.");
+    BAD_REQUEST("입력 값을 확인해 주세요."),
+    TOO_MANY_REQUESTS("요청이 너무 많습니다. 잠시 후 다시 시도해 주세요.");
     private final String description;
 }
@@ -0,0 +1,42 @@
+package com.github.commerce.web.controller.admin;
+
+import com.github.commerce.service.admin.SalesBackfillService;
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiResponse;
+import io.swagger.annotations.ApiResponses;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+@Api(tags = "관리자 판매 집계 API")
+@Slf4j
+@RequiredArgsConstructor
+@RequestMapping("/v1/api/admin/analytics")
+@RestController
+public class AnalyticsAdminController {
+    private final SalesBackfillService salesBackfillService;
+
+    /**
+     * 판매 집계 backfill (주문 테이블 기준으로 일자별 집계를 다시 만듦)
+     * @param from 시작일 (선택, 없으면 첫 결제완료 주문일)
+     * @param to 종료일 (선택, 없으면 오늘)
+     * @return
+     */
+    @ApiOperation(value = "판매 집계 backfill 실행, 관리자 권한 필요")
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Success", response = String.class),
+            @ApiResponse(code = 400, message = "Bad Request")
+    })
+    @PostMapping("/backfill")
+    public ResponseEntity<String> backfill(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ){
+        return ResponseEntity.ok(salesBackfillService.startBackfill(from, to));
+    }
+}
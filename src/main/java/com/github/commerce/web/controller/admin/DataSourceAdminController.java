@@ -0,0 +1,73 @@
+package com.github.commerce.web.controller.admin;
+
+import com.github.commerce.service.admin.ReplicaPoolService;
+import com.github.commerce.web.dto.admin.PostReplicaPoolDto;
+import com.github.commerce.web.dto.admin.ReplicaPoolDto;
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiResponse;
+import io.swagger.annotations.ApiResponses;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@Api(tags = "관리자 DB 커넥션 풀 API")
+@Slf4j
+@RequiredArgsConstructor
+@RequestMapping("/v1/api/admin/datasource")
+@RestController
+public class DataSourceAdminController {
+    private final ReplicaPoolService replicaPoolService;
+
+    /**
+     * master/replica 풀 상태 조회
+     * @return 풀별 health, 복제 지연, active/idle/pending 커넥션 수, 커넥션 획득 시간
+     */
+    @ApiOperation(value = "커넥션 풀 상태 조회, 관리자 권한 필요")
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Success", response = List.class),
+            @ApiResponse(code = 403, message = "Forbidden")
+    })
+    @GetMapping("/pools")
+    public ResponseEntity<List<ReplicaPoolDto>> getPools(){
+        return ResponseEntity.ok(replicaPoolService.getPools());
+    }
+
+    /**
+     * replica 풀 추가
+     * @param request 풀 이름, jdbcUrl, (선택) 최대 커넥션 수
+     * @return 추가된 풀 상태
+     */
+    @ApiOperation(value = "replica 풀 추가, 관리자 권한 필요")
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Success", response = ReplicaPoolDto.class),
+            @ApiResponse(code = 400, message = "Bad Request"),
+            @ApiResponse(code = 409, message = "Conflict")
+    })
+    @PostMapping("/pools")
+    public ResponseEntity<ReplicaPoolDto> addPool(
+            @RequestBody PostReplicaPoolDto.PostReplicaPoolRequest request
+    ){
+        return ResponseEntity.ok(replicaPoolService.addPool(request));
+    }
+
+    /**
+     * replica 풀 drain
+     * @param name 풀 이름
+     * @return
+     */
+    @ApiOperation(value = "replica 풀 drain, 관리자 권한 필요")
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Success", response = String.class),
+            @ApiResponse(code = 404, message = "Not Found")
+    })
+    @DeleteMapping("/pools/{name}")
+    public ResponseEntity<String> drainPool(
+            @PathVariable String name
+    ){
+        return ResponseEntity.ok(replicaPoolService.drainPool(name));
+    }
+}
@@ -0,0 +1,76 @@
+package com.github.commerce.web.controller.analytics;
+
+import com.github.commerce.repository.user.UserDetailsImpl;
+import com.github.commerce.service.analytics.SellerAnalyticsService;
+import com.github.commerce.web.dto.analytics.SalesTimeSeriesDto;
+import com.github.commerce.web.dto.analytics.TopProductDto;
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiResponse;
+import io.swagger.annotations.ApiResponses;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Api(tags = "판매자 판매 분석 API")
+@Slf4j
+@RequiredArgsConstructor
+@RequestMapping("/v1/api/analytics/seller")
+@RestController
+public class SellerAnalyticsController {
+    private final SellerAnalyticsService sellerAnalyticsService;
+
+    /**
+     * 일자별 판매 추이
+     * @param from 시작일 (선택, 기본 to 기준 최근 30일)
+     * @param to 종료일 (선택, 기본 오늘)
+     * @param productId 특정 상품만 (선택)
+     * @return 일자별 판매수량, 매출, 주문수
+     */
+    @ApiOperation(value = "판매자 일자별 판매 추이 조회, 로그인필요")
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Success", response = List.class),
+            @ApiResponse(code = 400, message = "Bad Request"),
+            @ApiResponse(code = 403, message = "Forbidden")
+    })
+    @GetMapping("/sales")
+    public ResponseEntity<List<SalesTimeSeriesDto>> getSalesTimeSeries(
+            @AuthenticationPrincipal UserDetailsImpl userDetails,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Long productId
+    ){
+        Long userId = userDetails.getId();
+        return ResponseEntity.ok(sellerAnalyticsService.getSalesTimeSeries(userId, from, to, productId));
+    }
+
+    /**
+     * 매출 상위 상품
+     * @param from 시작일 (선택, 기본 to 기준 최근 30일)
+     * @param to 종료일 (선택, 기본 오늘)
+     * @param limit 개수 (선택, 기본 10, 최대 100)
+     * @return 상품별 판매수량, 매출, 주문수
+     */
+    @ApiOperation(value = "판매자 매출 상위 상품 조회, 로그인필요")
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Success", response = List.class),
+            @ApiResponse(code = 400, message = "Bad Request"),
+            @ApiResponse(code = 403, message = "Forbidden")
+    })
+    @GetMapping("/top-products")
+    public ResponseEntity<List<TopProductDto>> getTopProducts(
+            @AuthenticationPrincipal UserDetailsImpl userDetails,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Integer limit
+    ){
+        Long userId = userDetails.getId();
+        return ResponseEntity.ok(sellerAnalyticsService.getTopProducts(userId, from, to, limit));
+    }
+}
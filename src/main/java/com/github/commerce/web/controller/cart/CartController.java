@@ -43,7 +43,7 @@ public class CartController {
             @AuthenticationPrincipal UserDetailsImpl userDetails,
             @RequestParam(required = false) Long cursorId
     ){
-        Long userId = userDetails.getUser().getId();
+        Long userId = userDetails.getId();
 
         if(cursorId == null){
             return ResponseEntity.ok(
@@ -73,7 +73,7 @@ public class CartController {
             @AuthenticationPrincipal UserDetailsImpl userDetails,
             @RequestBody List<PostCartDto.PostCartRequest> request
             ){
-        Long userId = userDetails.getUser().getId();
+        Long userId = userDetails.getId();
         return ResponseEntity.ok(
                 //PostCartDto.Response.from(cartService.addToCart(request, userId))
                 cartService.addToCart(request, userId)
@@ -95,7 +95,7 @@ public class CartController {
             @AuthenticationPrincipal UserDetailsImpl userDetails,
             @RequestBody List<PutCartDto.PutCartRequest> requestList
             ){
-        Long userId = userDetails.getUser().getId();
+        Long userId = userDetails.getId();
         return ResponseEntity.ok(cartService.modifyCart(requestList, userId));
     }
 
@@ -112,7 +112,7 @@ public class CartController {
     public ResponseEntity<String> deleteAll(
             @AuthenticationPrincipal UserDetailsImpl userDetails
     ){
-        Long userId = userDetails.getUser().getId();
+        Long userId = userDetails.getId();
         return ResponseEntity.ok(cartService.deleteAll(userId));
     }
 
@@ -130,7 +130,7 @@ public class CartController {
             @AuthenticationPrincipal UserDetailsImpl userDetails,
             @PathVariable Long cartId
     ){
-        Long userId = userDetails.getUser().getId();
+        Long userId = userDetails.getId();
         return ResponseEntity.ok(cartService.deleteOne(cartId, userId));
     }
 
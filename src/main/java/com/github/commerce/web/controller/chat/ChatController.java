@@ -37,7 +37,7 @@ public class ChatController {
             @PathVariable("sellerId") Long sellerId
 
     ){
-        Long userId = userDetails.getUser().getId();
+        Long userId = userDetails.getId();
         return ResponseEntity.ok(chatService.getUserChatList(userId, sellerId));
     }
 
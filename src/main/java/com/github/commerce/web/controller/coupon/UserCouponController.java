@@ -24,21 +24,21 @@ public class UserCouponController {
     @ApiOperation("구매자가 본인이 갖고 있는 쿠폰 목록 조회")
     @GetMapping
     public ResponseEntity<List<UsersCouponResponseDto>> getMyCouponList(@AuthenticationPrincipal UserDetailsImpl userDetails){
-        return ResponseEntity.ok(userCouponService.getMyCouponList(userDetails.getUser().getId()));
+        return ResponseEntity.ok(userCouponService.getMyCouponList(userDetails.getId()));
     }
 
     //쿠폰 발급
     @ApiOperation("구매자가 본인이 쓸 쿠폰 발급")
     @PostMapping("/issue")
     public ResponseEntity<UsersCouponResponseDto> issueCoupon(@AuthenticationPrincipal UserDetailsImpl userDetails, @RequestParam("couponId") Long couponId){
-        return ResponseEntity.ok(userCouponService.issueUserCoupon(userDetails.getUser().getId(), couponId));
+        return ResponseEntity.ok(userCouponService.issueUserCoupon(userDetails.getId(), couponId));
     }
 
     //쿠폰 사용 완료
     @ApiOperation("구매자가 본인이 갖고 있는 쿠폰 사용 완료")
     @PatchMapping("/used")
     public ResponseEntity<UsersCouponResponseDto> usedCoupon(@AuthenticationPrincipal UserDetailsImpl userDetails, @RequestParam("couponId") Long couponId){
-        return ResponseEntity.ok(userCouponService.usedUserCoupon(userDetails.getUser().getId(), couponId));
+        return ResponseEntity.ok(userCouponService.usedUserCoupon(userDetails.getId(), couponId));
     }
 
 }
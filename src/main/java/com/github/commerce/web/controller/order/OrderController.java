@@ -9,11 +9,15 @@ import io.swagger.annotations.ApiResponse;
 import io.swagger.annotations.ApiResponses;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 
@@ -40,7 +44,7 @@ public class  OrderController {
             @AuthenticationPrincipal UserDetailsImpl userDetails,
             @RequestBody List<PostOrderDto.PostOrderRequest> postOrderRequestList
             ){
-        Long userId = userDetails.getUser().getId();
+        Long userId = userDetails.getId();
         return ResponseEntity.ok(orderService.createOrder(postOrderRequestList, userId));
     }
 
@@ -60,7 +64,7 @@ public class  OrderController {
             //@PathVariable Long cartId
             @RequestBody PostOrderDto.PostOrderRequestFromCart request
     ){
-        Long userId = userDetails.getUser().getId();
+        Long userId = userDetails.getId();
         return ResponseEntity.ok(orderService.createOrderFromCart(request.getCartIdList(), userId));
     }
 
@@ -79,7 +83,7 @@ public class  OrderController {
             @AuthenticationPrincipal UserDetailsImpl userDetails,
             @RequestParam(required = false) Long cursorId
     ){
-        Long userId = userDetails.getUser().getId();
+        Long userId = userDetails.getId();
 
         if(cursorId == null){
             return ResponseEntity.ok(
@@ -107,7 +111,7 @@ public class  OrderController {
             @AuthenticationPrincipal UserDetailsImpl userDetails,
             @PathVariable String orderTag
     ){
-        Long userId = userDetails.getUser().getId();
+        Long userId = userDetails.getId();
 
             return ResponseEntity.ok(
                     orderService.getOrderListFromCart(userId, orderTag)
@@ -130,7 +134,7 @@ public class  OrderController {
             @AuthenticationPrincipal UserDetailsImpl userDetails,
             @PathVariable Long productId
     ){
-        Long userId = userDetails.getUser().getId();
+        Long userId = userDetails.getId();
 
         return ResponseEntity.ok(
                 orderService.getOrderListFromProduct(userId, productId)
@@ -147,11 +151,11 @@ public class  OrderController {
     public ResponseEntity<List<Map<LocalDate, List<OrderDto>>>> getPurchasedOrder(
             @AuthenticationPrincipal UserDetailsImpl userDetails
     ){
-        Long userId = userDetails.getUser().getId();
+        Long userId = userDetails.getId();
         return ResponseEntity.ok(orderService.getPurchasedOrderList(userId));
     }
 
-    @ApiOperation(value = "판매자의 판매내역 조회, 로그인필요")
+    @ApiOperation(value = "Deprecated: 판매자의 판매내역 전체 조회 (/seller/feed 사용), 로그인필요")
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "Success", response = List.class),
             @ApiResponse(code = 400, message = "Bad Request")
@@ -160,10 +164,45 @@ public class  OrderController {
     public ResponseEntity<List<Map<LocalDate, List<OrderDto>>>> getSellerOrder(
             @AuthenticationPrincipal UserDetailsImpl userDetails
     ){
-        Long userId = userDetails.getUser().getId();
+        Long userId = userDetails.getId();
         return ResponseEntity.ok(orderService.getSellerOrderList(userId));
     }
 
+    /**
+     * 판매자의 판매내역 피드 (최신순, 날짜별 그룹)
+     * @param startDate 조회 시작일 (선택)
+     * @param endDate 조회 종료일, 당일 포함 (선택)
+     * @param orderState 2 결제완료 ~ 5 배송완료 중 하나 (선택, 없으면 전체)
+     * @param cursorCreatedAt 이전 응답의 nextCursorCreatedAt (첫 페이지면 생략)
+     * @param cursorId 이전 응답의 nextCursorId (첫 페이지면 생략)
+     * @param size 페이지 크기 (기본 50, 최대 200)
+     * @return {"groups":[{"date","orders":[...]}], "hasNext", "nextCursorCreatedAt", "nextCursorId"}
+     */
+    @ApiOperation(value = "판매자의 판매내역 피드 조회 (커서 페이징), 로그인필요")
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Success"),
+            @ApiResponse(code = 400, message = "Bad Request"),
+            @ApiResponse(code = 403, message = "Forbidden")
+    })
+    @GetMapping("/seller/feed")
+    public ResponseEntity<StreamingResponseBody> getSellerOrderFeed(
+            @AuthenticationPrincipal UserDetailsImpl userDetails,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) Integer orderState,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorCreatedAt,
+            @RequestParam(required = false) Long cursorId,
+            @RequestParam(required = false) Integer size
+    ){
+        Long userId = userDetails.getId();
+        SellerOrderFeedDto.Request request = orderService.getSellerOrderFeedRequest(
+                userId, startDate, endDate, orderState, cursorCreatedAt, cursorId, size);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(outputStream -> orderService.writeSellerOrderFeed(request, outputStream));
+    }
+
 //    @ApiOperation(value = "Deprecated: 개별주문 상세조회, 로그인필요")
 //    @ApiResponses(value = {
 //            @ApiResponse(code = 200, message = "Success", response = OrderDto.class),
@@ -174,7 +213,7 @@ public class  OrderController {
 //            @AuthenticationPrincipal UserDetailsImpl userDetails,
 //            @PathVariable Long orderId
 //    ){
-//        Long userId = userDetails.getUser().getId();
+//        Long userId = userDetails.getId();
 //
 //        return ResponseEntity.ok(
 //                orderService.getOrder(orderId, userId)
@@ -196,7 +235,7 @@ public class  OrderController {
 //            @AuthenticationPrincipal UserDetailsImpl userDetails,
 //            @RequestBody PutOrderDto.PutOrderRequest putOrderRequest
 //    ){
-//        Long userId = userDetails.getUser().getId();
+//        Long userId = userDetails.getId();
 //        return ResponseEntity.ok(orderService.modifyOrder(putOrderRequest, userId));
 //    }
 
@@ -215,7 +254,7 @@ public class  OrderController {
             @AuthenticationPrincipal UserDetailsImpl userDetails,
             @PathVariable Long orderId
     ){
-        Long userId = userDetails.getUser().getId();
+        Long userId = userDetails.getId();
         return ResponseEntity.ok(orderService.deleteOne(orderId, userId));
     }
 
@@ -1,38 +1,166 @@
-//package com.github.commerce.web.controller.order;
-//
-//
-//import lombok.extern.slf4j.Slf4j;
-//import org.springframework.stereotype.Component;
-//import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
-//
-//import java.util.List;
-//import java.util.concurrent.CopyOnWriteArrayList;
-//
-//@Component
-//@Slf4j
-//public class SseEmitters {
-//
-//    /**
-//     * 주의할 점은 이 콜백이 SseEmitter를 관리하는 다른 스레드에서 실행된다는 것입니다.
-//     * 따라서 thread-safe한 자료구조를 사용하지 않으면 ConcurrnetModificationException이 발생할 수 있습니다.
-//     * 여기서는 thread-safe한 자료구조인 CopyOnWriteArrayList를 사용하였습니다.
-//     *
-//     */
-//    private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
-//
-//    SseEmitter add(SseEmitter emitter) {
-//        this.emitters.add(emitter);
-//        log.info("new emitter added: {}", emitter);
-//        log.info("emitter list size: {}", emitters.size());
-//        emitter.onCompletion(() -> {
-//            log.info("onCompletion callback");
-//            this.emitters.remove(emitter);    // 만료되면 리스트에서 삭제
-//        });
-//        emitter.onTimeout(() -> {
-//            log.info("onTimeout callback");
-//            emitter.complete();
-//        });
-//
-//        return emitter;
-//    }
-//}
+package com.github.commerce.web.controller.order;
+
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Component
+@Slf4j
+public class SseEmitters {
+
+    private static final long EMITTER_TIMEOUT = 30 * 60 * 1000L; //30분
+    private static final long HEARTBEAT_INTERVAL = 30 * 1000L; //30초
+    private static final int MAX_EMITTERS_PER_USER = 5; //한 유저가 동시에 열 수 있는 연결 수(탭 등)
+    private static final int SEND_QUEUE_CAPACITY = 100; //연결당 전송 대기 이벤트 수
+
+    /**
+     * 주의할 점은 이 콜백이 SseEmitter를 관리하는 다른 스레드에서 실행된다는 것입니다.
+     * 따라서 thread-safe한 자료구조를 사용하지 않으면 ConcurrnetModificationException이 발생할 수 있습니다.
+     * 유저 id -> 연결 목록으로 관리하고, 목록은 thread-safe한 CopyOnWriteArrayList를 사용하였습니다.
+     */
+    private final Map<Long, List<QueuedEmitter>> emitters = new ConcurrentHashMap<>();
+
+    //실제 전송은 요청/트랜잭션 스레드가 아닌 전용 스레드에서 처리
+    private final ExecutorService sendExecutor = Executors.newFixedThreadPool(2, new CustomizableThreadFactory("SSE-"));
+
+    SseEmitter add(Long userId) {
+        SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT);
+        QueuedEmitter queuedEmitter = new QueuedEmitter(userId, emitter);
+
+        List<QueuedEmitter> userEmitters = emitters.compute(userId, (key, list) -> {
+            if (list == null) {
+                list = new CopyOnWriteArrayList<>();
+            }
+            list.add(queuedEmitter);
+            return list;
+        });
+        // 연결 수 상한을 넘으면 가장 오래된 연결부터 종료
+        while (userEmitters.size() > MAX_EMITTERS_PER_USER) {
+            QueuedEmitter oldest = userEmitters.get(0);
+            remove(oldest);
+            oldest.close();
+        }
+
+        emitter.onCompletion(() -> remove(queuedEmitter));    // 만료되면 목록에서 삭제
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> remove(queuedEmitter));
+
+        queuedEmitter.enqueue(SseEmitter.event()
+                .name("connect")
+                .data("connected!"));
+        log.info("new emitter added: userId={}, connections={}", userId, emitters.getOrDefault(userId, List.of()).size());
+        return emitter;
+    }
+
+    // 해당 유저의 모든 연결로 이벤트 전송(연결이 없으면 무시)
+    public void send(Long userId, String eventName, Object data) {
+        List<QueuedEmitter> list = emitters.get(userId);
+        if (list == null) {
+            return;
+        }
+        list.forEach(queuedEmitter -> queuedEmitter.enqueue(SseEmitter.event()
+                .name(eventName)
+                .data(data)));
+    }
+
+    // 프록시/로드밸런서의 idle timeout 으로 연결이 끊기지 않도록 주기적으로 comment 전송
+    @Scheduled(fixedRate = HEARTBEAT_INTERVAL)
+    public void heartbeat() {
+        emitters.values().forEach(list -> list.forEach(queuedEmitter ->
+                queuedEmitter.enqueue(SseEmitter.event().comment("heartbeat"))));
+    }
+
+    public int countConnections() {
+        return emitters.values().stream().mapToInt(List::size).sum();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        emitters.values().forEach(list -> list.forEach(QueuedEmitter::close));
+        emitters.clear();
+        sendExecutor.shutdown();
+    }
+
+    private void remove(QueuedEmitter queuedEmitter) {
+        queuedEmitter.closed.set(true);
+        emitters.computeIfPresent(queuedEmitter.userId, (key, list) -> {
+            list.remove(queuedEmitter);
+            return list.isEmpty() ? null : list;
+        });
+    }
+
+    /**
+     * 연결마다 크기가 제한된 전송 큐를 둡니다.
+     * 느린 클라이언트 때문에 큐가 가득 차면 가장 오래된 이벤트를 버리고 최신 이벤트를 유지합니다.
+     * 한 연결에 대해서는 동시에 하나의 스레드만 전송하도록 draining 플래그로 제어합니다.
+     */
+    private class QueuedEmitter {
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> queue = new ArrayBlockingQueue<>(SEND_QUEUE_CAPACITY);
+        private final AtomicBoolean draining = new AtomicBoolean(false);
+        private final AtomicBoolean closed = new AtomicBoolean(false);
+
+        private QueuedEmitter(Long userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+        }
+
+        private void enqueue(SseEmitter.SseEventBuilder event) {
+            if (closed.get()) {
+                return;
+            }
+            while (!queue.offer(event)) {
+                if (queue.poll() != null) {
+                    log.debug("sse queue full, dropped oldest event: userId={}", userId);
+                }
+            }
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (!closed.get() && draining.compareAndSet(false, true)) {
+                try {
+                    sendExecutor.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    draining.set(false);
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                SseEmitter.SseEventBuilder event;
+                while (!closed.get() && (event = queue.poll()) != null) {
+                    emitter.send(event);
+                }
+            } catch (IOException | IllegalStateException e) {
+                log.debug("sse send failed, removing emitter: userId={}", userId);
+                remove(this);
+                queue.clear();
+            } finally {
+                draining.set(false);
+            }
+            // drain 종료 직후 들어온 이벤트 처리
+            if (!closed.get() && !queue.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+
+        private void close() {
+            closed.set(true);
+            queue.clear();
+            emitter.complete();
+        }
+    }
+}
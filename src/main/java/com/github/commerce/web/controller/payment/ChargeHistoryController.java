@@ -29,7 +29,7 @@ public class ChargeHistoryController {
             @AuthenticationPrincipal UserDetailsImpl userDetails,
             @RequestBody @Valid ChargeDto.ChargeRequest request) {
 
-        Long userId = userDetails.getUser().getId();
+        Long userId = userDetails.getId();
         return ResponseEntity.ok(chargeHistoryService.chargePayMoney(userId,request));
     }
 }
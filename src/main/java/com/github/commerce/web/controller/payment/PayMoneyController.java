@@ -2,7 +2,9 @@ package com.github.commerce.web.controller.payment;
 
 import com.github.commerce.repository.user.UserDetailsImpl;
 import com.github.commerce.service.payment.PayMoneyService;
+import com.github.commerce.service.payment.WalletSummaryService;
 import com.github.commerce.web.dto.payment.GetPayMoneyDto;
+import com.github.commerce.web.dto.payment.WalletSummaryDto;
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
 import lombok.RequiredArgsConstructor;
@@ -10,9 +12,9 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.List;
 
 @Api(tags = "페이머니 조회 API")
 @RequiredArgsConstructor
@@ -21,16 +23,24 @@ import java.util.List;
 public class PayMoneyController {
 
     final private PayMoneyService payMoneyService;
+    final private WalletSummaryService walletSummaryService;
 
-    @ApiOperation(value = "페이머니조회")
+    @ApiOperation(value = "페이머니 내역 최신순 조회 (20개씩), 다음 페이지는 응답의 nextCursorId 를 cursorId 로 보냅니다")
     @GetMapping("/list")
-    public ResponseEntity<List<GetPayMoneyDto.GetPayMoneyResponse>> getPayMoneys(
-            @AuthenticationPrincipal UserDetailsImpl userDetails){
-        Long userId = userDetails.getUser().getId();
-        List<GetPayMoneyDto.GetPayMoneyResponse> payMoneyList =
-                payMoneyService.getPayMoneyList(userId);
+    public ResponseEntity<GetPayMoneyDto.GetPayMoneyListResponse> getPayMoneys(
+            @AuthenticationPrincipal UserDetailsImpl userDetails,
+            @RequestParam(required = false) Long cursorId){
+        Long userId = userDetails.getId();
+        GetPayMoneyDto.GetPayMoneyListResponse payMoneyList =
+                payMoneyService.getPayMoneyList(userId, cursorId);
         return ResponseEntity.ok(payMoneyList);
     }
 
-
-}
\ No newline at end of file
+    @ApiOperation(value = "지갑 요약 조회 (잔여 페이머니, 보유 포인트, 누적 충전/사용 금액)")
+    @GetMapping("/summary")
+    public ResponseEntity<WalletSummaryDto> getWalletSummary(
+            @AuthenticationPrincipal UserDetailsImpl userDetails){
+        Long userId = userDetails.getId();
+        return ResponseEntity.ok(walletSummaryService.getWalletSummary(userId));
+    }
+}
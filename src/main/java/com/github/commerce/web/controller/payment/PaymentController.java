@@ -29,7 +29,7 @@ public class PaymentController {
             @AuthenticationPrincipal UserDetailsImpl userDetails,
             @RequestBody PurchaseDto.PurchaseRequest request){
 
-        Long userId = userDetails.getUser().getId();
+        Long userId = userDetails.getId();
 
         return ResponseEntity.ok(PurchaseDto.PurchaseResponse.from(paymentService.purchaseOrder(userId,request)));
 
@@ -3,7 +3,7 @@ package com.github.commerce.web.controller.payment;
 import com.github.commerce.repository.user.UserDetailsImpl;
 import com.github.commerce.service.payment.PointHistoryService;
 import com.github.commerce.web.advice.custom.ResponseDto;
-import com.github.commerce.web.dto.payment.PointHistoryDto;
+import com.github.commerce.web.dto.payment.PointHistoryFeedDto;
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
 import lombok.RequiredArgsConstructor;
@@ -12,9 +12,9 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.List;
 
 @Api(tags = "포인트 내역 API")
 @RestController
@@ -25,12 +25,13 @@ public class PointHistoryController {
     private final PointHistoryService pointHistoryService;
 
     @GetMapping("/history")
-    @ApiOperation("포인트 내역 조회")
-    public ResponseEntity<ResponseDto<List<PointHistoryDto>>> getPointHistoryList(
-            @AuthenticationPrincipal UserDetailsImpl userDetails
+    @ApiOperation("포인트 내역 최신순 조회 (20개씩), 다음 페이지는 응답의 nextCursorId 를 cursorId 로 보냅니다")
+    public ResponseEntity<ResponseDto<PointHistoryFeedDto>> getPointHistoryList(
+            @AuthenticationPrincipal UserDetailsImpl userDetails,
+            @RequestParam(required = false) Long cursorId
     ) {
-        Long userId = userDetails.getUser().getId();
-        List<PointHistoryDto> pointHistoryDtoList = pointHistoryService.getPointHistoryList(userId);
-        return ResponseEntity.ok(ResponseDto.success(pointHistoryDtoList));
+        Long userId = userDetails.getId();
+        PointHistoryFeedDto pointHistoryFeedDto = pointHistoryService.getPointHistoryList(userId, cursorId);
+        return ResponseEntity.ok(ResponseDto.success(pointHistoryFeedDto));
     }
 }
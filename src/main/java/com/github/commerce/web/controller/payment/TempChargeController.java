@@ -26,7 +26,7 @@ public class TempChargeController {
     public ResponseEntity<?> tempCharge(
             @AuthenticationPrincipal UserDetailsImpl userDetails
     ) {
-        Long userId = userDetails.getUser().getId();
+        Long userId = userDetails.getId();
         return ResponseEntity.ok(tempChargeService.tempCharge(userId));
     }
 
@@ -10,19 +10,21 @@ import com.github.commerce.web.advice.custom.ResponseDto;
 import com.github.commerce.web.dto.product.GetProductDto;
 import com.github.commerce.web.dto.product.ProductDto;
 import com.github.commerce.web.dto.product.ProductRequest;
-import com.github.commerce.web.dto.review.ReviewDto;
+import com.github.commerce.web.dto.review.ReviewFeedDto;
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
 import io.swagger.annotations.ApiResponse;
 import io.swagger.annotations.ApiResponses;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -81,8 +83,8 @@ public class ProductController {
             @AuthenticationPrincipal UserDetailsImpl userDetails,
             @PathVariable Long productId
     ){
-        Long userId = userDetails != null ? userDetails.getUser().getId() : null;
-        String userName = userDetails != null ? userDetails.getUser().getUserName() : null;
+        Long userId = userDetails != null ? userDetails.getId() : null;
+        String userName = userDetails != null ? userDetails.getUserName() : null;
         return ResponseEntity.ok(productService.getOneProduct(productId, userId, userName));
     }
 
@@ -93,7 +95,7 @@ public class ProductController {
             @AuthenticationPrincipal UserDetailsImpl userDetails,
             @RequestParam(name = "productRequest") String productRequest,//JSON.stringify()
             @RequestParam(required = false) List<MultipartFile> imageFiles) {
-        Long profileId = (userDetails != null) ? userDetails.getUser().getId() : null;
+        Long profileId = (userDetails != null) ? userDetails.getId() : null;
         return ResponseEntity.ok(productService.createProductItem(productRequest, imageFiles, profileId));
     }
 
@@ -105,7 +107,7 @@ public class ProductController {
                                            @RequestParam(name = "productRequest") String productRequest,
                                            @RequestParam(required = false) MultipartFile thumbnailFile,
                                            @RequestParam(required = false) List<MultipartFile> imageFiles) {
-        Long profileId = (userDetails != null) ? userDetails.getUser().getId() : null;
+        Long profileId = (userDetails != null) ? userDetails.getId() : null;
         ProductDto updatedProduct = productService.updateProductById(productId,profileId,productRequest,thumbnailFile ,imageFiles);
         return ResponseDto.success(updatedProduct);
     }
@@ -119,7 +121,7 @@ public class ProductController {
             @AuthenticationPrincipal UserDetailsImpl userDetails,
             @PathVariable("productId") Long productId){
         // 유저 존재 확인
-        Long profileId = (userDetails != null) ? userDetails.getUser().getId() : null;
+        Long profileId = (userDetails != null) ? userDetails.getId() : null;
         productService.deleteProductByProductId(productId,profileId);
         return ResponseDto.success(productId + "번 상품이 삭제 되었습니다.");
     }
@@ -132,17 +134,20 @@ public class ProductController {
      * @param cursorId
      * @return
      */
-    @ApiOperation(value = "개별상품 리뷰 전체조회, 로그인 필요없음, cursorId는 없어도 됩니다")
+    @ApiOperation(value = "개별상품 리뷰 최신순 조회 (20개씩), 로그인 필요없음, 첫 페이지는 cursor 없이, 다음 페이지는 응답의 nextCursorCreatedAt/nextCursorId 를 보냅니다. starPoint(1~5), photoOnly 로 필터")
     @ApiResponses(value = {
-            @ApiResponse(code = 200, message = "Success", response = ReviewDto.class),
+            @ApiResponse(code = 200, message = "Success", response = ReviewFeedDto.class),
             @ApiResponse(code = 400, message = "Bad Request")
     })
     @GetMapping("/review/{productId}")
-    public ResponseEntity<List<ReviewDto>> get(
+    public ResponseEntity<ReviewFeedDto> get(
             @PathVariable Long productId,
-            @RequestParam(defaultValue = "0") Long cursorId
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorCreatedAt,
+            @RequestParam(required = false) Long cursorId,
+            @RequestParam(required = false) Short starPoint,
+            @RequestParam(defaultValue = "false") boolean photoOnly
     ){
-        return ResponseEntity.ok(reviewService.getReviews(productId, cursorId));
+        return ResponseEntity.ok(reviewService.getReviews(productId, cursorCreatedAt, cursorId, starPoint, photoOnly));
     }
 
 }
@@ -42,7 +42,7 @@ public class WishListController {
     @ApiOperation(value = "찜 등록", notes = "찜 목록에 상품을 추가 합니다.")
     public ResponseDto<String> addWishlist(@PathVariable(value = "productId",required = false) Long productId,
                                                  @AuthenticationPrincipal UserDetailsImpl userDetails) {
-        Long profileId = userDetails.getUser().getId();
+        Long profileId = userDetails.getId();
         User validateProfileId = validateProductMethod.validateUser(profileId);
         if(sellerRepository.existsByUsersId(validateProfileId.getId())){throw new UserException(UserErrorCode.NOT_USER);}
         Product validateProduct = validateProductMethod.validateProduct(productId);
@@ -62,7 +62,7 @@ public class WishListController {
     @ApiOperation(value = "찜 삭제", notes = "찜 목록에서 상품을 삭제합니다.")
     public ResponseDto<String> removeWishlist(@PathVariable(value = "productId" , required = false) Long productId,
                                                  @AuthenticationPrincipal UserDetailsImpl userDetails) {
-        Long profileId = userDetails.getUser().getId();
+        Long profileId = userDetails.getId();
         User validateProfileId = validateProductMethod.validateUser(profileId);
         if(sellerRepository.existsByUsersId(validateProfileId.getId())){throw new UserException(UserErrorCode.NOT_USER);}
         Product validateProduct = validateProductMethod.validateProduct(productId);
@@ -82,7 +82,7 @@ public class WishListController {
     @ApiOperation(value = "찜 목록 조회",notes = "찜 목록을 조회합니다.")
     public ResponseDto<List<Map<String, Object>>> getWishlist(
             @AuthenticationPrincipal UserDetailsImpl userDetails){
-        Long profileId = userDetails.getUser().getId();
+        Long profileId = userDetails.getId();
         User validateProfileId = validateProductMethod.validateUser(profileId);
         if(sellerRepository.existsByUsersId(validateProfileId.getId())){throw new UserException(UserErrorCode.NOT_USER);}
         List<Map<String, Object>> getProducts = wishlistService.getWishlist(validateProfileId);
@@ -39,7 +39,7 @@ public class ReviewController {
             @RequestParam(name = "request") String request,//JSON.stringify()
             @RequestParam(required = false) MultipartFile multipartFile
     ){
-        Long userId = userDetails.getUser().getId();
+        Long userId = userDetails.getId();
         return ResponseEntity.ok(
                 reviewService.createReview(request, userId, multipartFile)
 
@@ -64,7 +64,7 @@ public class ReviewController {
             @AuthenticationPrincipal UserDetailsImpl userDetails,
             @PathVariable Long reviewId
     ){
-        Long userId = userDetails.getUser().getId();
+        Long userId = userDetails.getId();
         return ResponseEntity.ok(
                 reviewService.deleteReview(reviewId, userId)
         );
@@ -27,7 +27,7 @@ public class ShopController {
     @ApiOperation(value = "판매자의 판매중인 내역 조회, 로그인 필요")
     @GetMapping("/selling-product")
     public ResponseEntity<List<SellingProductDto>> getSellingProducts(@AuthenticationPrincipal UserDetailsImpl userDetails){
-        Long userId = userDetails.getUser().getId();
+        Long userId = userDetails.getId();
         return ResponseEntity.ok(shopService.getSellingProducts(userId));
     }
 
@@ -1,13 +1,9 @@
 package com.github.commerce.web.controller.user;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.github.commerce.config.security.JwtUtil;
-import com.github.commerce.entity.User;
 import com.github.commerce.repository.user.UserDetailsImpl;
 import com.github.commerce.service.user.OAuthService;
 import com.github.commerce.service.user.UserService;
-import com.github.commerce.service.user.exception.UserErrorCode;
-import com.github.commerce.service.user.exception.UserException;
 import com.github.commerce.web.dto.user.*;
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
@@ -21,6 +17,7 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import javax.servlet.http.HttpServletResponse;
+import java.util.concurrent.CompletableFuture;
 
 @Api(tags = "회원관련 API")
 @Slf4j
@@ -58,10 +55,7 @@ public class UserController {
     @GetMapping(value = "/getInfo")
     @PreAuthorize("isAuthenticated()")//메소드 실행 전 로그인되어야함
     public ResponseEntity<MyInfoResponseDto> getMyInfo(@AuthenticationPrincipal UserDetailsImpl userDetails) {
-        User user = userDetails.getUser();
-        if (user.getIsDelete() == true)
-            throw new UserException(UserErrorCode.UER_NOT_FOUND);
-        return ResponseEntity.ok(userService.getMyInfo(user.getId(), user.getRole().name()));
+        return ResponseEntity.ok(userService.getMyInfo(userDetails.getId(), userDetails.getRole().name()));
 
     }
 
@@ -92,35 +86,38 @@ public class UserController {
     @ApiOperation("판매자 회원 수정 정보 가져오기")
     @GetMapping(value = "/getSellerInfo")
     public ResponseEntity<SellerInfo> getSellerInfo(@AuthenticationPrincipal UserDetailsImpl userDetails) {
-        return ResponseEntity.ok(userService.getSellerInfo(userDetails.getUser().getId()));
+        return ResponseEntity.ok(userService.getSellerInfo(userDetails.getId()));
     }
 
     @ApiOperation("판매자 회원 정보 수정")
     @PatchMapping(value = "/updateSeller")
-    public ResponseEntity<String> updateSeller(@RequestPart SellerInfo sellerInfo, @RequestPart(required = false) MultipartFile shopImgFile,@AuthenticationPrincipal UserDetailsImpl userDetails) {
-        return ResponseEntity.ok(userService.updateSeller(sellerInfo, shopImgFile,userDetails.getUser().getId()));
+    public ResponseEntity<String> updateSeller(@RequestPart SellerInfo sellerInfo, @RequestPart(required = false) MultipartFile shopImgFile,@AuthenticationPrincipal UserDetailsImpl userDetails, HttpServletResponse httpServletResponse) {
+        String result = userService.updateSeller(sellerInfo, shopImgFile,userDetails.getId());
+        httpServletResponse.setHeader(JwtUtil.ACCESS_TOKEN, userService.reissueAccessToken(userDetails.getId()));
+        return ResponseEntity.ok(result);
     }
 
     @ApiOperation("구매자 회원 수정 정보 가져오기")
     @GetMapping(value = "/getUserInfo")
     public ResponseEntity<UserInfo> getUserInfo(@AuthenticationPrincipal UserDetailsImpl userDetails) {
-        return ResponseEntity.ok(userService.getUserInfo(userDetails.getUser().getId()));
+        return ResponseEntity.ok(userService.getUserInfo(userDetails.getId()));
     }
 
     @ApiOperation("구매자 회원 정보 수정")
     @PatchMapping(value = "/update")
-    public ResponseEntity<String> updateUserInfo(@RequestBody UserInfo userInfo,@AuthenticationPrincipal UserDetailsImpl userDetails) {
-        return ResponseEntity.ok(userService.updateUserInfo(userInfo,userDetails.getUser().getId()));
+    public ResponseEntity<String> updateUserInfo(@RequestBody UserInfo userInfo,@AuthenticationPrincipal UserDetailsImpl userDetails, HttpServletResponse httpServletResponse) {
+        String result = userService.updateUserInfo(userInfo,userDetails.getId());
+        httpServletResponse.setHeader(JwtUtil.ACCESS_TOKEN, userService.reissueAccessToken(userDetails.getId()));
+        return ResponseEntity.ok(result);
     }
 
     @GetMapping("/kakao/callback")
-    public ResponseEntity<TokenDto> kakaoLogin(@RequestParam String code, HttpServletResponse httpServletResponse) throws JsonProcessingException {
-        TokenDto tokenDto = oAuthService.kakaoLogin(code);
-
-        httpServletResponse.setHeader(JwtUtil.ACCESS_TOKEN, tokenDto.getAccessToken());
-        httpServletResponse.setHeader(JwtUtil.REFRESH_TOKEN, tokenDto.getRefreshToken());
-
-        return ResponseEntity.ok(tokenDto);
+    public CompletableFuture<ResponseEntity<TokenDto>> kakaoLogin(@RequestParam String code) {
+        return oAuthService.kakaoLogin(code)
+                .thenApply(tokenDto -> ResponseEntity.ok()
+                        .header(JwtUtil.ACCESS_TOKEN, tokenDto.getAccessToken())
+                        .header(JwtUtil.REFRESH_TOKEN, tokenDto.getRefreshToken())
+                        .body(tokenDto));
     }
 
 }
\ No newline at end of file
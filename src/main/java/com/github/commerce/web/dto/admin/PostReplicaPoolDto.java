@@ -0,0 +1,20 @@
+package com.github.commerce.web.dto.admin;
+
+import lombok.*;
+
+@Getter
+@Setter
+public class PostReplicaPoolDto {
+    @Setter
+    @Getter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    public static class PostReplicaPoolRequest {
+        // 라우팅 key 로 쓰이는 풀 이름
+        private String name;
+        private String jdbcUrl;
+        // 없으면 기존 replica 설정을 따름
+        private Integer maximumPoolSize;
+    }
+}
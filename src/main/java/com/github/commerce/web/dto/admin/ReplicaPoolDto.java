@@ -0,0 +1,56 @@
+package com.github.commerce.web.dto.admin;
+
+import com.github.commerce.config.HikariPoolMetrics;
+import com.github.commerce.config.ReadReplica;
+import lombok.*;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ReplicaPoolDto {
+    private String name;
+    private Boolean isReplica;
+    private Boolean healthy;
+    private Long lagSeconds;
+    private Double latencyMillis;
+
+    private Integer activeConnections;
+    private Integer idleConnections;
+    private Integer pendingThreads;
+    private Integer totalConnections;
+    private Integer maxConnections;
+    private Long acquireCount;
+    private Double averageAcquireMillis;
+    private Double maxAcquireMillis;
+    private Long timeoutCount;
+
+    // metric 이 null 이면 아직 시작되지 않은 풀
+    public static ReplicaPoolDto fromMetric(String name, HikariPoolMetrics.PoolMetric metric) {
+        ReplicaPoolDtoBuilder builder = ReplicaPoolDto.builder()
+                .name(name)
+                .isReplica(false);
+        if (metric != null) {
+            builder.activeConnections(metric.getActiveConnections())
+                    .idleConnections(metric.getIdleConnections())
+                    .pendingThreads(metric.getPendingThreads())
+                    .totalConnections(metric.getTotalConnections())
+                    .maxConnections(metric.getMaxConnections())
+                    .acquireCount(metric.getAcquireCount())
+                    .averageAcquireMillis(metric.getAverageAcquireMillis())
+                    .maxAcquireMillis(metric.getMaxAcquireMillis())
+                    .timeoutCount(metric.getTimeoutCount());
+        }
+        return builder.build();
+    }
+
+    public static ReplicaPoolDto fromReplica(ReadReplica replica, HikariPoolMetrics.PoolMetric metric) {
+        ReplicaPoolDto dto = fromMetric(replica.getKey(), metric);
+        dto.setIsReplica(true);
+        dto.setHealthy(replica.isHealthy());
+        dto.setLagSeconds(replica.getLagSeconds());
+        dto.setLatencyMillis(replica.getLatencyNanos() / 1_000_000);
+        return dto;
+    }
+}
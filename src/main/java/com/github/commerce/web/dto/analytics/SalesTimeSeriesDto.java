@@ -0,0 +1,18 @@
+package com.github.commerce.web.dto.analytics;
+
+import lombok.*;
+
+import java.time.LocalDate;
+
+// 일자별 판매 합계 (판매자 전체 또는 상품 하나)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SalesTimeSeriesDto {
+    private LocalDate date;
+    private Long units;
+    private Long revenue;
+    private Long orderCount;
+}
@@ -0,0 +1,17 @@
+package com.github.commerce.web.dto.analytics;
+
+import lombok.*;
+
+// 기간 내 매출 상위 상품
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TopProductDto {
+    private Long productId;
+    private String productName;
+    private Long units;
+    private Long revenue;
+    private Long orderCount;
+}
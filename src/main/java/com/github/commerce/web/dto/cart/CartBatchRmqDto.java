@@ -0,0 +1,23 @@
+package com.github.commerce.web.dto.cart;
+
+import lombok.*;
+
+import java.util.List;
+
+// 한 사용자의 여러 장바구니 추가/수정을 메시지 하나로 발행 (postCartBatch, putCartBatch)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CartBatchRmqDto {
+    private Long userId;
+    private List<CartRmqDto> carts;
+
+    public static CartBatchRmqDto of(Long userId, List<CartRmqDto> carts){
+        return CartBatchRmqDto.builder()
+                .userId(userId)
+                .carts(carts)
+                .build();
+    }
+}
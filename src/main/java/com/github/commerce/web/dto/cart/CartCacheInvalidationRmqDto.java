@@ -0,0 +1,45 @@
+package com.github.commerce.web.dto.cart;
+
+import lombok.*;
+
+// 장바구니 캐시 무효화를 다른 서버에 전파 (cartCacheInvalidation fanout exchange), origin 은 발행한 서버의 큐 이름
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CartCacheInvalidationRmqDto {
+    private Type type;
+    private Long userId;
+    private Long cartId;
+    private Long productId;
+    private String origin;
+
+    public static CartCacheInvalidationRmqDto user(Long userId){
+        return CartCacheInvalidationRmqDto.builder()
+                .type(Type.USER)
+                .userId(userId)
+                .build();
+    }
+
+    public static CartCacheInvalidationRmqDto cartLine(Long userId, Long cartId){
+        return CartCacheInvalidationRmqDto.builder()
+                .type(Type.CART_LINE)
+                .userId(userId)
+                .cartId(cartId)
+                .build();
+    }
+
+    public static CartCacheInvalidationRmqDto product(Long productId){
+        return CartCacheInvalidationRmqDto.builder()
+                .type(Type.PRODUCT)
+                .productId(productId)
+                .build();
+    }
+
+    public enum Type {
+        USER, //사용자 장바구니 전체
+        CART_LINE, //장바구니 한 줄
+        PRODUCT //상품을 담은 사용자 장바구니
+    }
+}
@@ -33,6 +33,27 @@ public class CartDto {
     private LocalDateTime createdAt;
     //private Map<String, String> options;
 
+    // 장바구니 목록 조회용 constructor projection (CartRepository)
+    public CartDto(Long userId, Long cartId, Long productId, String shopName, String productName, String productOptionList,
+                   Integer price, String imageUrl, Integer stock, Integer quantity, Boolean isOrdered, Integer cartState,
+                   String option, LocalDateTime createdAt) {
+        this.userId = userId;
+        this.cartId = cartId;
+        this.productId = productId;
+        this.shopName = shopName;
+        this.productName = productName;
+        this.productOptionList = productOptionList;
+        this.price = price;
+        this.imageUrl = imageUrl;
+        this.stock = stock;
+        this.quantity = quantity;
+        this.isOrdered = isOrdered;
+        this.cartState = CartStateEnum.getByCode(cartState);
+        this.totalPrice = price * quantity;
+        this.option = option;
+        this.createdAt = createdAt;
+    }
+
     public static CartDto fromEntity(Cart cart){
         Product product = cart.getProducts();
         Seller seller = product.getSeller();
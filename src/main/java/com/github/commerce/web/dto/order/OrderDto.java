@@ -30,6 +30,24 @@ public class OrderDto {
     @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
     private LocalDateTime createdAt;
 
+    // 주문 목록 조회용 constructor projection (OrderRepository)
+    public OrderDto(Long orderId, Long productId, String productName, String shopName, Integer stock, String imageUrl, Integer price,
+                    Integer quantity, Long totalPrice, Integer orderState, String orderTag, String options, LocalDateTime createdAt) {
+        this.orderId = orderId;
+        this.productId = productId;
+        this.productName = productName;
+        this.shopName = shopName;
+        this.stock = stock;
+        this.imageUrl = imageUrl;
+        this.price = price;
+        this.quantity = quantity;
+        this.totalPrice = totalPrice;
+        this.orderState = OrderStateEnum.getByCode(orderState);
+        this.orderTag = orderTag;
+        this.options = options;
+        this.createdAt = createdAt;
+    }
+
     public static OrderDto fromEntity(Order order){
         Product product = order.getProducts();
         return OrderDto.builder()
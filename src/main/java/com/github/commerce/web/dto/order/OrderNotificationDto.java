@@ -0,0 +1,46 @@
+package com.github.commerce.web.dto.order;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.github.commerce.entity.Order;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+//결제완료 시 판매자에게 SSE로 전달되는 주문 알림 (트랜잭션 커밋 후 이벤트로 발행)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderNotificationDto {
+    @JsonIgnore
+    private Long sellerUserId;
+    @JsonIgnore
+    private Long sellerId;
+    private Long orderId;
+    private Long productId;
+    private String productName;
+    private Integer quantity;
+    private Long totalPrice;
+    private String orderState;
+    private String options;
+
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime createdAt;
+
+    public static OrderNotificationDto fromEntity(Order order){
+        return OrderNotificationDto.builder()
+                .sellerUserId(order.getSellers().getUsers().getId())
+                .sellerId(order.getSellers().getId())
+                .orderId(order.getId())
+                .productId(order.getProducts().getId())
+                .productName(order.getProducts().getName())
+                .quantity(order.getQuantity())
+                .totalPrice(order.getTotalPrice())
+                .orderState(OrderStateEnum.getByCode(order.getOrderState()))
+                .options(order.getOptions())
+                .createdAt(order.getCreatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,26 @@
+package com.github.commerce.web.dto.order;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class SellerOrderFeedDto {
+
+    /**
+     * 판매내역 피드 조회 조건 (검증이 끝난 값)
+     * cursorCreatedAt/cursorId 는 이전 응답의 nextCursorCreatedAt/nextCursorId, 첫 페이지면 null
+     */
+    @Getter
+    @AllArgsConstructor
+    @Builder
+    public static class Request {
+        private Long sellerId;
+        private List<Integer> orderStates;
+        private LocalDateTime from;
+        private LocalDateTime to;
+        private LocalDateTime cursorCreatedAt;
+        private Long cursorId;
+        private int size;
+    }
+}
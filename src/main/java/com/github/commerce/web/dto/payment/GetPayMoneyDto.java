@@ -7,6 +7,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 public class GetPayMoneyDto {
 
@@ -42,4 +43,21 @@ public class GetPayMoneyDto {
         }
 
     }
+
+    // 페이머니 내역 한 페이지 (최신순), 다음 페이지는 nextCursorId 를 cursorId 로 보내서 조회
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class GetPayMoneyListResponse{
+
+        @ApiModelProperty(value = "페이머니 내역")
+        private List<GetPayMoneyResponse> payMoneys;
+
+        @ApiModelProperty(value = "다음 페이지 존재 여부")
+        private boolean hasNext;
+
+        @ApiModelProperty(value = "다음 페이지 cursor (hasNext 가 false 면 null)")
+        private Long nextCursorId;
+    }
 }
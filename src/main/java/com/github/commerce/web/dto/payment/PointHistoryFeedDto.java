@@ -0,0 +1,26 @@
+package com.github.commerce.web.dto.payment;
+
+import io.swagger.annotations.ApiModelProperty;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 포인트 내역 한 페이지 (최신순)
+ * 다음 페이지는 nextCursorId 를 cursorId 로 보내서 조회, hasNext 가 false 면 null
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class PointHistoryFeedDto {
+
+    @ApiModelProperty(value = "포인트 내역")
+    private List<PointHistoryDto> pointHistories;
+
+    @ApiModelProperty(value = "다음 페이지 존재 여부")
+    private boolean hasNext;
+
+    @ApiModelProperty(value = "다음 페이지 cursor")
+    private Long nextCursorId;
+}
@@ -14,6 +14,10 @@ public enum PointStatusEnum {
         this.label = label;
     }
 
+    public int getValue(){
+        return value;
+    }
+
     public static String getByCode(int code){
         switch(code){
 
@@ -0,0 +1,40 @@
+package com.github.commerce.web.dto.payment;
+
+import com.github.commerce.entity.WalletSummary;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WalletSummaryDto {
+
+    @ApiModelProperty(value = "잔여 페이머니")
+    private Long payMoneyBalance;
+
+    @ApiModelProperty(value = "보유 포인트")
+    private Long pointBalance;
+
+    @ApiModelProperty(value = "누적 충전 금액")
+    private Long chargePayMoneyTotal;
+
+    @ApiModelProperty(value = "누적 사용 금액")
+    private Long usedPayMoneyTotal;
+
+    @ApiModelProperty(value = "마지막 변경 시간")
+    private LocalDateTime updatedAt;
+
+    public static WalletSummaryDto fromEntity(WalletSummary walletSummary){
+        return WalletSummaryDto.builder()
+                .payMoneyBalance(walletSummary.getPayMoneyBalance())
+                .pointBalance(walletSummary.getPointBalance())
+                .chargePayMoneyTotal(walletSummary.getChargePayMoneyTotal())
+                .usedPayMoneyTotal(walletSummary.getUsedPayMoneyTotal())
+                .updatedAt(walletSummary.getUpdatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,21 @@
+package com.github.commerce.web.dto.review;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 상품 리뷰 피드 한 페이지 (최신순)
+ * 다음 페이지는 nextCursorCreatedAt/nextCursorId 를 cursorCreatedAt/cursorId 로 보내서 조회, hasNext 가 false 면 null
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ReviewFeedDto {
+    private List<ReviewDto> reviews;
+    private boolean hasNext;
+    private LocalDateTime nextCursorCreatedAt;
+    private Long nextCursorId;
+}
@@ -0,0 +1,23 @@
+package com.github.commerce.web.dto.review;
+
+import lombok.*;
+
+// 리뷰 작성 포인트 적립 요청 (reviewPoint), 리뷰 하나당 한 번만 적립
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReviewPointRmqDto {
+    private Long reviewId;
+    private Long userId;
+    private Long point;
+
+    public static ReviewPointRmqDto of(Long reviewId, Long userId, Long point){
+        return ReviewPointRmqDto.builder()
+                .reviewId(reviewId)
+                .userId(userId)
+                .point(point)
+                .build();
+    }
+}
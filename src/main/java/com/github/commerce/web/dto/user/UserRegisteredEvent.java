@@ -0,0 +1,16 @@
+package com.github.commerce.web.dto.user;
+
+import com.github.commerce.entity.UserRoleEnum;
+import lombok.*;
+
+// 회원가입(일반/판매자/카카오) 트랜잭션에서 발행, 트랜잭션 이벤트 리스너에서 가입 후속 처리
+@Getter
+@AllArgsConstructor
+@Builder
+public class UserRegisteredEvent {
+    private Long userId;
+    private UserRoleEnum role;
+    private String email;
+    private String nickname; //판매자는 null
+    private String shopName; //일반 회원은 null
+}
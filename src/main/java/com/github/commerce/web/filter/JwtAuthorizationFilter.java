@@ -1,11 +1,15 @@
 package com.github.commerce.web.filter;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.commerce.config.security.AuthenticationCache;
 import com.github.commerce.config.security.JwtUtil;
-import com.github.commerce.entity.UserRoleEnum;
+import com.github.commerce.config.security.TokenVersionRegistry;
+import com.github.commerce.repository.user.UserDetailsImpl;
+import com.github.commerce.service.user.RefreshTokenService;
 import com.github.commerce.service.user.UserDetailsServiceImpl;
 import com.github.commerce.web.advice.exception.ErrorResponse;
 import com.github.commerce.web.advice.exception.type.ErrorCode;
+import com.github.commerce.web.dto.user.TokenDto;
 import io.jsonwebtoken.Claims;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -13,7 +17,6 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
@@ -27,10 +30,16 @@ import java.io.IOException;
 public class JwtAuthorizationFilter extends OncePerRequestFilter {
     private final JwtUtil jwtUtil;
     private final UserDetailsServiceImpl userDetailsService;
+    private final AuthenticationCache authenticationCache;
+    private final RefreshTokenService refreshTokenService;
+    private final TokenVersionRegistry tokenVersionRegistry;
 
-    public JwtAuthorizationFilter(JwtUtil jwtUtil, UserDetailsServiceImpl userDetailsService) {
+    public JwtAuthorizationFilter(JwtUtil jwtUtil, UserDetailsServiceImpl userDetailsService, AuthenticationCache authenticationCache, RefreshTokenService refreshTokenService, TokenVersionRegistry tokenVersionRegistry) {
         this.jwtUtil = jwtUtil;
         this.userDetailsService = userDetailsService;
+        this.authenticationCache = authenticationCache;
+        this.refreshTokenService = refreshTokenService;
+        this.tokenVersionRegistry = tokenVersionRegistry;
     }
 
     @Override
@@ -39,27 +48,34 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
         String refreshToken = jwtUtil.getHeaderToken(request, "Refresh");
 
             if (StringUtils.hasText(accessToken)) {
-                if (jwtUtil.tokenValidation(accessToken)) {//access토큰값 유효
-                    Claims info = jwtUtil.getUserInfoFromToken(accessToken);
-                    setAuthentication(info.getSubject());
+                Claims info = jwtUtil.parseClaims(accessToken);
+                if (info != null) {//access토큰값 유효
+                    UserDetailsImpl principal = resolvePrincipal(info);
+                    // 비밀번호 변경 등으로 폐기된 토큰 (리프레시 토큰도 같이 폐기되므로 다시 로그인)
+                    if (!tokenVersionRegistry.isCurrent(principal.getId(), jwtUtil.getTokenVersion(info))) {
+                        jwtExceptionHandler(response, "Token Revoked", HttpStatus.BAD_REQUEST);
+                        return;
+                    }
+                    setAuthentication(principal);
 
                 } else if (StringUtils.hasText(refreshToken)) {
                     /// 어세스 토큰이 만료된 상황 && 리프레시 토큰 또한 존재하는 상황
-                    // 리프레시 토큰 검증 && 리프레시 토큰 DB에서  토큰 존재유무 확인
-                    boolean isRefreshToken = jwtUtil.refreshTokenValidation(refreshToken);
-                    // 리프레시 토큰이 유효하고 리프레시 토큰이 DB와 비교했을때 똑같다면
-                    if (isRefreshToken) {
-                        // 리프레시 토큰으로 정보 가져오기
-                        Claims info = jwtUtil.getUserInfoFromToken(refreshToken);
-                        UserRoleEnum role = UserRoleEnum.valueOf((String) info.get(JwtUtil.AUTHORIZATION_KEY));
-
-                        String newAccessToken = jwtUtil.createToken(info.getSubject(), role, "Access");
-                        response.setHeader("ACCESS_TOKEN", newAccessToken);
+                    // 리프레시 토큰 검증 && 폐기/재사용 여부 확인 후 같은 family 의 새 토큰으로 회전
+                    Claims refreshInfo = jwtUtil.parseClaims(refreshToken);
+                    TokenDto newTokens = refreshInfo != null && isCurrent(refreshInfo)
+                            ? refreshTokenService.rotate(refreshInfo, refreshToken) : null;
+                    // 리프레시 토큰이 유효하고 아직 사용되지 않은 토큰이라면
+                    if (newTokens != null) {
+                        // 리프레시 토큰으로 정보 가져오기 (회전 가능한 토큰은 항상 user id claim 을 가짐)
+                        UserDetailsImpl principal = jwtUtil.getPrincipalFromClaims(refreshInfo);
+
+                        response.setHeader("ACCESS_TOKEN", newTokens.getAccessToken());
+                        response.setHeader("REFRESH_TOKEN", newTokens.getRefreshToken());
                         // Security context에 인증 정보 넣기
-                        setAuthentication(jwtUtil.getUserInfoFromToken(newAccessToken.substring(7)).getSubject());
+                        setAuthentication(principal);
 
 
-                    } else {// 리프레시 토큰이 만료 || 리프레시 토큰이 DB와 비교했을때 똑같지 않다면
+                    } else {// 리프레시 토큰이 만료 || 폐기되었거나 이미 사용된 토큰이라면
                         jwtExceptionHandler(response, "RefreshToken Expired", HttpStatus.BAD_REQUEST);
                         return;
 
@@ -73,18 +89,35 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
     }
 
     //인증 처리
-    private void setAuthentication(String email) {
+    private void setAuthentication(UserDetailsImpl principal) {
         SecurityContext context = SecurityContextHolder.createEmptyContext();
-        Authentication authentication = createAuthentication(email);
+        Authentication authentication = new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
         context.setAuthentication(authentication);
 
         SecurityContextHolder.setContext(context);
     }
 
-    private Authentication createAuthentication(String email) {
+    // 서명 검증된 claim 만으로 인증 정보 생성 (DB 조회 없음)
+    private UserDetailsImpl resolvePrincipal(Claims info) {
+        UserDetailsImpl principal = jwtUtil.getPrincipalFromClaims(info);
+        if (principal != null) {
+            return principal;
+        }
+
+        // user id claim 이 없는 이전 형식 토큰 - 캐시에 없을 때만 DB 조회
+        String email = info.getSubject();
+        principal = authenticationCache.get(email);
+        if (principal == null) {
+            principal = (UserDetailsImpl) userDetailsService.loadUserByUsername(email);
+            authenticationCache.put(email, principal, info.getExpiration());
+        }
+        return principal;
+    }
 
-        UserDetails userDetails = userDetailsService.loadUserByUsername(email);
-        return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+    // 리프레시 토큰의 ver claim 이 현재 버전인지 (user id claim 이 없는 이전 형식 토큰은 rotate 에서 거부됨)
+    private boolean isCurrent(Claims refreshInfo) {
+        Long userId = refreshInfo.get(JwtUtil.USER_ID_KEY, Long.class);
+        return userId == null || tokenVersionRegistry.isCurrent(userId, jwtUtil.getTokenVersion(refreshInfo));
     }
 
     // Jwt 예외처리
@@ -0,0 +1,74 @@
+package com.github.commerce.web.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.commerce.config.security.RateLimitProperties;
+import com.github.commerce.config.security.RateLimiter;
+import com.github.commerce.repository.user.UserDetailsImpl;
+import com.github.commerce.web.advice.exception.ErrorResponse;
+import com.github.commerce.web.advice.exception.type.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비싼 endpoint(검색, 쿠폰 발급, 상품 업로드, 로그인 등)의 요청 수 제한.
+ * JwtAuthorizationFilter 다음에 실행되어 로그인한 요청은 user id, 아니면 client IP 별로 bucket 을 씁니다.
+ * 한도를 넘으면 DB 까지 가지 않고 429 + Retry-After 로 바로 응답합니다.
+ */
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final RateLimiter rateLimiter;
+
+    public RateLimitFilter(RateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        RateLimitProperties.Policy policy = rateLimiter.match(request);
+        if (policy != null) {
+            long waitNanos = rateLimiter.tryAcquire(policy, clientKey(request));
+            if (waitNanos > 0) {
+                tooManyRequests(response, waitNanos);
+                return;
+            }
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    // proxy 뒤에서는 server.forward-headers-strategy 설정이 있어야 remoteAddr 가 실제 client IP
+    private String clientKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserDetailsImpl) {
+            return "user:" + ((UserDetailsImpl) authentication.getPrincipal()).getId();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private void tooManyRequests(HttpServletResponse response, long waitNanos) {
+        long retryAfterSeconds = Math.max(1L, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType("application/json");
+        response.setCharacterEncoding("UTF-8");
+        try {
+            String json = OBJECT_MAPPER.writeValueAsString(new ErrorResponse(ErrorCode.TOO_MANY_REQUESTS, ErrorCode.TOO_MANY_REQUESTS.getDescription()));
+            response.getWriter().write(json);
+        } catch (Exception e) {
+            log.error(e.getMessage());
+        }
+    }
+}
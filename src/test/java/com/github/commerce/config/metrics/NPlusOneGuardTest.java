@@ -0,0 +1,137 @@
+package com.github.commerce.config.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class NPlusOneGuardTest {
+    private static final int MAX_STATEMENTS_PER_TRANSACTION = 3;
+
+    private RecordingTransactionManager transactionManager;
+    private NPlusOneGuard guard;
+
+    @BeforeEach
+    void setUp() {
+        transactionManager = new RecordingTransactionManager();
+        guard = new NPlusOneGuard(new SimpleMeterRegistry(), true, "fail", 30, MAX_STATEMENTS_PER_TRANSACTION, 0);
+    }
+
+    @Test
+    void 트랜잭션_기준을_넘으면_커밋_전에_실패하고_롤백된다() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+
+        assertThrows(QueryCountExceededException.class, () -> template.executeWithoutResult(status -> {
+            for (int i = 0; i < MAX_STATEMENTS_PER_TRANSACTION + 1; i++) {
+                guard.onStatement("select * from products where id = ?", 1_000L);
+            }
+        }));
+
+        assertEquals(List.of("rollback"), transactionManager.completions);
+    }
+
+    @Test
+    void REQUIRES_NEW_트랜잭션은_바깥_트랜잭션과_따로_센다() {
+        TransactionTemplate outer = new TransactionTemplate(transactionManager);
+        TransactionTemplate inner = new TransactionTemplate(transactionManager);
+        inner.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        assertDoesNotThrow(() -> outer.executeWithoutResult(status -> {
+            for (int i = 0; i < MAX_STATEMENTS_PER_TRANSACTION; i++) {
+                guard.onStatement("select * from users where id = ?", 1_000L);
+            }
+            inner.executeWithoutResult(innerStatus -> {
+                for (int i = 0; i < MAX_STATEMENTS_PER_TRANSACTION; i++) {
+                    guard.onStatement("insert into point_histories values (?)", 1_000L);
+                }
+            });
+        }));
+
+        assertEquals(List.of("commit", "commit"), transactionManager.completions);
+    }
+
+    @Test
+    void 안쪽_트랜잭션이_끝나면_바깥_트랜잭션_통계로_돌아온다() {
+        TransactionTemplate outer = new TransactionTemplate(transactionManager);
+        TransactionTemplate inner = new TransactionTemplate(transactionManager);
+        inner.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        assertThrows(QueryCountExceededException.class, () -> outer.executeWithoutResult(status -> {
+            guard.onStatement("select * from users where id = ?", 1_000L);
+            inner.executeWithoutResult(innerStatus -> guard.onStatement("select 1", 1_000L));
+            for (int i = 0; i < MAX_STATEMENTS_PER_TRANSACTION; i++) {
+                guard.onStatement("select * from carts where users_id = ?", 1_000L);
+            }
+        }));
+
+        assertEquals(List.of("commit", "rollback"), transactionManager.completions);
+    }
+
+    @Test
+    void 요청_검사는_기준_이하면_통과한다() {
+        QueryStats stats = new QueryStats();
+        stats.record("select 1", 1_000L, null);
+
+        assertDoesNotThrow(() -> guard.checkRequest("GET /v1/api/product", stats));
+    }
+
+    // 실제 커넥션 없이 트랜잭션 경계와 동기화만 흉내내는 트랜잭션 매니저
+    private static class RecordingTransactionManager extends AbstractPlatformTransactionManager {
+        private final List<String> completions = new ArrayList<>();
+        private final ThreadLocal<Object> current = new ThreadLocal<>();
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object[]{current.get()};
+        }
+
+        @Override
+        protected boolean isExistingTransaction(Object transaction) {
+            return ((Object[]) transaction)[0] != null;
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+            Object marker = new Object();
+            ((Object[]) transaction)[0] = marker;
+            current.set(marker);
+        }
+
+        @Override
+        protected Object doSuspend(Object transaction) {
+            Object suspended = current.get();
+            current.remove();
+            return suspended;
+        }
+
+        @Override
+        protected void doResume(Object transaction, Object suspendedResources) {
+            current.set(suspendedResources);
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+            completions.add("commit");
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+            completions.add("rollback");
+        }
+
+        @Override
+        protected void doCleanupAfterCompletion(Object transaction) {
+            current.remove();
+        }
+    }
+}
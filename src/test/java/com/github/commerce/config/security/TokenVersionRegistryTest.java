@@ -0,0 +1,72 @@
+package com.github.commerce.config.security;
+
+import com.github.commerce.repository.user.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 토큰 버전을 올리면 이전 버전 토큰이 거부되는지 (이 서버 / 다른 서버에서 올린 경우), 탈퇴한 사용자의 토큰이 거부되는지
+ */
+class TokenVersionRegistryTest {
+    private static final Long USER_ID = 1L;
+    private static final Long DELETED_USER_ID = 3L;
+
+    private UserRepository userRepository;
+    private TokenVersionRegistry tokenVersionRegistry;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        when(userRepository.findTokenVersionsChangedSince(any())).thenReturn(Collections.emptyList());
+        when(userRepository.findDeletedIds()).thenReturn(Collections.singletonList(DELETED_USER_ID));
+        tokenVersionRegistry = new TokenVersionRegistry(userRepository);
+        tokenVersionRegistry.rebuild();
+    }
+
+    @Test
+    void 버전을_올린_적_없는_사용자는_ver_claim_이_없는_토큰도_허용한다() {
+        assertTrue(tokenVersionRegistry.isCurrent(USER_ID, 0));
+    }
+
+    @Test
+    void 이_서버에서_올린_버전보다_낮은_토큰은_거부한다() {
+        tokenVersionRegistry.raiseAfterCommit(USER_ID, 1);
+
+        assertFalse(tokenVersionRegistry.isCurrent(USER_ID, 0));
+        assertTrue(tokenVersionRegistry.isCurrent(USER_ID, 1));
+        assertTrue(tokenVersionRegistry.isCurrent(2L, 0));
+    }
+
+    @Test
+    void 다른_서버에서_올린_버전은_동기화_후_거부한다() {
+        List<Object[]> changed = Collections.singletonList(new Object[]{USER_ID, 2, false});
+        when(userRepository.findTokenVersionsChangedSince(any())).thenReturn(changed);
+
+        assertTrue(tokenVersionRegistry.isCurrent(USER_ID, 1));
+        tokenVersionRegistry.sync();
+
+        assertFalse(tokenVersionRegistry.isCurrent(USER_ID, 1));
+        assertTrue(tokenVersionRegistry.isCurrent(USER_ID, 2));
+    }
+
+    @Test
+    void 탈퇴한_사용자의_토큰은_버전과_관계없이_거부한다() {
+        assertFalse(tokenVersionRegistry.isCurrent(DELETED_USER_ID, 0));
+
+        // 다른 서버에서 탈퇴 처리 (토큰 버전도 같이 올림)
+        List<Object[]> changed = Collections.singletonList(new Object[]{USER_ID, 1, true});
+        when(userRepository.findTokenVersionsChangedSince(any())).thenReturn(changed);
+        tokenVersionRegistry.sync();
+
+        assertFalse(tokenVersionRegistry.isCurrent(USER_ID, 1));
+    }
+}
@@ -0,0 +1,126 @@
+package com.github.commerce.repository.scheduler;
+
+import com.github.commerce.entity.ScheduledJobLock;
+import com.github.commerce.entity.ScheduledJobRun;
+import com.github.commerce.entity.ScheduledJobRunStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * scheduled_job_locks 조건부 UPDATE (acquire / skip / release) 와 이어받을 때의 실행 이력 정리
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:scheduler;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class ScheduledJobLockRepositoryTest {
+    private static final String JOB = "testJob";
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 1, 1, 3, 0);
+    private static final LocalDateTime PREVIOUS_SLOT = NOW.minusDays(1);
+
+    @Configuration
+    @EntityScan(basePackageClasses = ScheduledJobLock.class)
+    @EnableJpaRepositories(basePackageClasses = ScheduledJobLockRepository.class)
+    static class Config {
+    }
+
+    @Autowired
+    private ScheduledJobLockRepository scheduledJobLockRepository;
+    @Autowired
+    private ScheduledJobRunRepository scheduledJobRunRepository;
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        scheduledJobLockRepository.save(ScheduledJobLock.builder()
+                .jobName(JOB)
+                .lastFireTime(PREVIOUS_SLOT)
+                .updatedAt(PREVIOUS_SLOT)
+                .build());
+        entityManager.flush();
+    }
+
+    @Test
+    void 같은_slot_은_한_서버만_가져간다() {
+        assertEquals(1, scheduledJobLockRepository.acquire(JOB, "a", NOW, NOW.plusMinutes(10), NOW));
+        assertEquals(0, scheduledJobLockRepository.acquire(JOB, "b", NOW, NOW.plusMinutes(10), NOW));
+        assertEquals("a", reload().getLockedBy());
+    }
+
+    @Test
+    void lease_가_끝나기_전에는_다음_slot_도_가져갈_수_없고_끝나면_가져간다() {
+        LocalDateTime nextSlot = NOW.plusMinutes(5);
+        scheduledJobLockRepository.acquire(JOB, "a", NOW, NOW.plusMinutes(10), NOW);
+
+        assertEquals(0, scheduledJobLockRepository.acquire(JOB, "b", nextSlot, nextSlot.plusMinutes(10), nextSlot));
+
+        LocalDateTime expired = NOW.plusMinutes(10);
+        assertEquals(1, scheduledJobLockRepository.acquire(JOB, "b", nextSlot, expired.plusMinutes(10), expired));
+        assertEquals("b", reload().getLockedBy());
+    }
+
+    @Test
+    void release_는_lease_를_가진_서버만_할_수_있다() {
+        scheduledJobLockRepository.acquire(JOB, "a", NOW, NOW.plusMinutes(10), NOW);
+
+        assertEquals(0, scheduledJobLockRepository.release(JOB, "b", NOW.plusMinutes(1)));
+        assertEquals(1, scheduledJobLockRepository.release(JOB, "a", NOW.plusMinutes(1)));
+    }
+
+    @Test
+    void 건너뛴_slot_은_다시_가져갈_수_없고_실행중이면_건너뛰지_않는다() {
+        assertEquals(1, scheduledJobLockRepository.skip(JOB, NOW, NOW));
+        assertEquals(0, scheduledJobLockRepository.acquire(JOB, "a", NOW, NOW.plusMinutes(10), NOW));
+
+        LocalDateTime nextSlot = NOW.plusMinutes(5);
+        scheduledJobLockRepository.acquire(JOB, "a", nextSlot, nextSlot.plusMinutes(10), nextSlot);
+        LocalDateTime laterSlot = NOW.plusMinutes(6);
+        assertEquals(0, scheduledJobLockRepository.skip(JOB, laterSlot, laterSlot));
+    }
+
+    @Test
+    void 이어받을_때_이전_slot_에서_RUNNING_으로_남은_실행만_FAILED_로_정리한다() {
+        ScheduledJobRun abandoned = saveRun(PREVIOUS_SLOT, ScheduledJobRunStatus.RUNNING);
+        ScheduledJobRun finished = saveRun(PREVIOUS_SLOT.minusDays(1), ScheduledJobRunStatus.SUCCEEDED);
+        ScheduledJobRun current = saveRun(NOW, ScheduledJobRunStatus.RUNNING);
+
+        int updated = scheduledJobRunRepository.failAbandoned(JOB, NOW,
+                ScheduledJobRunStatus.RUNNING, ScheduledJobRunStatus.FAILED, "abandoned", NOW);
+        entityManager.clear();
+
+        assertEquals(1, updated);
+        assertEquals(ScheduledJobRunStatus.FAILED, scheduledJobRunRepository.findById(abandoned.getId()).orElseThrow().getStatus());
+        assertEquals(ScheduledJobRunStatus.SUCCEEDED, scheduledJobRunRepository.findById(finished.getId()).orElseThrow().getStatus());
+        assertEquals(ScheduledJobRunStatus.RUNNING, scheduledJobRunRepository.findById(current.getId()).orElseThrow().getStatus());
+    }
+
+    private ScheduledJobLock reload() {
+        entityManager.clear();
+        return scheduledJobLockRepository.findById(JOB).orElseThrow();
+    }
+
+    private ScheduledJobRun saveRun(LocalDateTime fireTime, ScheduledJobRunStatus status) {
+        ScheduledJobRun run = scheduledJobRunRepository.save(ScheduledJobRun.builder()
+                .jobName(JOB)
+                .owner("a")
+                .fireTime(fireTime)
+                .status(status)
+                .startedAt(fireTime)
+                .build());
+        entityManager.flush();
+        return run;
+    }
+}
@@ -0,0 +1,190 @@
+package com.github.commerce.service.payment;
+
+import com.github.commerce.entity.PayMoney;
+import com.github.commerce.entity.User;
+import com.github.commerce.entity.WalletSummary;
+import com.github.commerce.repository.payment.PayMoneyRepository;
+import com.github.commerce.repository.payment.PaymentRepository;
+import com.github.commerce.repository.payment.PointHistoryRepository;
+import com.github.commerce.repository.payment.WalletSummaryRepository;
+import com.github.commerce.repository.user.UserRepository;
+import com.github.commerce.web.dto.payment.PurchaseDto;
+import com.github.commerce.web.dto.review.ReviewPointRmqDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 리뷰 포인트 적립의 중복 전달 처리와, 같은 사용자의 결제와 동시에 적립될 때 적립분이 사라지지 않는지
+ * (스레드끼리 커밋된 값을 봐야 하므로 테스트 트랜잭션 없이 실행)
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:wallet;MODE=MySQL;DATABASE_TO_LOWER=TRUE;LOCK_TIMEOUT=10000",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ReviewPointAccrualServiceTest {
+    private static final long INITIAL_PAY_MONEY = 10000L;
+    private static final long INITIAL_POINT = 100L;
+
+    @Configuration
+    @EntityScan(basePackageClasses = PayMoney.class)
+    @EnableJpaRepositories(basePackageClasses = {PayMoneyRepository.class, UserRepository.class})
+    static class Config {
+    }
+
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private PayMoneyRepository payMoneyRepository;
+    @Autowired
+    private PaymentRepository paymentRepository;
+    @Autowired
+    private PointHistoryRepository pointHistoryRepository;
+    @Autowired
+    private WalletSummaryRepository walletSummaryRepository;
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private PausingWalletSummaryService walletSummaryService;
+    private ReviewPointAccrualService reviewPointAccrualService;
+    private PaymentService paymentService;
+    private TransactionTemplate transactionTemplate;
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        walletSummaryService = new PausingWalletSummaryService(walletSummaryRepository, transactionManager);
+        reviewPointAccrualService = new ReviewPointAccrualService(payMoneyRepository, pointHistoryRepository,
+                jdbcTemplate, walletSummaryService, transactionManager);
+        // 쿠폰/주문 없이 페이머니 결제만
+        paymentService = new PaymentService(null, null, payMoneyRepository, paymentRepository, userRepository,
+                null, null, null, walletSummaryService);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+
+        User user = userRepository.save(User.builder()
+                .email("wallet@test.com")
+                .userName("wallet")
+                .isDelete(false)
+                .build());
+        userId = user.getId();
+        payMoneyRepository.save(PayMoney.builder()
+                .users(user)
+                .chargePayMoneyTotal(INITIAL_PAY_MONEY)
+                .payMoneyBalance(INITIAL_PAY_MONEY)
+                .pointBalance(INITIAL_POINT)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        pointHistoryRepository.deleteAllInBatch();
+        paymentRepository.deleteAllInBatch();
+        payMoneyRepository.deleteAllInBatch();
+        walletSummaryRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void 같은_리뷰가_다시_전달되면_한_번만_적립된다() {
+        ReviewPointRmqDto message = ReviewPointRmqDto.of(1L, userId, 50L);
+
+        reviewPointAccrualService.accrue(List.of(message, message));
+        reviewPointAccrualService.accrue(List.of(message));
+
+        assertEquals(1, pointHistoryRepository.count());
+        assertEquals(INITIAL_POINT + 50L, latestPayMoney().getPointBalance());
+        assertEquals(INITIAL_POINT + 50L, walletSummary().getPointBalance());
+    }
+
+    @Test
+    void 결제와_동시에_적립돼도_적립분이_새_지갑_행에_남는다() throws Exception {
+        PurchaseDto.PurchaseRequest request = PurchaseDto.PurchaseRequest.builder()
+                .totalPrice(1000L)
+                .isUsePoint(false)
+                .paymentMethod("1")
+                .build();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            // 결제가 최신 지갑 행을 잠근 채 멈춘 사이에 적립을 시작
+            Future<?> payment = executor.submit(() -> transactionTemplate.executeWithoutResult(
+                    status -> paymentService.purchaseOrder(userId, request)));
+            assertTrue(walletSummaryService.paymentLocked.await(5, TimeUnit.SECONDS));
+
+            Future<?> accrual = executor.submit(() -> reviewPointAccrualService.accrue(
+                    List.of(ReviewPointRmqDto.of(1L, userId, 50L))));
+            Thread.sleep(300);
+            assertFalse(accrual.isDone());
+
+            walletSummaryService.resumePayment.countDown();
+            payment.get(10, TimeUnit.SECONDS);
+            accrual.get(10, TimeUnit.SECONDS);
+        } finally {
+            walletSummaryService.resumePayment.countDown();
+            executor.shutdownNow();
+        }
+
+        PayMoney latest = latestPayMoney();
+        assertEquals(2, payMoneyRepository.count());
+        assertEquals(INITIAL_PAY_MONEY - 1000L, latest.getPayMoneyBalance());
+        assertEquals(INITIAL_POINT + 50L, latest.getPointBalance());
+        assertEquals(INITIAL_POINT + 50L, walletSummary().getPointBalance());
+        assertEquals(INITIAL_PAY_MONEY - 1000L, walletSummary().getPayMoneyBalance());
+    }
+
+    private PayMoney latestPayMoney() {
+        return transactionTemplate.execute(status -> payMoneyRepository.lockLatestByUsersId(userId).orElseThrow());
+    }
+
+    private WalletSummary walletSummary() {
+        return walletSummaryRepository.findById(userId).orElseThrow();
+    }
+
+    // 결제가 지갑 요약까지 반영한 뒤 (최신 지갑 행을 잠근 채) 멈춤
+    static class PausingWalletSummaryService extends WalletSummaryService {
+        private final CountDownLatch paymentLocked = new CountDownLatch(1);
+        private final CountDownLatch resumePayment = new CountDownLatch(1);
+
+        PausingWalletSummaryService(WalletSummaryRepository walletSummaryRepository,
+                                    PlatformTransactionManager transactionManager) {
+            super(walletSummaryRepository, transactionManager);
+        }
+
+        @Override
+        public long applyPayment(Long userId, long amount, boolean usePoint) {
+            long usedPoint = super.applyPayment(userId, amount, usePoint);
+            paymentLocked.countDown();
+            try {
+                resumePayment.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return usedPoint;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.github.commerce.service.user.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.commerce.config.http.CircuitBreaker;
+import com.github.commerce.config.http.OutboundHttpClient;
+import com.github.commerce.service.user.exception.UserErrorCode;
+import com.github.commerce.service.user.exception.UserException;
+import com.github.commerce.web.dto.user.KakaoUserInfoDto;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 카카오 대역 서버(JDK HttpServer)로 KakaoOAuthClient + OutboundHttpClient 의 timeout / 5xx / circuit open 동작 확인
+ */
+class KakaoOAuthClientTest {
+    private static final long REQUEST_TIMEOUT_MILLIS = 300;
+    private static final int FAILURE_THRESHOLD = 2;
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private OutboundHttpClient outboundHttpClient;
+    private KakaoOAuthClient kakaoOAuthClient;
+
+    private final AtomicInteger requests = new AtomicInteger();
+    private volatile int status = 200;
+    private volatile long delayMillis = 0;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        serverExecutor = Executors.newCachedThreadPool();
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(serverExecutor);
+        server.createContext("/oauth/token", exchange -> {
+            requests.incrementAndGet();
+            sleep(delayMillis);
+            byte[] body = (status == 200 ? "{\"access_token\":\"token\"}" : "{\"error\":\"server_error\"}")
+                    .getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status, body.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(body);
+            } catch (IOException e) {
+                // timeout 으로 client 가 먼저 끊은 경우
+            }
+        });
+        server.createContext("/v2/user/me", exchange -> {
+            requests.incrementAndGet();
+            byte[] body = "{\"id\":1,\"properties\":{\"nickname\":\"kakao1\"},\"kakao_account\":{\"email\":\"kakao1@test.com\"}}"
+                    .getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(body);
+            }
+        });
+        server.start();
+
+        String baseUri = "http://localhost:" + server.getAddress().getPort();
+        outboundHttpClient = new OutboundHttpClient(new SimpleMeterRegistry(), 2, 1000, REQUEST_TIMEOUT_MILLIS,
+                10, FAILURE_THRESHOLD, 60 * 1000L);
+        kakaoOAuthClient = new KakaoOAuthClient(outboundHttpClient, new ObjectMapper(), baseUri, baseUri,
+                "client-id", "http://localhost/callback");
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        serverExecutor.shutdownNow();
+        outboundHttpClient.destroy();
+    }
+
+    @Test
+    void 정상_응답이면_카카오_사용자_정보를_받는다() {
+        KakaoUserInfoDto userInfo = kakaoOAuthClient.getToken("code")
+                .thenCompose(kakaoOAuthClient::getUserInfo)
+                .join();
+
+        assertEquals("kakao1@test.com", userInfo.getEmail());
+    }
+
+    @Test
+    void 응답이_timeout_보다_늦으면_KAKAO_UNAVAILABLE() {
+        delayMillis = REQUEST_TIMEOUT_MILLIS * 3;
+
+        assertEquals(UserErrorCode.KAKAO_UNAVAILABLE, errorCode(kakaoOAuthClient.getToken("code")));
+    }
+
+    @Test
+    void 카카오가_5xx_를_주면_KAKAO_UNAVAILABLE() {
+        status = 503;
+
+        assertEquals(UserErrorCode.KAKAO_UNAVAILABLE, errorCode(kakaoOAuthClient.getToken("code")));
+    }
+
+    @Test
+    void 연속_실패로_circuit_이_열리면_호출하지_않고_KAKAO_UNAVAILABLE() {
+        status = 503;
+        for (int i = 0; i < FAILURE_THRESHOLD; i++) {
+            errorCode(kakaoOAuthClient.getToken("code"));
+        }
+        assertEquals(CircuitBreaker.State.OPEN, outboundHttpClient.getCircuitState("localhost"));
+        int sent = requests.get();
+
+        assertEquals(UserErrorCode.KAKAO_UNAVAILABLE, errorCode(kakaoOAuthClient.getToken("code")));
+        assertEquals(sent, requests.get());
+    }
+
+    private static UserErrorCode errorCode(CompletableFuture<?> future) {
+        CompletionException e = assertThrows(CompletionException.class, future::join);
+        return ((UserException) e.getCause()).getErrorCode();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}